@@ -0,0 +1,49 @@
+// 지도/쏠렉트 조회 API 부하 테스트 (k6)
+//
+// 플랫폼 스레드와 가상 스레드의 처리량을 비교할 때 같은 조건으로 두 번 실행한다.
+//   VIRTUAL_THREADS_ENABLED=false 로 서버 기동 후: k6 run -e BASE_URL=http://localhost:8080 map-sollect.js
+//   VIRTUAL_THREADS_ENABLED=true  로 서버 기동 후: 같은 명령 실행
+// 결과의 http_reqs(초당 요청 수)와 http_req_duration p95/p99를 엔드포인트(name 태그)별로 비교한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PLACE_ID = __ENV.PLACE_ID || '1';
+const SOLLECT_ID = __ENV.SOLLECT_ID || '1';
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 100 },
+        { duration: '1m', target: 400 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+// 서울 시내 임의 뷰포트
+function viewport() {
+  const lat = 37.5 + Math.random() * 0.1;
+  const lng = 126.9 + Math.random() * 0.15;
+  return `swLat=${lat}&swLng=${lng}&neLat=${lat + 0.02}&neLng=${lng + 0.03}`;
+}
+
+export default function () {
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/api/solmap/markers?${viewport()}`, null, { tags: { name: 'markers' } }],
+    ['GET', `${BASE_URL}/api/solmap/markers/clusters?${viewport()}&zoom=13`, null, { tags: { name: 'markerClusters' } }],
+    ['GET', `${BASE_URL}/api/solmap/place/search/${PLACE_ID}`, null, { tags: { name: 'placeDetail' } }],
+    ['GET', `${BASE_URL}/api/sollect/${SOLLECT_ID}`, null, { tags: { name: 'sollectDetail' } }],
+    ['GET', `${BASE_URL}/api/sollect/search?keyword=카페&size=6`, null, { tags: { name: 'sollectSearch' } }],
+    ['GET', `${BASE_URL}/api/sollect/popular`, null, { tags: { name: 'popularSollect' } }],
+  ]);
+
+  responses.forEach((res) => check(res, { 'status is 200': (r) => r.status === 200 }));
+}
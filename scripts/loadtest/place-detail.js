@@ -0,0 +1,49 @@
+// 장소 상세 조회 API 부하 테스트 (k6)
+//
+// 장소 상세는 요청 하나가 팬아웃 쿼리 6개를 동시에 실행하므로, 동시 요청이 많을 때 커넥션 풀이 고갈되지 않는지 확인한다.
+// Redis 캐시에 걸리지 않도록 PLACE_ID_MIN ~ PLACE_ID_MAX 범위의 장소를 무작위로 조회한다.
+//   k6 run -e BASE_URL=http://localhost:8080 -e PLACE_ID_MAX=5000 place-detail.js
+// 실행 중 /actuator/prometheus 의 hikaricp_connections_pending, hikaricp_connections_timeout_total 과
+// query_fanout_part_seconds 를 함께 확인한다. pending이 계속 쌓이거나 timeout이 발생하면 DB_POOL_SIZE와
+// QUERY_FANOUT_POOL_SIZE(풀 크기의 절반 이하)를 함께 조정한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PLACE_ID_MIN = Number(__ENV.PLACE_ID_MIN || 1);
+const PLACE_ID_MAX = Number(__ENV.PLACE_ID_MAX || 1000);
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 50 },
+        { duration: '1m', target: 200 },
+        { duration: '1m', target: 400 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    // 팬아웃 기한(async.query.timeout-millis)을 넘긴 요청은 QUERY_TIMEOUT 오류가 되므로 실패율로 드러남
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(95)<500', 'p(99)<1500'],
+  },
+};
+
+// 범위 안에 삭제된 장소가 있을 수 있으므로 404도 정상 응답으로 봄
+http.setResponseCallback(http.expectedStatuses(200, 404));
+
+function randomPlaceId() {
+  return PLACE_ID_MIN + Math.floor(Math.random() * (PLACE_ID_MAX - PLACE_ID_MIN + 1));
+}
+
+export default function () {
+  const res = http.get(`${BASE_URL}/api/solmap/place/search/${randomPlaceId()}`, {
+    tags: { name: 'placeDetail' },
+  });
+
+  check(res, { 'status is 200 or 404': (r) => r.status === 200 || r.status === 404 });
+}
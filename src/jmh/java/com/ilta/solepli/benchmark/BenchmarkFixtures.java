@@ -0,0 +1,37 @@
+package com.ilta.solepli.benchmark;
+
+import java.time.LocalTime;
+
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+
+final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {}
+
+  /** 요일마다 오전/오후 두 구간(브레이크 타임 포함)의 영업 시간을 가진 장소. */
+  static Place place(long id) {
+    Place place =
+        Place.builder()
+            .id(id)
+            .name("장소 " + id)
+            .address("서울특별시 중구 세종대로 " + id)
+            .district("중구")
+            .neighborhood("태평로1가")
+            .latitude(37.5665)
+            .longitude(126.9780)
+            .types("카페")
+            .rating(4.37)
+            .build();
+
+    for (int day = 0; day < 7; day++) {
+      place.getPlaceHours().add(hour(place, day, LocalTime.of(9, 0), LocalTime.of(15, 0)));
+      place.getPlaceHours().add(hour(place, day, LocalTime.of(17, 0), LocalTime.of(22, 0)));
+    }
+    return place;
+  }
+
+  private static PlaceHour hour(Place place, int day, LocalTime start, LocalTime end) {
+    return PlaceHour.builder().place(place).dayOfWeek(day).startTime(start).endTime(end).build();
+  }
+}
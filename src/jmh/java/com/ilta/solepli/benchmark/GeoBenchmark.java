@@ -0,0 +1,64 @@
+package com.ilta.solepli.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ilta.solepli.global.util.PlaceUtil;
+
+/** 미리보기/자동완성에서 장소마다 호출되는 거리 계산과 뷰포트 WKT 생성 비용 측정. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoBenchmark {
+
+  private static final int PLACE_COUNT = 1_024; // 2의 거듭제곱 (인덱스 마스킹용)
+
+  private final double userLat = 37.5665;
+  private final double userLng = 126.9780;
+
+  private double[] lats;
+  private double[] lngs;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    lats = new double[PLACE_COUNT];
+    lngs = new double[PLACE_COUNT];
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      lats[i] = 37.45 + random.nextDouble() * 0.25; // 서울 시내 범위
+      lngs[i] = 126.80 + random.nextDouble() * 0.35;
+    }
+  }
+
+  @Benchmark
+  public double calculateDistance() {
+    int i = cursor++ & (PLACE_COUNT - 1);
+    return PlaceUtil.calculateDistance(userLat, userLng, lats[i], lngs[i]);
+  }
+
+  /** 한 페이지(20개) 분량의 커서 거리(km) 계산. */
+  @Benchmark
+  public void nextCursorDistancePage(Blackhole blackhole) {
+    int start = cursor++ & (PLACE_COUNT - 1);
+    for (int k = 0; k < 20; k++) {
+      int i = (start + k) & (PLACE_COUNT - 1);
+      blackhole.consume(PlaceUtil.calculateDistance(userLat, userLng, lats[i], lngs[i]) / 1000);
+    }
+  }
+
+  @Benchmark
+  public String envelopeWkt() {
+    int i = cursor++ & (PLACE_COUNT - 1);
+    return PlaceUtil.toEnvelopeWkt(lats[i], lngs[i], 1.0);
+  }
+}
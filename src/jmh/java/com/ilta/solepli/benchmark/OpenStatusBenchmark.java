@@ -0,0 +1,72 @@
+package com.ilta.solepli.benchmark;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.solmap.dto.OpeningHour;
+import com.ilta.solepli.global.dto.OpenStatus;
+import com.ilta.solepli.global.util.OpenStatusUtil;
+import com.ilta.solepli.global.util.WeeklySchedule;
+
+/** 장소 하나의 영업 여부 계산 비용 측정 (엔티티 기반 / 캐시된 영업 시간 기반 / 미리 만든 주간 시간표 기반). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpenStatusBenchmark {
+
+  private Place place;
+  private List<OpeningHour> openingHours;
+  private WeeklySchedule schedule;
+  private int minuteOfWeek;
+
+  @Setup
+  public void setUp() {
+    place = BenchmarkFixtures.place(1L);
+    openingHours = new ArrayList<>();
+    place
+        .getPlaceHours()
+        .forEach(
+            h ->
+                openingHours.add(
+                    OpeningHour.builder()
+                        .dayOfWeek(h.getDayOfWeek())
+                        .startTime(h.getStartTime())
+                        .endTime(h.getEndTime())
+                        .build()));
+    schedule =
+        OpenStatusUtil.toSchedule(
+            openingHours, OpeningHour::dayOfWeek, OpeningHour::startTime, OpeningHour::endTime);
+    minuteOfWeek = WeeklySchedule.nowMinuteOfWeek();
+  }
+
+  @Benchmark
+  public OpenStatus fromPlaceHours() {
+    return OpenStatusUtil.getOpenStatus(place);
+  }
+
+  @Benchmark
+  public OpenStatus fromCachedOpeningHours() {
+    return OpenStatusUtil.getOpenStatus(openingHours);
+  }
+
+  @Benchmark
+  public OpenStatus fromWeeklySchedule() {
+    return schedule.statusAt(minuteOfWeek);
+  }
+
+  @Benchmark
+  public LocalTime baselineNow() {
+    return LocalTime.now();
+  }
+}
@@ -0,0 +1,75 @@
+package com.ilta.solepli.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ilta.solepli.domain.place.dto.PlacePreviewStats;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.solmap.dto.PlacePreviewDetail;
+import com.ilta.solepli.global.util.OpenStatusUtil;
+import com.ilta.solepli.global.util.WeeklySchedule;
+
+/**
+ * 미리보기 한 페이지(20개)를 DTO로 매핑하는 비용 측정. 통계 조회(DB)는 제외하고 매핑만 잰다. 영업 여부는 서비스와 같이 미리 만든 주간 시간표로
+ * 판정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreviewMappingBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private List<Place> places;
+  private Map<Long, PlacePreviewStats> previewStats;
+  private Map<Long, WeeklySchedule> schedules;
+
+  @Setup
+  public void setUp() {
+    places = new ArrayList<>();
+    previewStats = new HashMap<>();
+    schedules = new HashMap<>();
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      Place place = BenchmarkFixtures.place(id);
+      places.add(place);
+      schedules.put(
+          id,
+          OpenStatusUtil.toSchedule(
+              place.getPlaceHours(),
+              PlaceHour::getDayOfWeek,
+              PlaceHour::getStartTime,
+              PlaceHour::getEndTime));
+      previewStats.put(
+          id,
+          new PlacePreviewStats(
+              List.of("조용한", "편안한", "혼밥하기 좋은"),
+              List.of("https://example.com/review/thumb/" + id + ".jpg"),
+              80));
+    }
+  }
+
+  @Benchmark
+  public List<PlacePreviewDetail> mapToPreviewDetails() {
+    int now = WeeklySchedule.nowMinuteOfWeek();
+    return places.stream()
+        .map(
+            p ->
+                PlacePreviewDetail.of(
+                    p,
+                    previewStats.getOrDefault(p.getId(), PlacePreviewStats.empty()),
+                    schedules.get(p.getId()).statusAt(now)))
+        .toList();
+  }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,13 +15,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.auth.service.JwtTokenProvider;
-import com.ilta.solepli.domain.user.util.CustomUserDetailService;
+import com.ilta.solepli.domain.user.util.UserPrincipalCache;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final CustomUserDetailService customUserDetailService;
+  private final UserPrincipalCache userPrincipalCache;
 
   @Override
   protected void doFilterInternal(
@@ -29,9 +30,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // Authorization 헤더에서 JWT 토큰 추출
     String token = resolveToken(request);
 
-    if (token != null && jwtTokenProvider.validateToken(token)) {
-      String loginId = jwtTokenProvider.getLoginIdFromToken(token);
-      UserDetails userDetails = customUserDetailService.loadUserByUsername(loginId);
+    // 토큰은 한 번만 파싱하고, 사용자 정보는 캐시에서 조회
+    Claims claims = (token != null) ? jwtTokenProvider.parseClaims(token) : null;
+
+    if (claims != null) {
+      UserDetails userDetails =
+          userPrincipalCache.get(
+              claims.getSubject(),
+              jwtTokenProvider.getUserId(claims),
+              jwtTokenProvider.getRole(claims));
       UsernamePasswordAuthenticationToken authToken =
           new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
       SecurityContextHolder.getContext().setAuthentication(authToken); // 인증 객체 저장
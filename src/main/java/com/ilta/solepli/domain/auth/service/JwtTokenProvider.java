@@ -6,7 +6,9 @@ import java.util.Date;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,47 +18,50 @@ import com.ilta.solepli.domain.user.entity.User;
 @Component
 public class JwtTokenProvider {
 
+  private static final String USER_ID_CLAIM = "userId";
+  private static final String ROLE_CLAIM = "role";
+
   private final Key key;
+  private final JwtParser jwtParser; // 불변·스레드 안전하므로 한 번만 생성
   private final long expiration;
 
   public JwtTokenProvider(
       @Value("${spring.jwt.secret}") String secretKey,
       @Value("${spring.jwt.access.token.expiration}") long expiration) {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     this.expiration = expiration;
   }
 
   public String generateToken(User user) {
-    // 토큰 생성 (loginId + role 포함)
+    // 토큰 생성 (loginId + userId + role 포함)
     Date now = new Date();
     Date expiry = new Date(now.getTime() + expiration);
 
     return Jwts.builder()
         .setSubject(user.getLoginId())
-        .claim("role", user.getRole().name())
+        .claim(USER_ID_CLAIM, user.getId())
+        .claim(ROLE_CLAIM, user.getRole().name())
         .setIssuedAt(now)
         .setExpiration(expiry)
         .signWith(key, SignatureAlgorithm.HS256)
         .compact();
   }
 
-  public String getLoginIdFromToken(String token) {
-    // 토큰에서 사용자 ID 추출
-    return Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
-  }
-
-  public boolean validateToken(String token) {
+  // 토큰을 한 번만 파싱하여 클레임 반환 (유효하지 않으면 null)
+  public Claims parseClaims(String token) {
     try {
-      // 토큰 파싱 → 유효한 경우 true
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-      return true;
-    } catch (JwtException e) {
-      return false;
+      return jwtParser.parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException e) {
+      return null;
     }
   }
+
+  public Long getUserId(Claims claims) {
+    return claims.get(USER_ID_CLAIM, Long.class);
+  }
+
+  public String getRole(Claims claims) {
+    return claims.get(ROLE_CLAIM, String.class);
+  }
 }
@@ -1,5 +1,6 @@
 package com.ilta.solepli.domain.category.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -11,7 +12,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import com.ilta.solepli.global.cache.EntityCacheRegions;
 import com.ilta.solepli.global.entity.Timestamped;
 
 @Entity
@@ -20,6 +24,8 @@ import com.ilta.solepli.global.entity.Timestamped;
 @AllArgsConstructor
 @Builder
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = EntityCacheRegions.CATEGORY)
 public class Category extends Timestamped {
 
   @Id
@@ -1,9 +1,15 @@
 package com.ilta.solepli.domain.category.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.ilta.solepli.domain.category.entity.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
   boolean existsByName(String name);
+
+  @Query("SELECT c.name FROM Category c")
+  List<String> findAllNames();
 }
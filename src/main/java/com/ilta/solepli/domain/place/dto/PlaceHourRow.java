@@ -0,0 +1,16 @@
+package com.ilta.solepli.domain.place.dto;
+
+import java.time.LocalTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record PlaceHourRow(
+    Long placeId, Integer dayOfWeek, LocalTime startTime, LocalTime endTime) {
+  @QueryProjection
+  public PlaceHourRow(Long placeId, Integer dayOfWeek, LocalTime startTime, LocalTime endTime) {
+    this.placeId = placeId;
+    this.dayOfWeek = dayOfWeek;
+    this.startTime = startTime;
+    this.endTime = endTime;
+  }
+}
@@ -0,0 +1,16 @@
+package com.ilta.solepli.domain.place.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record PlaceLocationRow(
+    Long placeId, Double latitude, Double longitude, Long placeCategoryId, String categoryName) {
+  @QueryProjection
+  public PlaceLocationRow(
+      Long placeId, Double latitude, Double longitude, Long placeCategoryId, String categoryName) {
+    this.placeId = placeId;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.placeCategoryId = placeCategoryId;
+    this.categoryName = categoryName;
+  }
+}
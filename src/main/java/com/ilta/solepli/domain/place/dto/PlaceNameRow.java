@@ -0,0 +1,30 @@
+package com.ilta.solepli.domain.place.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+public record PlaceNameRow(
+    Long placeId,
+    String name,
+    String address,
+    Double latitude,
+    Double longitude,
+    Long placeCategoryId,
+    String categoryName) {
+  @QueryProjection
+  public PlaceNameRow(
+      Long placeId,
+      String name,
+      String address,
+      Double latitude,
+      Double longitude,
+      Long placeCategoryId,
+      String categoryName) {
+    this.placeId = placeId;
+    this.name = name;
+    this.address = address;
+    this.latitude = latitude;
+    this.longitude = longitude;
+    this.placeCategoryId = placeCategoryId;
+    this.categoryName = categoryName;
+  }
+}
@@ -0,0 +1,10 @@
+package com.ilta.solepli.domain.place.dto;
+
+import java.util.List;
+
+public record PlacePreviewStats(
+    List<String> topTags, List<String> thumbnailUrls, Integer recommendationPercent) {
+  public static PlacePreviewStats empty() {
+    return new PlacePreviewStats(List.of(), List.of(), null);
+  }
+}
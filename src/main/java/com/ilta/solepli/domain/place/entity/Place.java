@@ -4,10 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.*;
+
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.ilta.solepli.domain.place.entity.mapping.PlaceCategory;
 import com.ilta.solepli.domain.review.entity.Review;
+import com.ilta.solepli.global.cache.EntityCacheRegions;
 import com.ilta.solepli.global.entity.Timestamped;
 
 @Entity
@@ -16,6 +21,9 @@ import com.ilta.solepli.global.entity.Timestamped;
 @AllArgsConstructor
 @Builder
 @Table(name = "places")
+@Cacheable
+// 평점은 리뷰 작성 시 갱신되므로 READ_WRITE
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.PLACE)
 public class Place extends Timestamped {
 
   @Id
@@ -47,12 +55,29 @@ public class Place extends Timestamped {
 
   private Double rating;
 
+  // 위경도로부터 MySQL이 계산하는 공간 좌표 (SPATIAL INDEX 대상, 읽기 전용)
+  @Column(
+      name = "location",
+      insertable = false,
+      updatable = false,
+      columnDefinition =
+          "POINT SRID 4326 GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL")
+  private byte[] location;
+
   @OneToMany(mappedBy = "place", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   @Builder.Default
+  @BatchSize(size = 100)
+  @Cache(
+      usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE,
+      region = EntityCacheRegions.PLACE_CATEGORIES)
   private List<PlaceCategory> placeCategories = new ArrayList<>();
 
   @OneToMany(mappedBy = "place", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
   @Builder.Default
+  @BatchSize(size = 100)
+  @Cache(
+      usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE,
+      region = EntityCacheRegions.PLACE_HOURS)
   private List<PlaceHour> placeHours = new ArrayList<>();
 
   @OneToMany(mappedBy = "place", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
@@ -2,6 +2,7 @@ package com.ilta.solepli.domain.place.entity;
 
 import java.time.LocalTime;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -16,7 +17,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import com.ilta.solepli.global.cache.EntityCacheRegions;
 import com.ilta.solepli.global.entity.Timestamped;
 
 @Entity
@@ -25,6 +29,10 @@ import com.ilta.solepli.global.entity.Timestamped;
 @AllArgsConstructor
 @Builder
 @Table(name = "place_hours")
+@Cacheable
+@Cache(
+    usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE,
+    region = EntityCacheRegions.PLACE_HOUR)
 public class PlaceHour extends Timestamped {
 
   @Id
@@ -0,0 +1,38 @@
+package com.ilta.solepli.domain.place.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소별 리뷰 통계 (리뷰 수, 추천 리뷰 수, 평점 합).
+ *
+ * <p>리뷰 작성/삭제 트랜잭션에서 PlaceStatsRepository의 증감 쿼리로만 갱신되며, 조회 시 리뷰 테이블을 집계하지 않고 이 값을 그대로 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "place_stats")
+public class PlaceStats {
+
+  @Id
+  @Column(name = "place_id")
+  private Long placeId;
+
+  @Column(nullable = false, name = "review_count")
+  private Long reviewCount;
+
+  @Column(nullable = false, name = "recommended_count")
+  private Long recommendedCount;
+
+  @Column(nullable = false, name = "rating_sum")
+  private Long ratingSum;
+}
@@ -0,0 +1,52 @@
+package com.ilta.solepli.domain.place.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import com.ilta.solepli.domain.tag.entity.TagType;
+
+/** 장소별 리뷰 태그 선택 수. 리뷰 작성/삭제 트랜잭션에서 PlaceTagStatsRepository의 증감 쿼리로만 갱신된다. */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+    name = "place_tag_stats",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_place_tag_stats",
+            columnNames = {"place_id", "tag_type", "name"}),
+    indexes = @Index(name = "idx_place_tag_stats_count", columnList = "place_id, tag_count"))
+public class PlaceTagStats {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, name = "place_id")
+  private Long placeId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, name = "tag_type")
+  private TagType tagType;
+
+  @Column(nullable = false)
+  private String name;
+
+  @Column(nullable = false, name = "tag_count")
+  private Long tagCount;
+}
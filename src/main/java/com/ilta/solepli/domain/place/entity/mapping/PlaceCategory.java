@@ -1,5 +1,6 @@
 package com.ilta.solepli.domain.place.entity.mapping;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -13,11 +14,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import com.ilta.solepli.domain.category.entity.Category;
 import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.global.cache.EntityCacheRegions;
 import com.ilta.solepli.global.entity.Timestamped;
 
 @Entity
@@ -26,6 +30,10 @@ import com.ilta.solepli.global.entity.Timestamped;
 @AllArgsConstructor
 @Builder
 @Table(name = "place_categories")
+@Cacheable
+@Cache(
+    usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE,
+    region = EntityCacheRegions.PLACE_CATEGORY)
 public class PlaceCategory extends Timestamped {
 
   @Id
@@ -0,0 +1,135 @@
+package com.ilta.solepli.domain.place.index;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.place.dto.PlaceHourRow;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+import com.ilta.solepli.global.dto.OpenStatus;
+import com.ilta.solepli.global.util.OpenStatusUtil;
+import com.ilta.solepli.global.util.WeeklySchedule;
+
+/**
+ * 장소별 주간 영업 시간표({@link WeeklySchedule})를 메모리에 보관하는 인덱스.
+ *
+ * <p>장소 ID 정렬 배열과 시간표 배열로 구성되어 장소 탐색과 영업 여부 판정이 모두 이진 탐색으로 끝난다. 미리보기 조회가 장소마다 영업 시간을 조인하거나
+ * 지연 로딩하지 않도록 하기 위한 것이다. 영업 시간은 자주 바뀌지 않으므로 주기적으로 전체를 다시 적재해 스냅샷을 교체한다. 적재 전에는 엔티티의 영업 시간으로
+ * 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpeningHoursIndex {
+
+  private static final long REFRESH_DELAY_MS = 600_000;
+
+  private final PlaceRepository placeRepository;
+
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private volatile boolean ready = false;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    refreshLock.lock();
+    try {
+      snapshot = Snapshot.build(placeRepository.findHourRows());
+      ready = true;
+
+      log.info("[OpeningHoursIndex] {}개 장소 영업 시간 적재 완료", snapshot.placeIds.length);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  @Scheduled(fixedDelay = REFRESH_DELAY_MS, initialDelay = REFRESH_DELAY_MS)
+  public void refresh() {
+    if (ready) {
+      load();
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /** minuteOfWeek({@link WeeklySchedule#nowMinuteOfWeek()}) 시점의 영업 여부와 마감 시각. */
+  public OpenStatus getOpenStatus(Place place, int minuteOfWeek) {
+    return scheduleOf(place).statusAt(minuteOfWeek);
+  }
+
+  /** minuteOfWeek 시점에 영업 중인지 여부. 적재 전에는 장소의 영업 시간(지연 로딩)으로 판정한다. */
+  public boolean isOpenAt(Place place, int minuteOfWeek) {
+    return scheduleOf(place).isOpenAt(minuteOfWeek);
+  }
+
+  /** minuteOfWeek 시점에 영업 중인지 여부. 장소 ID만으로는 적재 전에 판정할 수 없으므로 {@link #isReady()}일 때만 사용한다. */
+  public boolean isOpenAt(Long placeId, int minuteOfWeek) {
+    if (!ready) {
+      throw new IllegalStateException("[OpeningHoursIndex] 적재 전에는 장소 ID로 영업 여부를 판정할 수 없음");
+    }
+    return snapshot.scheduleOf(placeId).isOpenAt(minuteOfWeek);
+  }
+
+  private WeeklySchedule scheduleOf(Place place) {
+    if (!ready) {
+      return OpenStatusUtil.toSchedule(
+          place.getPlaceHours(),
+          PlaceHour::getDayOfWeek,
+          PlaceHour::getStartTime,
+          PlaceHour::getEndTime);
+    }
+    return snapshot.scheduleOf(place.getId());
+  }
+
+  private static final class Snapshot {
+
+    static final Snapshot EMPTY = new Snapshot(new long[0], new WeeklySchedule[0]);
+
+    final long[] placeIds; // 오름차순
+    final WeeklySchedule[] schedules;
+
+    Snapshot(long[] placeIds, WeeklySchedule[] schedules) {
+      this.placeIds = placeIds;
+      this.schedules = schedules;
+    }
+
+    WeeklySchedule scheduleOf(Long placeId) {
+      int index = Arrays.binarySearch(placeIds, placeId);
+      return index < 0 ? WeeklySchedule.EMPTY : schedules[index];
+    }
+
+    // rows는 장소 ID 순으로 정렬되어 있어야 함
+    static Snapshot build(List<PlaceHourRow> rows) {
+      long[] placeIds = new long[rows.size()];
+      WeeklySchedule[] schedules = new WeeklySchedule[rows.size()];
+      int size = 0;
+
+      int i = 0;
+      while (i < rows.size()) {
+        long placeId = rows.get(i).placeId();
+        WeeklySchedule.Builder builder = WeeklySchedule.builder();
+        for (; i < rows.size() && rows.get(i).placeId() == placeId; i++) {
+          PlaceHourRow row = rows.get(i);
+          builder.add(row.dayOfWeek(), row.startTime(), row.endTime());
+        }
+        placeIds[size] = placeId;
+        schedules[size] = builder.build();
+        size++;
+      }
+      return new Snapshot(Arrays.copyOf(placeIds, size), Arrays.copyOf(schedules, size));
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.ilta.solepli.domain.place.index;
+
+/** 격자 단위로 묶인 장소 클러스터. 좌표는 묶인 장소들의 중심점이며 category는 가장 많은 장소가 속한 카테고리이다. */
+public record PlaceCluster(double latitude, double longitude, int count, String category) {}
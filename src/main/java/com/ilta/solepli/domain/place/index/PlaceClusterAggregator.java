@@ -0,0 +1,61 @@
+package com.ilta.solepli.domain.place.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 좌표를 격자 셀 단위로 누적해 셀별 중심점, 장소 수, 대표 카테고리를 계산한다. */
+public class PlaceClusterAggregator {
+
+  private final double cellSizeDegree;
+  private final Map<Long, Cell> cells = new HashMap<>();
+
+  public PlaceClusterAggregator(double cellSizeDegree) {
+    this.cellSizeDegree = cellSizeDegree;
+  }
+
+  public void add(double latitude, double longitude, String category) {
+    int row = (int) Math.floor((latitude + 90) / cellSizeDegree);
+    int col = (int) Math.floor((longitude + 180) / cellSizeDegree);
+    long key = ((long) row << 32) | (col & 0xffffffffL);
+
+    Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+    cell.count++;
+    cell.latitudeSum += latitude;
+    cell.longitudeSum += longitude;
+    cell.categoryCounts.merge(category, 1, Integer::sum);
+  }
+
+  public List<PlaceCluster> toClusters() {
+    List<PlaceCluster> clusters = new ArrayList<>(cells.size());
+    for (Cell cell : cells.values()) {
+      clusters.add(
+          new PlaceCluster(
+              cell.latitudeSum / cell.count,
+              cell.longitudeSum / cell.count,
+              cell.count,
+              cell.dominantCategory()));
+    }
+    return clusters;
+  }
+
+  private static final class Cell {
+    int count;
+    double latitudeSum;
+    double longitudeSum;
+    final Map<String, Integer> categoryCounts = new HashMap<>();
+
+    String dominantCategory() {
+      String dominant = null;
+      int max = 0;
+      for (Map.Entry<String, Integer> entry : categoryCounts.entrySet()) {
+        if (entry.getValue() > max) {
+          dominant = entry.getKey();
+          max = entry.getValue();
+        }
+      }
+      return dominant;
+    }
+  }
+}
@@ -0,0 +1,3 @@
+package com.ilta.solepli.domain.place.index;
+
+public record PlaceMarker(long id, double latitude, double longitude, String category) {}
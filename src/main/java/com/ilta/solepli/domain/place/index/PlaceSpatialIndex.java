@@ -0,0 +1,407 @@
+package com.ilta.solepli.domain.place.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.place.dto.PlaceLocationRow;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+import com.ilta.solepli.global.cache.ReferenceDataCache;
+
+/**
+ * 장소 좌표와 카테고리를 원시 타입 배열로 메모리에 보관하는 격자(grid) 기반 공간 인덱스.
+ *
+ * <p>기동 시 전체 장소를 한 번 적재하고, 이후에는 새로 추가되었거나 수정된 장소만 주기적으로 반영하며 삭제 등을 바로잡기 위해 더 긴 주기로 전체를 다시
+ * 적재한다. 조회는 DB 접근 없이 뷰포트와 겹치는 격자 셀만 탐색한다. 스냅샷은 불변 객체로 교체되므로 조회 스레드는 락 없이 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndex {
+
+  private static final double CELL_SIZE_DEGREE = 0.01; // 격자 한 칸 크기 (약 1km)
+  private static final long REFRESH_DELAY_MS = 60_000;
+  private static final long REBUILD_DELAY_MS = 30 * 60_000;
+  private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+  private final PlaceRepository placeRepository;
+  private final ReferenceDataCache referenceDataCache;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private volatile boolean ready = false;
+
+  // DB 조회 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 락 사용
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private LocalDateTime lastRefreshedAt;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /**
+   * 전체 장소를 다시 적재한다. 증분 반영으로는 알 수 없는 장소 삭제와 장소-카테고리 매핑 변경(updatedAt이 바뀌지 않음)을 바로잡기 위해 주기적으로 실행한다.
+   */
+  @Scheduled(fixedDelay = REBUILD_DELAY_MS, initialDelay = REBUILD_DELAY_MS)
+  public void rebuild() {
+    refreshLock.lock();
+    try {
+      LocalDateTime watermark = watermark();
+      List<PlaceLocationRow> rows = placeRepository.findLocationRows(null, null);
+
+      boolean reloaded = ready;
+      snapshot = Snapshot.build(Snapshot.EMPTY, rows);
+      lastRefreshedAt = watermark;
+      ready = true;
+
+      // 삭제되거나 카테고리가 바뀐 장소가 있을 수 있으므로 참조 데이터 캐시(구/동, 카테고리 목록) 무효화
+      if (reloaded) {
+        referenceDataCache.evictRegions();
+        referenceDataCache.evictCategories();
+      }
+      log.info("[PlaceSpatialIndex] {}개 장소 적재 완료", snapshot.size);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /** 마지막 반영 이후 추가(id 증가) 또는 수정(updatedAt 갱신)된 장소만 스냅샷에 반영한다. */
+  @Scheduled(fixedDelay = REFRESH_DELAY_MS, initialDelay = REFRESH_DELAY_MS)
+  public void refresh() {
+    refreshLock.lock();
+    try {
+      if (!ready) {
+        return;
+      }
+
+      LocalDateTime watermark = watermark();
+      List<PlaceLocationRow> rows =
+          placeRepository.findLocationRows(snapshot.maxPlaceId, lastRefreshedAt);
+
+      if (!rows.isEmpty()) {
+        Snapshot before = snapshot;
+        snapshot = Snapshot.build(before, rows);
+        log.info("[PlaceSpatialIndex] {}개 행 반영, 총 {}개 장소", rows.size(), snapshot.size);
+
+        // 새 장소나 카테고리가 생기면 참조 데이터 캐시(구/동, 카테고리 목록) 무효화
+        if (snapshot.maxPlaceId > before.maxPlaceId) {
+          referenceDataCache.evictRegions();
+        }
+        if (snapshot.categoryNames.length > before.categoryNames.length) {
+          referenceDataCache.evictCategories();
+        }
+      }
+      lastRefreshedAt = watermark;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * 다음 증분 조회의 기준 시각. updated_at은 JPA Auditing이 애플리케이션(JVM) 시계로 기록하므로 같은 시계로 조회 전에 구하고, 조회 시점에 커밋되지
+   * 않았던 트랜잭션과 인스턴스 간 시계 차이를 고려해 WATERMARK_OVERLAP만큼 앞당긴다. 겹치는 구간의 행은 다시 반영되어도 결과가 같다.
+   */
+  private static LocalDateTime watermark() {
+    return LocalDateTime.now().minus(WATERMARK_OVERLAP);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 뷰포트 내 장소를 조회한다. category가 주어지면 해당 카테고리를 가진 장소만 반환하며, 이때 마커 카테고리는 선택한 카테고리로 표시한다.
+   */
+  public List<PlaceMarker> findInViewport(
+      double swLat, double swLng, double neLat, double neLng, String category) {
+    Snapshot s = snapshot;
+    List<PlaceMarker> result = new ArrayList<>();
+
+    forEachInViewport(
+        s,
+        swLat,
+        swLng,
+        neLat,
+        neLng,
+        category,
+        i ->
+            result.add(
+                new PlaceMarker(
+                    s.ids[i], s.latitudes[i], s.longitudes[i], markerCategory(s, i, category))));
+    return result;
+  }
+
+  /**
+   * 뷰포트 내 장소를 clusterSizeDegree 크기의 격자 단위로 묶어 반환한다. 클러스터 수는 뷰포트 면적을 격자 크기로 나눈 값을 넘지 않으므로 장소 밀도와
+   * 무관하게 응답 크기가 제한된다.
+   */
+  public List<PlaceCluster> clusterInViewport(
+      double swLat,
+      double swLng,
+      double neLat,
+      double neLng,
+      String category,
+      double clusterSizeDegree) {
+    Snapshot s = snapshot;
+    PlaceClusterAggregator aggregator = new PlaceClusterAggregator(clusterSizeDegree);
+
+    forEachInViewport(
+        s,
+        swLat,
+        swLng,
+        neLat,
+        neLng,
+        category,
+        i -> aggregator.add(s.latitudes[i], s.longitudes[i], markerCategory(s, i, category)));
+    return aggregator.toClusters();
+  }
+
+  /** 뷰포트와 카테고리 조건을 만족하는 장소의 스냅샷 내 인덱스를 consumer에 전달한다. */
+  private void forEachInViewport(
+      Snapshot s,
+      double swLat,
+      double swLng,
+      double neLat,
+      double neLng,
+      String category,
+      IntConsumer consumer) {
+    int maskWord = -1; // 카테고리 조건이 없으면 -1
+    long maskBit = 0L;
+    if (category != null) {
+      Integer ordinal = s.categoryOrdinals.get(category);
+      if (ordinal == null) {
+        return;
+      }
+      maskWord = ordinal / Long.SIZE;
+      maskBit = 1L << (ordinal % Long.SIZE);
+    }
+
+    int minRow = cellRow(swLat);
+    int maxRow = cellRow(neLat);
+    int minCol = cellCol(swLng);
+    int maxCol = cellCol(neLng);
+    long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+    // 뷰포트가 넓어 탐색할 셀 수가 비어있지 않은 셀 수보다 많으면 비어있지 않은 셀만 순회
+    if (cellCount > s.cells.size()) {
+      for (int[] bucket : s.cells.values()) {
+        collect(s, bucket, swLat, swLng, neLat, neLng, maskWord, maskBit, consumer);
+      }
+      return;
+    }
+
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int col = minCol; col <= maxCol; col++) {
+        int[] bucket = s.cells.get(cellKey(row, col));
+        if (bucket != null) {
+          collect(s, bucket, swLat, swLng, neLat, neLng, maskWord, maskBit, consumer);
+        }
+      }
+    }
+  }
+
+  private void collect(
+      Snapshot s,
+      int[] bucket,
+      double swLat,
+      double swLng,
+      double neLat,
+      double neLng,
+      int maskWord,
+      long maskBit,
+      IntConsumer consumer) {
+    for (int i : bucket) {
+      double lat = s.latitudes[i];
+      double lng = s.longitudes[i];
+      if (lat < swLat || lat > neLat || lng < swLng || lng > neLng) {
+        continue;
+      }
+      if (maskWord >= 0 && (s.categoryMasks[i * s.maskWords + maskWord] & maskBit) == 0) {
+        continue;
+      }
+      consumer.accept(i);
+    }
+  }
+
+  private static String markerCategory(Snapshot s, int i, String category) {
+    return (category != null) ? category : s.categoryNames[s.mainCategories[i]];
+  }
+
+  private static int cellRow(double lat) {
+    return (int) Math.floor((lat + 90) / CELL_SIZE_DEGREE);
+  }
+
+  private static int cellCol(double lng) {
+    return (int) Math.floor((lng + 180) / CELL_SIZE_DEGREE);
+  }
+
+  private static long cellKey(int row, int col) {
+    return ((long) row << 32) | (col & 0xffffffffL);
+  }
+
+  /** 인덱스의 불변 스냅샷. i번째 장소의 정보는 각 배열의 i번째 원소에 저장된다. */
+  private static final class Snapshot {
+
+    static final Snapshot EMPTY =
+        new Snapshot(
+            0,
+            new long[0],
+            new double[0],
+            new double[0],
+            new int[0],
+            new long[0],
+            0,
+            new String[0],
+            Map.of(),
+            Map.of(),
+            0L);
+
+    final int size;
+    final long[] ids;
+    final double[] latitudes;
+    final double[] longitudes;
+    final int[] mainCategories; // 대표 카테고리 ordinal
+    // 장소가 가진 모든 카테고리 ordinal 비트셋. i번째 장소는 [i * maskWords, (i + 1) * maskWords) 구간을 사용
+    final long[] categoryMasks;
+    final int maskWords;
+    final String[] categoryNames;
+    final Map<String, Integer> categoryOrdinals;
+    final Map<Long, int[]> cells;
+    final long maxPlaceId;
+
+    private Snapshot(
+        int size,
+        long[] ids,
+        double[] latitudes,
+        double[] longitudes,
+        int[] mainCategories,
+        long[] categoryMasks,
+        int maskWords,
+        String[] categoryNames,
+        Map<String, Integer> categoryOrdinals,
+        Map<Long, int[]> cells,
+        long maxPlaceId) {
+      this.size = size;
+      this.ids = ids;
+      this.latitudes = latitudes;
+      this.longitudes = longitudes;
+      this.mainCategories = mainCategories;
+      this.categoryMasks = categoryMasks;
+      this.maskWords = maskWords;
+      this.categoryNames = categoryNames;
+      this.categoryOrdinals = categoryOrdinals;
+      this.cells = cells;
+      this.maxPlaceId = maxPlaceId;
+    }
+
+    /**
+     * 기존 스냅샷에 변경된 행(rows)을 덮어써 새 스냅샷을 만든다. rows는 placeId, placeCategoryId 오름차순이며 장소별 첫 행이 대표
+     * 카테고리이다.
+     */
+    static Snapshot build(Snapshot base, List<PlaceLocationRow> rows) {
+      Map<String, Integer> categoryOrdinals = new HashMap<>(base.categoryOrdinals);
+      List<String> categoryNames = new ArrayList<>(Arrays.asList(base.categoryNames));
+
+      // 새 카테고리에 ordinal을 먼저 부여해 비트셋 크기(워드 수)를 정함
+      Set<Long> changedIds = new HashSet<>();
+      int[] rowOrdinals = new int[rows.size()];
+      for (int r = 0; r < rows.size(); r++) {
+        PlaceLocationRow row = rows.get(r);
+        changedIds.add(row.placeId());
+        rowOrdinals[r] =
+            categoryOrdinals.computeIfAbsent(
+                row.categoryName(),
+                name -> {
+                  categoryNames.add(name);
+                  return categoryNames.size() - 1;
+                });
+      }
+      int maskWords = Math.max(1, (categoryNames.size() + Long.SIZE - 1) / Long.SIZE);
+
+      int capacity = base.size + changedIds.size();
+      long[] ids = new long[capacity];
+      double[] latitudes = new double[capacity];
+      double[] longitudes = new double[capacity];
+      int[] mainCategories = new int[capacity];
+      long[] categoryMasks = new long[capacity * maskWords];
+      int size = 0;
+
+      // 변경되지 않은 기존 장소 복사
+      for (int i = 0; i < base.size; i++) {
+        if (changedIds.contains(base.ids[i])) {
+          continue;
+        }
+        ids[size] = base.ids[i];
+        latitudes[size] = base.latitudes[i];
+        longitudes[size] = base.longitudes[i];
+        mainCategories[size] = base.mainCategories[i];
+        System.arraycopy(
+            base.categoryMasks,
+            i * base.maskWords,
+            categoryMasks,
+            size * maskWords,
+            base.maskWords);
+        size++;
+      }
+
+      // 변경된 장소 추가 (같은 장소의 행은 연속되어 있음)
+      long maxPlaceId = base.maxPlaceId;
+      Long currentId = null;
+      for (int r = 0; r < rows.size(); r++) {
+        PlaceLocationRow row = rows.get(r);
+        int ordinal = rowOrdinals[r];
+
+        if (!row.placeId().equals(currentId)) {
+          currentId = row.placeId();
+          ids[size] = currentId;
+          latitudes[size] = row.latitude();
+          longitudes[size] = row.longitude();
+          mainCategories[size] = ordinal;
+          size++;
+          maxPlaceId = Math.max(maxPlaceId, currentId);
+        }
+        categoryMasks[(size - 1) * maskWords + ordinal / Long.SIZE] |= 1L << (ordinal % Long.SIZE);
+      }
+
+      // 격자 셀별 장소 인덱스 목록 구성
+      Map<Long, List<Integer>> buckets = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        long key = cellKey(cellRow(latitudes[i]), cellCol(longitudes[i]));
+        buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+      }
+      Map<Long, int[]> cells = new HashMap<>(buckets.size() * 2);
+      buckets.forEach(
+          (key, indexes) -> cells.put(key, indexes.stream().mapToInt(Integer::intValue).toArray()));
+
+      return new Snapshot(
+          size,
+          Arrays.copyOf(ids, size),
+          Arrays.copyOf(latitudes, size),
+          Arrays.copyOf(longitudes, size),
+          Arrays.copyOf(mainCategories, size),
+          Arrays.copyOf(categoryMasks, size * maskWords),
+          maskWords,
+          categoryNames.toArray(String[]::new),
+          categoryOrdinals,
+          cells,
+          maxPlaceId);
+    }
+  }
+}
@@ -17,15 +17,11 @@ public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceReposi
           + "FROM Place p "
           + "JOIN fetch p.placeCategories pc "
           + "JOIN fetch pc.category c "
-          + "WHERE p.latitude BETWEEN :swLat AND :neLat "
-          + "AND p.longitude BETWEEN :swLng AND :neLng "
+          + "WHERE function('MBRContains', "
+          + "function('ST_GeomFromText', :envelope, 4326, 'axis-order=long-lat'), p.location) = 1 "
           + "AND (:category IS NULL OR c.name = :category)")
   List<Place> findInViewportWithOptionalCategory(
-      @Param("swLat") Double swLat,
-      @Param("swLng") Double swLng,
-      @Param("neLat") Double neLat,
-      @Param("neLng") Double neLng,
-      @Param("category") String category);
+      @Param("envelope") String envelope, @Param("category") String category);
 
   @Query(
       "SELECT DISTINCT  p "
@@ -37,6 +33,12 @@ public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceReposi
 
   Boolean existsByDistrictOrNeighborhood(String district, String neighborhood);
 
+  @Query("SELECT DISTINCT p.district FROM Place p")
+  List<String> findDistinctDistricts();
+
+  @Query("SELECT DISTINCT p.neighborhood FROM Place p WHERE p.neighborhood IS NOT NULL")
+  List<String> findDistinctNeighborhoods();
+
   @Query(
       "SELECT p "
           + "FROM Place p "
@@ -57,16 +59,12 @@ public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceReposi
 
   @Query(
       """
-  SELECT new com.ilta.solepli.domain.solroute.dto.PlaceWithReviewCountDto(p, COUNT(r))
+  SELECT new com.ilta.solepli.domain.solroute.dto.PlaceWithReviewCountDto(p, COALESCE(s.reviewCount, 0L))
   FROM Place p
-  LEFT JOIN p.reviews r
-  WHERE p.latitude BETWEEN :minLat AND :maxLat
-    AND p.longitude BETWEEN :minLng AND :maxLng
-  GROUP BY p
+  LEFT JOIN PlaceStats s ON s.placeId = p.id
+  WHERE function('MBRContains',
+          function('ST_GeomFromText', :envelope, 4326, 'axis-order=long-lat'), p.location) = 1
 """)
   List<PlaceWithReviewCountDto> findPlacesWithReviewCountInArea(
-      @Param("minLat") double minLat,
-      @Param("maxLat") double maxLat,
-      @Param("minLng") double minLng,
-      @Param("maxLng") double maxLng);
+      @Param("envelope") String envelope);
 }
@@ -1,9 +1,15 @@
 package com.ilta.solepli.domain.place.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
+import com.ilta.solepli.domain.place.dto.PlaceHourRow;
+import com.ilta.solepli.domain.place.dto.PlaceLocationRow;
+import com.ilta.solepli.domain.place.dto.PlaceNameRow;
+import com.ilta.solepli.domain.place.dto.PlacePreviewStats;
 import com.ilta.solepli.domain.place.dto.response.PlaceSearchResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectPlaceAddPreviewResponse;
 
@@ -16,6 +22,19 @@ public interface PlaceRepositoryCustom {
 
   Integer getRecommendationPercent(Long placeId);
 
+  Map<Long, PlacePreviewStats> getPreviewStatsForPlaces(
+      List<Long> placeIds, int tagLimit, int thumbnailLimit);
+
+  Map<Long, List<String>> getTopTagsForPlaces(List<Long> placeIds, int limit);
+
+  Map<Long, Integer> getRecommendationPercentsForPlaces(List<Long> placeIds);
+
+  List<PlaceLocationRow> findLocationRows(Long afterId, LocalDateTime updatedAfter);
+
+  List<PlaceNameRow> findNameRows(Long afterId, LocalDateTime updatedAfter);
+
+  List<PlaceHourRow> findHourRows();
+
   List<PlaceSearchResponse> getPlacesByKeyword(String keyword);
 
   SollectPlaceAddPreviewResponse getSollectAddPreview(Long placeId);
@@ -1,44 +1,58 @@
 package com.ilta.solepli.domain.place.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.category.entity.QCategory;
+import com.ilta.solepli.domain.place.dto.PlaceHourRow;
+import com.ilta.solepli.domain.place.dto.PlaceLocationRow;
+import com.ilta.solepli.domain.place.dto.PlaceNameRow;
+import com.ilta.solepli.domain.place.dto.PlacePreviewStats;
+import com.ilta.solepli.domain.place.dto.QPlaceHourRow;
+import com.ilta.solepli.domain.place.dto.QPlaceLocationRow;
+import com.ilta.solepli.domain.place.dto.QPlaceNameRow;
 import com.ilta.solepli.domain.place.dto.response.PlaceSearchResponse;
 import com.ilta.solepli.domain.place.entity.Place;
 import com.ilta.solepli.domain.place.entity.QPlace;
+import com.ilta.solepli.domain.place.entity.QPlaceHour;
+import com.ilta.solepli.domain.place.entity.QPlaceStats;
+import com.ilta.solepli.domain.place.entity.QPlaceTagStats;
 import com.ilta.solepli.domain.place.entity.mapping.QPlaceCategory;
 import com.ilta.solepli.domain.review.entity.QReview;
-import com.ilta.solepli.domain.review.entity.Review;
 import com.ilta.solepli.domain.review.entity.mapping.QReviewImage;
-import com.ilta.solepli.domain.review.entity.mapping.QReviewTag;
-import com.ilta.solepli.domain.review.entity.mapping.ReviewImage;
 import com.ilta.solepli.domain.sollect.dto.response.SollectPlaceAddPreviewResponse;
 
 @RequiredArgsConstructor
 public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
 
   private final JPAQueryFactory jpaQueryFactory;
-  private final QReviewTag rt = QReviewTag.reviewTag;
   private final QReview r = QReview.review;
   private final QReviewImage ri = QReviewImage.reviewImage;
   private final QPlace p = QPlace.place;
   private final QPlaceCategory pc = QPlaceCategory.placeCategory;
   private final QCategory c = QCategory.category;
+  private final QPlaceStats s = QPlaceStats.placeStats;
+  private final QPlaceTagStats ts = QPlaceTagStats.placeTagStats;
+  private final QPlaceHour ph = QPlaceHour.placeHour;
 
   // 장소별 최다 리뷰 태그 n개 조회
   @Override
   public List<String> getTopTagsForPlace(Long placeId, int limit) {
     return jpaQueryFactory
-        .select(rt.name)
-        .from(rt)
-        .join(rt.review, r)
-        .where(rt.review.place.id.eq(placeId))
-        .groupBy(rt.name)
-        .orderBy(rt.id.count().desc(), rt.name.asc())
+        .select(ts.name)
+        .from(ts)
+        .where(ts.placeId.eq(placeId), ts.tagCount.gt(0L))
+        .orderBy(ts.tagCount.desc(), ts.name.asc())
         .limit(limit)
         .fetch();
   }
@@ -46,41 +60,42 @@ public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
   // 장소별 최신 리뷰의 썸네일 이미지 n개 조회
   @Override
   public List<String> getReviewThumbnails(Long placeId, int limit) {
-    List<Review> reviews =
-        jpaQueryFactory
-            .selectFrom(r)
-            .distinct()
-            .join(r.reviewImages, ri)
-            .where(r.place.id.eq(placeId))
-            .orderBy(r.createdAt.desc())
-            .limit(limit)
-            .fetch();
+    // 리뷰별 첫 번째 이미지만 조인해 한 번에 조회 (리뷰마다 이미지 컬렉션을 지연 로딩하지 않음)
+    QReviewImage firstImage = new QReviewImage("firstImage");
 
-    return reviews.stream()
-        .map(
-            r ->
-                r.getReviewImages().stream().findFirst().map(ReviewImage::getImageUrl).orElse(null))
-        .filter(Objects::nonNull)
-        .toList();
+    return jpaQueryFactory
+        .select(ri.thumbnailUrl.coalesce(ri.imageUrl))
+        .from(ri)
+        .join(ri.review, r)
+        .where(
+            r.place.id.eq(placeId),
+            ri.id.eq(
+                JPAExpressions.select(firstImage.id.min())
+                    .from(firstImage)
+                    .where(firstImage.review.eq(r))))
+        .orderBy(r.createdAt.desc())
+        .limit(limit)
+        .fetch();
   }
 
   // 장소별 추천 비율 반환 (0~100)
   @Override
   public Integer getRecommendationPercent(Long placeId) {
-    Long recommendedCountObj =
+    Tuple row =
         jpaQueryFactory
-            .select(r.count())
-            .from(r)
-            .where(r.place.id.eq(placeId).and(r.recommendation.eq(true)))
+            .select(s.reviewCount, s.recommendedCount)
+            .from(s)
+            .where(s.placeId.eq(placeId))
             .fetchOne();
 
-    Long totalCountObj =
-        jpaQueryFactory.select(r.count()).from(r).where(r.place.id.eq(placeId)).fetchOne();
-
-    long recommendedCount = (recommendedCountObj == null) ? 0L : recommendedCountObj;
-    long totalCount = (totalCountObj == null) ? 0L : totalCountObj;
+    if (row == null) {
+      return null;
+    }
+    return toRecommendationPercent(row.get(s.reviewCount), row.get(s.recommendedCount));
+  }
 
-    if (totalCount == 0) {
+  private static Integer toRecommendationPercent(Long totalCount, Long recommendedCount) {
+    if (totalCount == null || totalCount <= 0) {
       return null;
     }
 
@@ -88,6 +103,145 @@ public class PlaceRepositoryImpl implements PlaceRepositoryCustom {
     return (int) percent;
   }
 
+  // 여러 장소의 최다 태그, 썸네일, 추천 비율을 장소 수와 무관하게 고정된 쿼리 수로 조회
+  @Override
+  public Map<Long, PlacePreviewStats> getPreviewStatsForPlaces(
+      List<Long> placeIds, int tagLimit, int thumbnailLimit) {
+    if (placeIds.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, List<String>> topTags = getTopTagsForPlaces(placeIds, tagLimit);
+    Map<Long, List<String>> thumbnails = getReviewThumbnailsForPlaces(placeIds, thumbnailLimit);
+    Map<Long, Integer> recommendationPercents = getRecommendationPercentsForPlaces(placeIds);
+
+    Map<Long, PlacePreviewStats> result = new HashMap<>();
+    for (Long placeId : placeIds) {
+      result.put(
+          placeId,
+          new PlacePreviewStats(
+              topTags.getOrDefault(placeId, List.of()),
+              thumbnails.getOrDefault(placeId, List.of()),
+              recommendationPercents.get(placeId)));
+    }
+    return result;
+  }
+
+  // 장소별 태그 통계를 한 번에 조회한 뒤, 장소마다 상위 n개만 남김
+  @Override
+  public Map<Long, List<String>> getTopTagsForPlaces(List<Long> placeIds, int limit) {
+    List<Tuple> rows =
+        jpaQueryFactory
+            .select(ts.placeId, ts.name)
+            .from(ts)
+            .where(ts.placeId.in(placeIds), ts.tagCount.gt(0L))
+            .orderBy(ts.placeId.asc(), ts.tagCount.desc(), ts.name.asc())
+            .fetch();
+
+    Map<Long, List<String>> result = new HashMap<>();
+    for (Tuple row : rows) {
+      List<String> tags = result.computeIfAbsent(row.get(ts.placeId), k -> new ArrayList<>());
+      if (tags.size() < limit) {
+        tags.add(row.get(ts.name));
+      }
+    }
+    return result;
+  }
+
+  // 리뷰별 첫 번째 이미지만 최신 리뷰순으로 한 번에 조회한 뒤, 장소마다 n개만 남김
+  private Map<Long, List<String>> getReviewThumbnailsForPlaces(List<Long> placeIds, int limit) {
+    QReviewImage firstImage = new QReviewImage("firstImage");
+    StringExpression thumbnail = ri.thumbnailUrl.coalesce(ri.imageUrl);
+
+    List<Tuple> rows =
+        jpaQueryFactory
+            .select(r.place.id, thumbnail)
+            .from(ri)
+            .join(ri.review, r)
+            .where(
+                r.place.id.in(placeIds),
+                ri.id.eq(
+                    JPAExpressions.select(firstImage.id.min())
+                        .from(firstImage)
+                        .where(firstImage.review.eq(r))))
+            .orderBy(r.place.id.asc(), r.createdAt.desc())
+            .fetch();
+
+    Map<Long, List<String>> result = new HashMap<>();
+    for (Tuple row : rows) {
+      List<String> urls = result.computeIfAbsent(row.get(r.place.id), k -> new ArrayList<>());
+      if (urls.size() < limit) {
+        urls.add(row.get(thumbnail));
+      }
+    }
+    return result;
+  }
+
+  // 장소별 리뷰 통계를 한 번에 조회하여 추천 비율(0~100) 계산
+  @Override
+  public Map<Long, Integer> getRecommendationPercentsForPlaces(List<Long> placeIds) {
+    List<Tuple> rows =
+        jpaQueryFactory
+            .select(s.placeId, s.reviewCount, s.recommendedCount)
+            .from(s)
+            .where(s.placeId.in(placeIds))
+            .fetch();
+
+    Map<Long, Integer> result = new HashMap<>();
+    for (Tuple row : rows) {
+      Integer percent =
+          toRecommendationPercent(row.get(s.reviewCount), row.get(s.recommendedCount));
+      if (percent != null) {
+        result.put(row.get(s.placeId), percent);
+      }
+    }
+    return result;
+  }
+
+  // 공간 인덱스 적재용 장소 좌표/카테고리 조회 (afterId 초과 또는 updatedAfter 이후 변경된 장소만, 둘 다 null이면 전체)
+  @Override
+  public List<PlaceLocationRow> findLocationRows(Long afterId, LocalDateTime updatedAfter) {
+    BooleanBuilder changed = new BooleanBuilder();
+    if (afterId != null) changed.or(p.id.gt(afterId));
+    if (updatedAfter != null) changed.or(p.updatedAt.gt(updatedAfter));
+
+    return jpaQueryFactory
+        .select(new QPlaceLocationRow(p.id, p.latitude, p.longitude, pc.id, c.name))
+        .from(p)
+        .join(p.placeCategories, pc)
+        .join(pc.category, c)
+        .where(changed)
+        .orderBy(p.id.asc(), pc.id.asc())
+        .fetch();
+  }
+
+  // 자동완성 인덱스 적재용 장소명/주소/좌표/카테고리 조회 (변경 조건은 findLocationRows와 동일)
+  @Override
+  public List<PlaceNameRow> findNameRows(Long afterId, LocalDateTime updatedAfter) {
+    BooleanBuilder changed = new BooleanBuilder();
+    if (afterId != null) changed.or(p.id.gt(afterId));
+    if (updatedAfter != null) changed.or(p.updatedAt.gt(updatedAfter));
+
+    return jpaQueryFactory
+        .select(new QPlaceNameRow(p.id, p.name, p.address, p.latitude, p.longitude, pc.id, c.name))
+        .from(p)
+        .join(p.placeCategories, pc)
+        .join(pc.category, c)
+        .where(changed)
+        .orderBy(p.id.asc(), pc.id.asc())
+        .fetch();
+  }
+
+  // 영업 시간 인덱스 적재용 (장소 ID 순)
+  @Override
+  public List<PlaceHourRow> findHourRows() {
+    return jpaQueryFactory
+        .select(new QPlaceHourRow(ph.place.id, ph.dayOfWeek, ph.startTime, ph.endTime))
+        .from(ph)
+        .orderBy(ph.place.id.asc())
+        .fetch();
+  }
+
   @Override
   public List<PlaceSearchResponse> getPlacesByKeyword(String keyword) {
     return jpaQueryFactory
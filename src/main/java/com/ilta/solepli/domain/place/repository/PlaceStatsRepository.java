@@ -0,0 +1,41 @@
+package com.ilta.solepli.domain.place.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import com.ilta.solepli.domain.place.entity.PlaceStats;
+
+public interface PlaceStatsRepository extends JpaRepository<PlaceStats, Long> {
+
+  // 통계 행이 없으면 생성하고, 있으면 원자적으로 증감
+  // 네이티브 DML은 영향받는 테이블을 알 수 없어 2차 캐시 전체를 비우므로, 갱신 대상 테이블만 동기화 공간으로 지정
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "place_stats"))
+  @Query(
+      value =
+          """
+          INSERT INTO place_stats (place_id, review_count, recommended_count, rating_sum)
+          VALUES (:placeId, :reviewDelta, :recommendedDelta, :ratingDelta)
+          ON DUPLICATE KEY UPDATE
+            review_count = review_count + :reviewDelta,
+            recommended_count = recommended_count + :recommendedDelta,
+            rating_sum = rating_sum + :ratingDelta
+          """,
+      nativeQuery = true)
+  void increment(
+      @Param("placeId") Long placeId,
+      @Param("reviewDelta") int reviewDelta,
+      @Param("recommendedDelta") int recommendedDelta,
+      @Param("ratingDelta") long ratingDelta);
+
+  @Query(
+      "SELECT s.ratingSum * 1.0 / s.reviewCount FROM PlaceStats s "
+          + "WHERE s.placeId = :placeId AND s.reviewCount > 0")
+  Double findAverageRatingByPlaceId(@Param("placeId") Long placeId);
+}
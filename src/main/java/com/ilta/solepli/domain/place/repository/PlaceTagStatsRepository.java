@@ -0,0 +1,46 @@
+package com.ilta.solepli.domain.place.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import com.ilta.solepli.domain.place.entity.PlaceTagStats;
+import com.ilta.solepli.domain.solmap.dto.TagInfo;
+import com.ilta.solepli.domain.tag.entity.TagType;
+
+public interface PlaceTagStatsRepository extends JpaRepository<PlaceTagStats, Long> {
+
+  // 태그 통계 행이 없으면 생성하고, 있으면 원자적으로 증감 (2차 캐시는 place_tag_stats 공간만 무효화)
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "place_tag_stats"))
+  @Query(
+      value =
+          """
+          INSERT INTO place_tag_stats (place_id, tag_type, name, tag_count)
+          VALUES (:placeId, :tagType, :name, :delta)
+          ON DUPLICATE KEY UPDATE tag_count = tag_count + :delta
+          """,
+      nativeQuery = true)
+  void increment(
+      @Param("placeId") Long placeId,
+      @Param("tagType") String tagType,
+      @Param("name") String name,
+      @Param("delta") int delta);
+
+  @Query(
+      """
+      SELECT new com.ilta.solepli.domain.solmap.dto.TagInfo(s.name, s.tagCount)
+      FROM PlaceTagStats s
+      WHERE s.placeId = :placeId AND s.tagType = :tagType AND s.tagCount > 0
+      ORDER BY s.tagCount DESC, s.name ASC
+      """)
+  List<TagInfo> findTagCountsByPlaceAndType(
+      @Param("placeId") Long placeId, @Param("tagType") TagType tagType);
+}
@@ -0,0 +1,50 @@
+package com.ilta.solepli.domain.place.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.repository.PlaceStatsRepository;
+import com.ilta.solepli.domain.place.repository.PlaceTagStatsRepository;
+import com.ilta.solepli.domain.review.entity.Review;
+import com.ilta.solepli.domain.review.entity.mapping.ReviewTag;
+
+/** 리뷰 작성/삭제 시 장소 통계(place_stats, place_tag_stats)를 같은 트랜잭션 안에서 증분 갱신한다. */
+@Service
+@RequiredArgsConstructor
+public class PlaceStatsService {
+
+  private final PlaceStatsRepository placeStatsRepository;
+  private final PlaceTagStatsRepository placeTagStatsRepository;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyReviewCreated(Review review) {
+    apply(review, 1);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyReviewDeleted(Review review) {
+    apply(review, -1);
+  }
+
+  private void apply(Review review, int sign) {
+    Place place = review.getPlace();
+
+    placeStatsRepository.increment(
+        place.getId(),
+        sign,
+        Boolean.TRUE.equals(review.getRecommendation()) ? sign : 0,
+        (long) sign * review.getRating());
+
+    for (ReviewTag reviewTag : review.getReviewTags()) {
+      placeTagStatsRepository.increment(
+          place.getId(), reviewTag.getTagType().name(), reviewTag.getName(), sign);
+    }
+
+    // 평점 평균도 통계 값으로 갱신 (리뷰가 없으면 null)
+    place.updateRating(placeStatsRepository.findAverageRatingByPlaceId(place.getId()));
+  }
+}
@@ -0,0 +1,13 @@
+package com.ilta.solepli.domain.review.dto;
+
+import java.time.LocalDateTime;
+
+/** 리뷰 피드 한 건. 이미지 URL과 태그는 페이지의 리뷰 ID로 따로 조회해 ReviewValueRow로 받는다. */
+public record ReviewFeedRow(
+    Long id,
+    Boolean recommendation,
+    Integer rating,
+    String content,
+    LocalDateTime createdAt,
+    String userNickname,
+    String userProfileImageUrl) {}
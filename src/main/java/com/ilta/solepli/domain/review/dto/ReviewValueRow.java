@@ -0,0 +1,4 @@
+package com.ilta.solepli.domain.review.dto;
+
+/** 리뷰 피드에 붙는 값(이미지 URL 또는 태그명) 한 건과 그 값이 속한 리뷰 ID */
+public record ReviewValueRow(Long reviewId, String value) {}
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -34,7 +35,10 @@ import com.ilta.solepli.global.entity.Timestamped;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "reviews")
+@Table(
+    name = "reviews",
+    indexes =
+        @Index(name = "idx_reviews_place_feed", columnList = "place_id, deleted_at, id DESC"))
 public class Review extends Timestamped {
 
   @Id
@@ -34,6 +34,8 @@ public class ReviewImage {
   @Column(nullable = false)
   private String imageUrl;
 
+  private String thumbnailUrl; // 썸네일 축소본 (없으면 원본 사용)
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "review_id")
   @OnDelete(action = OnDeleteAction.CASCADE)
@@ -8,23 +8,45 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.review.dto.ReviewFeedRow;
+import com.ilta.solepli.domain.review.dto.ReviewValueRow;
 import com.ilta.solepli.domain.review.entity.Review;
 import com.ilta.solepli.domain.user.entity.User;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-  @Query("SELECT AVG(r.rating) FROM Review r WHERE r.place.id = :placeId")
-  Double findAverageRatingByPlaceId(@Param("placeId") Long placeId);
-
   boolean existsByUserAndPlace(User user, Place place);
 
+  // 리뷰 피드 한 페이지 조회 (idx_reviews_place_feed 인덱스 사용). 이미지와 태그는 아래 쿼리로 페이지 단위로 조회
+  @Query(
+      """
+      SELECT new com.ilta.solepli.domain.review.dto.ReviewFeedRow(
+        r.id, r.recommendation, r.rating, r.content, r.createdAt,
+        u.nickname, u.profileImageUrl)
+      FROM Review r
+      JOIN r.user u
+      WHERE r.place.id = :placeId
+        AND r.deletedAt IS NULL
+        AND (:cursorId IS NULL OR r.id < :cursorId)
+      ORDER BY r.id DESC
+      """)
+  List<ReviewFeedRow> findFeedByPlaceId(
+      @Param("placeId") Long placeId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new com.ilta.solepli.domain.review.dto.ReviewValueRow(ri.review.id, ri.imageUrl)
+      FROM ReviewImage ri
+      WHERE ri.review.id IN :reviewIds
+      ORDER BY ri.id
+      """)
+  List<ReviewValueRow> findImageUrlsByReviewIds(@Param("reviewIds") List<Long> reviewIds);
+
   @Query(
       """
-                      SELECT r
-                      FROM Review r
-                      JOIN FETCH r.user u
-                      JOIN FETCH r.reviewImages ri
-                      WHERE r.place.id = :placeId
-                      ORDER BY r.createdAt DESC
-                  """)
-  List<Review> findByWithImagesAndUserByPlaceId(@Param("placeId") Long placeId, Pageable pageable);
+      SELECT new com.ilta.solepli.domain.review.dto.ReviewValueRow(rt.review.id, rt.name)
+      FROM ReviewTag rt
+      WHERE rt.review.id IN :reviewIds
+      ORDER BY rt.id
+      """)
+  List<ReviewValueRow> findTagNamesByReviewIds(@Param("reviewIds") List<Long> reviewIds);
 }
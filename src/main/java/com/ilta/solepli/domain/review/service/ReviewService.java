@@ -4,22 +4,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.place.entity.Place;
 import com.ilta.solepli.domain.place.repository.PlaceRepository;
+import com.ilta.solepli.domain.place.service.PlaceStatsService;
 import com.ilta.solepli.domain.review.dto.request.ReviewCreateRequest;
 import com.ilta.solepli.domain.review.entity.Review;
 import com.ilta.solepli.domain.review.entity.mapping.ReviewImage;
 import com.ilta.solepli.domain.review.entity.mapping.ReviewTag;
 import com.ilta.solepli.domain.review.repository.ReviewRepository;
+import com.ilta.solepli.domain.solmap.service.PlaceDetailCacheService;
 import com.ilta.solepli.domain.tag.entity.MoodTag;
 import com.ilta.solepli.domain.tag.entity.SoloTag;
 import com.ilta.solepli.domain.tag.entity.TagType;
 import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.global.dto.UploadedImage;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
 import com.ilta.solepli.global.service.S3Service;
@@ -31,9 +34,29 @@ public class ReviewService {
   private final PlaceRepository placeRepository;
   private final ReviewRepository reviewRepository;
   private final S3Service s3Service;
-
-  @Transactional
+  private final PlaceStatsService placeStatsService;
+  private final PlaceDetailCacheService placeDetailCacheService;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 리뷰를 작성한다. 이미지는 트랜잭션을 열기 전에 S3에 동시 업로드하고, 트랜잭션에서는 업로드된 URL만 저장한다. 업로드 동안 DB 커넥션을 점유하지 않으며,
+   * 저장에 실패하면 업로드한 이미지를 삭제한다.
+   */
   public void createReview(ReviewCreateRequest request, List<MultipartFile> files, User user) {
+    validateTags(request);
+    validateImages(files);
+
+    List<UploadedImage> images = files == null ? List.of() : s3Service.uploadReviewImages(files);
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> saveReview(request, images, user));
+    } catch (RuntimeException e) {
+      s3Service.deleteImagesQuietly(images);
+      throw e;
+    }
+  }
+
+  private void saveReview(ReviewCreateRequest request, List<UploadedImage> images, User user) {
     Place place =
         placeRepository
             .findById(request.placeId())
@@ -55,13 +78,41 @@ public class ReviewService {
 
     // 리뷰 태그 저장
     List<ReviewTag> reviewTags = new ArrayList<>();
+    for (String tag : request.moodTag()) {
+      reviewTags.add(ReviewTag.builder().name(tag).review(review).tagType(TagType.MOOD).build());
+    }
+    for (String tag : request.soloTag()) {
+      reviewTags.add(ReviewTag.builder().name(tag).review(review).tagType(TagType.SOLO).build());
+    }
+    review.getReviewTags().addAll(reviewTags);
+
+    // 리뷰 이미지 저장 (업로드된 URL만 반영)
+    for (UploadedImage image : images) {
+      review
+          .getReviewImages()
+          .add(
+              ReviewImage.builder()
+                  .imageUrl(image.url())
+                  .thumbnailUrl(image.variantUrl())
+                  .review(review)
+                  .build());
+    }
 
+    reviewRepository.save(review);
+
+    // 장소 통계(리뷰 수, 추천 수, 평점, 태그 수) 증분 갱신 및 평점 반영
+    placeStatsService.applyReviewCreated(review);
+
+    // 커밋 후 장소 상세 캐시 무효화
+    placeDetailCacheService.evictAfterCommit(place.getId());
+  }
+
+  private void validateTags(ReviewCreateRequest request) {
     // 분위기 태그
     for (String tag : request.moodTag()) {
       if (!MoodTag.isValid(tag)) {
         throw new CustomException(ErrorCode.TAG_NOT_EXISTS);
       }
-      reviewTags.add(ReviewTag.builder().name(tag).review(review).tagType(TagType.MOOD).build());
     }
 
     // 1인 이용 태그
@@ -69,32 +120,20 @@ public class ReviewService {
       if (!SoloTag.isValid(tag)) {
         throw new CustomException(ErrorCode.TAG_NOT_EXISTS);
       }
-      reviewTags.add(ReviewTag.builder().name(tag).review(review).tagType(TagType.SOLO).build());
     }
-    review.getReviewTags().addAll(reviewTags);
-
-    // 리뷰 이미지 저장
-    if (files != null) {
-      if (files.size() > 5) {
-        throw new CustomException(ErrorCode.TOO_MANY_REVIEW_IMAGES);
-      }
+  }
 
-      List<ReviewImage> reviewImages = new ArrayList<>();
-      for (MultipartFile file : files) {
-        if (file.getSize() > 5 * 1024 * 1024) {
-          throw new CustomException(ErrorCode.IMAGE_SIZE_EXCEEDED);
-        }
-        String imageUrl = s3Service.uploadReviewImage(file);
-        ReviewImage reviewImage = ReviewImage.builder().imageUrl(imageUrl).review(review).build();
-        reviewImages.add(reviewImage);
+  private void validateImages(List<MultipartFile> files) {
+    if (files == null) {
+      return;
+    }
+    if (files.size() > 5) {
+      throw new CustomException(ErrorCode.TOO_MANY_REVIEW_IMAGES);
+    }
+    for (MultipartFile file : files) {
+      if (file.getSize() > 5 * 1024 * 1024) {
+        throw new CustomException(ErrorCode.IMAGE_SIZE_EXCEEDED);
       }
-      review.getReviewImages().addAll(reviewImages);
     }
-
-    reviewRepository.save(review);
-    reviewRepository.flush(); // 강제로 insert 쿼리 실행
-
-    // 리뷰 평점 계산
-    place.updateRating(reviewRepository.findAverageRatingByPlaceId(place.getId()));
   }
 }
@@ -0,0 +1,336 @@
+package com.ilta.solepli.domain.search.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.place.dto.PlaceNameRow;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+import com.ilta.solepli.domain.search.util.HangulJamo;
+import com.ilta.solepli.global.util.PlaceUtil;
+
+/**
+ * 장소명 자동완성용 인메모리 인덱스.
+ *
+ * <p>장소명을 자모 단위로 분해한 뒤 각 글자에서 시작하는 접미사를 정렬된 배열로 보관한다. 검색어도 같은 방식으로 분해해 이진 탐색으로 접두사가 일치하는
+ * 구간만 훑으므로, 이름 중간의 단어나 입력 중인 음절("캎" → "카페")도 한 번의 조회로 찾는다. 이름이 검색어로 시작하는 장소와 사용자와 가까운 장소에
+ * 가산점을 준다.
+ *
+ * <p>PlaceSpatialIndex와 같이 기동 시 전체를 적재하고 이후에는 추가/수정된 장소만 반영하되 주기적으로 전체를 다시 적재하며, 스냅샷은 불변
+ * 객체로 교체된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceNameIndex {
+
+  private static final long REFRESH_DELAY_MS = 60_000;
+  private static final long REBUILD_DELAY_MS = 30 * 60_000;
+  private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+  private static final double NAME_PREFIX_BOOST = 0.5; // 이름이 검색어로 시작하는 경우 가산점
+  private static final double DISTANCE_SCALE_METER = 1_000; // 이 거리에서 거리 점수가 절반이 됨
+
+  private final PlaceRepository placeRepository;
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private volatile boolean ready = false;
+
+  // 적재/갱신은 DB 조회를 포함하므로 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 사용
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private LocalDateTime lastRefreshedAt;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /** 증분 반영으로는 알 수 없는 장소 삭제와 대표 카테고리 변경을 바로잡기 위해 주기적으로 전체를 다시 적재한다. */
+  @Scheduled(fixedDelay = REBUILD_DELAY_MS, initialDelay = REBUILD_DELAY_MS)
+  public void rebuild() {
+    refreshLock.lock();
+    try {
+      LocalDateTime watermark = watermark();
+      List<PlaceNameRow> rows = placeRepository.findNameRows(null, null);
+
+      snapshot = Snapshot.build(Snapshot.EMPTY, rows);
+      lastRefreshedAt = watermark;
+      ready = true;
+
+      log.info("[PlaceNameIndex] {}개 장소, {}개 키 적재 완료", snapshot.size, snapshot.keys.length);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /** 마지막 반영 이후 추가(id 증가) 또는 수정(updatedAt 갱신)된 장소만 스냅샷에 반영한다. */
+  @Scheduled(fixedDelay = REFRESH_DELAY_MS, initialDelay = REFRESH_DELAY_MS)
+  public void refresh() {
+    refreshLock.lock();
+    try {
+      if (!ready) {
+        return;
+      }
+
+      LocalDateTime watermark = watermark();
+      List<PlaceNameRow> rows = placeRepository.findNameRows(snapshot.maxPlaceId, lastRefreshedAt);
+
+      if (!rows.isEmpty()) {
+        snapshot = Snapshot.build(snapshot, rows);
+        log.info("[PlaceNameIndex] {}개 행 반영, 총 {}개 장소", rows.size(), snapshot.size);
+      }
+      lastRefreshedAt = watermark;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  // 다음 증분 조회 기준 시각 (PlaceSpatialIndex와 같이 updated_at을 기록하는 JVM 시계 기준으로 WATERMARK_OVERLAP만큼 겹치게 조회)
+  private static LocalDateTime watermark() {
+    return LocalDateTime.now().minus(WATERMARK_OVERLAP);
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 이름에 keyword가 포함된 장소를 점수순으로 최대 limit개 반환한다. 사용자 좌표가 없으면 거리 가산점 없이 이름 일치도와 ID로만 정렬한다.
+   */
+  public List<PlaceSuggestion> search(String keyword, Double userLat, Double userLng, int limit) {
+    String query = HangulJamo.decompose(keyword);
+    if (query.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    Snapshot s = snapshot;
+
+    // 접두사가 일치하는 키 구간을 훑으며 장소별 최고 이름 점수를 구함
+    Map<Integer, Double> nameScores = new HashMap<>();
+    for (int k = lowerBound(s.keys, query); k < s.keys.length; k++) {
+      if (!s.keys[k].startsWith(query)) {
+        break;
+      }
+      double nameScore = s.keyAtNameStart[k] ? NAME_PREFIX_BOOST : 0;
+      nameScores.merge(s.keyEntries[k], nameScore, Math::max);
+    }
+
+    // 점수가 낮은 순으로 꺼내지는 크기 limit의 힙으로 상위 limit개만 유지
+    Comparator<ScoredEntry> byScore =
+        Comparator.comparingDouble(ScoredEntry::score)
+            .thenComparing(e -> s.ids[e.index()], Comparator.reverseOrder());
+    PriorityQueue<ScoredEntry> top = new PriorityQueue<>(limit + 1, byScore);
+    nameScores.forEach(
+        (i, nameScore) -> {
+          top.add(new ScoredEntry(i, nameScore + distanceScore(s, i, userLat, userLng)));
+          if (top.size() > limit) {
+            top.poll();
+          }
+        });
+
+    List<ScoredEntry> entries = new ArrayList<>(top);
+    entries.sort(byScore.reversed());
+
+    List<PlaceSuggestion> result = new ArrayList<>(entries.size());
+    for (ScoredEntry entry : entries) {
+      int i = entry.index();
+      result.add(
+          new PlaceSuggestion(
+              s.ids[i],
+              s.names[i],
+              s.addresses[i],
+              s.latitudes[i],
+              s.longitudes[i],
+              s.categories[i]));
+    }
+    return result;
+  }
+
+  private static double distanceScore(Snapshot s, int i, Double userLat, Double userLng) {
+    if (userLat == null || userLng == null) {
+      return 0;
+    }
+    double meter = PlaceUtil.calculateDistance(userLat, userLng, s.latitudes[i], s.longitudes[i]);
+    return 1 / (1 + meter / DISTANCE_SCALE_METER);
+  }
+
+  private static int lowerBound(String[] keys, String query) {
+    int found = Arrays.binarySearch(keys, query);
+    return found >= 0 ? firstEqual(keys, found) : -found - 1;
+  }
+
+  private static int firstEqual(String[] keys, int index) {
+    while (index > 0 && keys[index - 1].equals(keys[index])) {
+      index--;
+    }
+    return index;
+  }
+
+  private record ScoredEntry(int index, double score) {}
+
+  private record Key(String text, int entry, boolean atNameStart) {}
+
+  /** 인덱스의 불변 스냅샷. i번째 장소의 정보는 각 배열의 i번째 원소에 저장된다. */
+  private static final class Snapshot {
+
+    static final Snapshot EMPTY =
+        new Snapshot(
+            0,
+            new long[0],
+            new String[0],
+            new String[0],
+            new double[0],
+            new double[0],
+            new String[0],
+            new String[0],
+            new int[0],
+            new boolean[0],
+            0L);
+
+    final int size;
+    final long[] ids;
+    final String[] names;
+    final String[] addresses;
+    final double[] latitudes;
+    final double[] longitudes;
+    final String[] categories; // 대표 카테고리명
+    final String[] keys; // 자모 분해된 이름 접미사 (정렬됨)
+    final int[] keyEntries; // 키가 속한 장소의 스냅샷 내 인덱스
+    final boolean[] keyAtNameStart; // 이름 첫 글자에서 시작하는 키 여부
+    final long maxPlaceId;
+
+    private Snapshot(
+        int size,
+        long[] ids,
+        String[] names,
+        String[] addresses,
+        double[] latitudes,
+        double[] longitudes,
+        String[] categories,
+        String[] keys,
+        int[] keyEntries,
+        boolean[] keyAtNameStart,
+        long maxPlaceId) {
+      this.size = size;
+      this.ids = ids;
+      this.names = names;
+      this.addresses = addresses;
+      this.latitudes = latitudes;
+      this.longitudes = longitudes;
+      this.categories = categories;
+      this.keys = keys;
+      this.keyEntries = keyEntries;
+      this.keyAtNameStart = keyAtNameStart;
+      this.maxPlaceId = maxPlaceId;
+    }
+
+    /**
+     * 기존 스냅샷에 변경된 행(rows)을 덮어써 새 스냅샷을 만든다. rows는 placeId, placeCategoryId 오름차순이며 장소별 첫 행이 대표
+     * 카테고리이다.
+     */
+    static Snapshot build(Snapshot base, List<PlaceNameRow> rows) {
+      Set<Long> changedIds = new HashSet<>();
+      for (PlaceNameRow row : rows) {
+        changedIds.add(row.placeId());
+      }
+
+      int capacity = base.size + changedIds.size();
+      long[] ids = new long[capacity];
+      String[] names = new String[capacity];
+      String[] addresses = new String[capacity];
+      double[] latitudes = new double[capacity];
+      double[] longitudes = new double[capacity];
+      String[] categories = new String[capacity];
+      int size = 0;
+
+      // 변경되지 않은 기존 장소 복사
+      for (int i = 0; i < base.size; i++) {
+        if (changedIds.contains(base.ids[i])) {
+          continue;
+        }
+        ids[size] = base.ids[i];
+        names[size] = base.names[i];
+        addresses[size] = base.addresses[i];
+        latitudes[size] = base.latitudes[i];
+        longitudes[size] = base.longitudes[i];
+        categories[size] = base.categories[i];
+        size++;
+      }
+
+      // 변경된 장소 추가 (같은 장소의 행은 연속되어 있으며 첫 행만 사용)
+      long maxPlaceId = base.maxPlaceId;
+      Long currentId = null;
+      for (PlaceNameRow row : rows) {
+        if (row.placeId().equals(currentId)) {
+          continue;
+        }
+        currentId = row.placeId();
+        ids[size] = currentId;
+        names[size] = row.name();
+        addresses[size] = row.address();
+        latitudes[size] = row.latitude();
+        longitudes[size] = row.longitude();
+        categories[size] = row.categoryName();
+        size++;
+        maxPlaceId = Math.max(maxPlaceId, currentId);
+      }
+
+      // 장소명의 각 글자에서 시작하는 자모 접미사를 키로 생성
+      List<Key> keyList = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        String name = names[i];
+        if (name == null) {
+          continue;
+        }
+        StringBuilder jamo = new StringBuilder(name.length() * 3);
+        int[] offsets = new int[name.length()];
+        int count = HangulJamo.decompose(name, jamo, offsets);
+        String decomposed = jamo.toString();
+        for (int c = 0; c < count; c++) {
+          keyList.add(new Key(decomposed.substring(offsets[c]), i, c == 0));
+        }
+      }
+      keyList.sort(Comparator.comparing(Key::text));
+
+      String[] keys = new String[keyList.size()];
+      int[] keyEntries = new int[keyList.size()];
+      boolean[] keyAtNameStart = new boolean[keyList.size()];
+      for (int k = 0; k < keyList.size(); k++) {
+        Key key = keyList.get(k);
+        keys[k] = key.text();
+        keyEntries[k] = key.entry();
+        keyAtNameStart[k] = key.atNameStart();
+      }
+
+      return new Snapshot(
+          size,
+          Arrays.copyOf(ids, size),
+          Arrays.copyOf(names, size),
+          Arrays.copyOf(addresses, size),
+          Arrays.copyOf(latitudes, size),
+          Arrays.copyOf(longitudes, size),
+          Arrays.copyOf(categories, size),
+          keys,
+          keyEntries,
+          keyAtNameStart,
+          maxPlaceId);
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.ilta.solepli.domain.search.index;
+
+public record PlaceSuggestion(
+    long id, String name, String address, double latitude, double longitude, String category) {}
@@ -0,0 +1,83 @@
+package com.ilta.solepli.domain.search.util;
+
+/**
+ * 한글 음절을 자모 단위로 분해하는 유틸.
+ *
+ * <p>입력 중인 마지막 음절("캎")도 완성된 단어("카페")의 접두사로 매칭되도록, 음절을 초성/중성/종성으로 나누고 겹모음(ㅘ)과 겹받침(ㄳ)까지 낱자로
+ * 분해한다. 한글이 아닌 문자는 소문자로만 바꾸어 그대로 둔다.
+ */
+public final class HangulJamo {
+
+  private static final char SYLLABLE_BEGIN = '가';
+  private static final char SYLLABLE_END = '힣';
+  private static final char COMPAT_JAMO_BEGIN = 'ㄱ';
+  private static final char COMPAT_JAMO_END = 'ㅣ';
+
+  private static final int JUNG_COUNT = 21;
+  private static final int JONG_COUNT = 28;
+
+  private static final String[] CHO = {
+    "ㄱ", "ㄱㄱ", "ㄴ", "ㄷ", "ㄷㄷ", "ㄹ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ",
+    "ㅍ", "ㅎ"
+  };
+  private static final String[] JUNG = {
+    "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+    "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+  private static final String[] JONG = {
+    "", "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ",
+    "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 호환용 자모(ㄱ~ㅣ)를 직접 입력한 경우의 분해 결과
+  private static final String[] COMPAT_JAMO = {
+    "ㄱ", "ㄱㄱ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄷㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ",
+    "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅂ", "ㅂㅅ", "ㅅ", "ㅅㅅ", "ㅇ", "ㅈ", "ㅈㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ", "ㅏ", "ㅐ",
+    "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ",
+    "ㅡㅣ", "ㅣ"
+  };
+
+  private HangulJamo() {}
+
+  /** 공백을 제거하고 자모 단위로 분해한 문자열을 반환한다. */
+  public static String decompose(String text) {
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      appendJamo(sb, text.charAt(i));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 문자열을 분해하면서 각 문자가 시작되는 분해 결과 내 위치를 offsets에 기록한다. offsets의 길이는 분해 전 문자열 길이 이상이어야 하며, 반환값은
+   * 기록된 위치 수(공백 제외 문자 수)이다.
+   */
+  public static int decompose(String text, StringBuilder out, int[] offsets) {
+    int count = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (Character.isWhitespace(ch)) {
+        continue;
+      }
+      offsets[count++] = out.length();
+      appendJamo(out, ch);
+    }
+    return count;
+  }
+
+  private static void appendJamo(StringBuilder sb, char ch) {
+    if (Character.isWhitespace(ch)) {
+      return;
+    }
+    if (ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END) {
+      int index = ch - SYLLABLE_BEGIN;
+      sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+      sb.append(JUNG[(index / JONG_COUNT) % JUNG_COUNT]);
+      sb.append(JONG[index % JONG_COUNT]);
+    } else if (ch >= COMPAT_JAMO_BEGIN && ch <= COMPAT_JAMO_END) {
+      sb.append(COMPAT_JAMO[ch - COMPAT_JAMO_BEGIN]);
+    } else {
+      sb.append(Character.toLowerCase(ch));
+    }
+  }
+}
@@ -26,9 +26,11 @@ import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.sollect.dto.request.KeywordRequest;
 import com.ilta.solepli.domain.sollect.dto.request.SollectCreateRequest;
+import com.ilta.solepli.domain.sollect.dto.request.SollectImageConfirmRequest;
 import com.ilta.solepli.domain.sollect.dto.request.SollectUpdateRequest;
 import com.ilta.solepli.domain.sollect.dto.response.SollectCreateResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectDetailResponse;
+import com.ilta.solepli.domain.sollect.dto.response.SollectImageUploadUrlResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectPlaceAddPreviewResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectSearchResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectSearchResponse.PopularSollectContent;
@@ -62,6 +64,34 @@ public class SollectController {
                 sollectService.createSollect(request, userDetails.user())));
   }
 
+  @Operation(
+      summary = "쏠렉트 이미지 업로드 URL 발급 API",
+      description =
+          "이미지가 아직 업로드되지 않은 콘텐츠마다 S3에 직접 업로드할 presigned PUT URL을 발급하는 API입니다. filename이 같은 파일을 uploadUrl로 PUT하고(Content-Type 헤더는 contentType 값 사용), 완료 후 업로드 확인 API로 key를 보내주세요.")
+  @PostMapping("/{id}/upload-urls")
+  public ResponseEntity<SuccessResponse<SollectImageUploadUrlResponse>> createImageUploadUrls(
+      @PathVariable Long id, @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+    return ResponseEntity.ok()
+        .body(
+            SuccessResponse.successWithData(
+                sollectService.createImageUploadUrls(id, userDetails.user())));
+  }
+
+  @Operation(
+      summary = "쏠렉트 이미지 업로드 확인 API",
+      description = "S3에 직접 업로드를 마친 이미지 key 목록을 한 번에 쏠렉트 콘텐츠에 반영하는 API입니다.")
+  @PostMapping("/{id}/upload/confirm")
+  public ResponseEntity<SuccessResponse<Void>> confirmImageUploads(
+      @PathVariable Long id,
+      @Valid @RequestBody SollectImageConfirmRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+    sollectService.confirmImageUploads(id, request, userDetails.user());
+
+    return ResponseEntity.ok().body(SuccessResponse.successWithNoData("쏠렉트 이미지 업로드 확인 성공"));
+  }
+
   @Operation(summary = "쏠렉트 이미지 업로드 API", description = "쏠렉트의 이미지를 업로드하는 API입니다. (등록 or 수정시 사용)")
   @PostMapping(value = "/{id}/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<SuccessResponse<Void>> uploadSollectImage(
@@ -0,0 +1,10 @@
+package com.ilta.solepli.domain.sollect.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+public record SollectImageConfirmRequest(
+    @NotEmpty(message = "업로드한 이미지 키 목록은 비워둘 수 없습니다.")
+        List<@NotBlank(message = "이미지 키는 비어 있을 수 없습니다.") String> keys) {}
@@ -0,0 +1,11 @@
+package com.ilta.solepli.domain.sollect.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record SollectImageUploadUrlResponse(List<UploadUrl> uploadUrls) {
+  @Builder
+  public record UploadUrl(String filename, String key, String uploadUrl, String contentType) {}
+}
@@ -46,6 +46,8 @@ public class SollectContent extends Timestamped {
 
   private String imageUrl;
 
+  private String thumbnailUrl; // 목록 카드용 축소본 (없으면 원본 사용)
+
   private String filename;
 
   @Builder.Default private Boolean isThumbnail = false;
@@ -55,8 +57,9 @@ public class SollectContent extends Timestamped {
   @OnDelete(action = OnDeleteAction.CASCADE)
   private Sollect sollect;
 
-  public void updateImageUrl(String imageUrl) {
+  public void updateImageUrl(String imageUrl, String thumbnailUrl) {
     this.imageUrl = imageUrl;
+    this.thumbnailUrl = thumbnailUrl;
   }
 
   public void updateIsThumbnail(Boolean isThumbnail) {
@@ -0,0 +1,39 @@
+package com.ilta.solepli.domain.sollect.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쏠렉트 검색용 문서 (제목, 본문 텍스트, 장소 주소).
+ *
+ * <p>(title, body, address)에 ngram FULLTEXT 인덱스가 걸려 있으며, 쏠렉트 작성/수정 시 SollectSearchIndexer가 갱신하고
+ * 삭제 시 제거한다. 따라서 삭제되지 않은 쏠렉트만 문서로 존재한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "sollect_search_docs")
+public class SollectSearchDoc {
+
+  @Id
+  @Column(name = "sollect_id")
+  private Long sollectId;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String body;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String address;
+}
@@ -1,5 +1,8 @@
 package com.ilta.solepli.domain.sollect.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +15,7 @@ public interface SollectContentRepository extends JpaRepository<SollectContent,
   @Modifying
   @Query("DELETE FROM SollectContent sc WHERE sc.sollect = :sollect")
   void deleteBySollect(@Param("sollect") Sollect sollect);
+
+  @Query("SELECT sc.imageUrl FROM SollectContent sc WHERE sc.imageUrl IN :imageUrls")
+  List<String> findImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls);
 }
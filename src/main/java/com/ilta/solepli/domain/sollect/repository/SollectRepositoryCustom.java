@@ -10,9 +10,6 @@ import com.ilta.solepli.domain.solmark.sollect.dto.response.SolmarkSollectRespon
 
 @Repository
 public interface SollectRepositoryCustom {
-  List<SollectSearchResponseContent> searchSollectByKeywordOrCategory(
-      Long cursorId, int size, String parsedKeyword, String parsedCategory);
-
   List<SolmarkSollectResponseContent> searchSolmarkSollectBySollectIdsAndCursor(
       Long cursorId, int size, List<Long> sollectIds);
 
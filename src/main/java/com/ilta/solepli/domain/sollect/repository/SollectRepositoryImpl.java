@@ -7,6 +7,7 @@ import java.util.Map;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
@@ -38,67 +39,6 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
   QCategory category = QCategory.category;
   QSolmarkSollect solmarkSollect = QSolmarkSollect.solmarkSollect;
 
-  @Override
-  public List<SollectSearchResponseContent> searchSollectByKeywordOrCategory(
-      Long cursorId, int size, String parsedKeyword, String parsedCategory) {
-
-    // 1. 키워드 또는 카테고리에 해당하는 Place ID 추출
-    List<Long> placeIds =
-        queryFactory
-            .select(place.id)
-            .from(place)
-            .leftJoin(place.placeCategories, placeCategory)
-            .leftJoin(placeCategory.category, category)
-            .where(anyMatchKeyword(parsedKeyword), matchCategory(parsedCategory))
-            .fetch();
-
-    BooleanBuilder sollectCondition = new BooleanBuilder();
-    BooleanExpression titleCond = matchSollectTitle(parsedKeyword);
-    BooleanExpression placeCond = placeIds.isEmpty() ? null : sollectPlace.place.id.in(placeIds);
-    if (titleCond != null) sollectCondition.or(titleCond);
-    if (placeCond != null) sollectCondition.or(placeCond);
-
-    // 커서 조건 추가
-    BooleanExpression cursorCondition = cursorLessThan(cursorId);
-    if (cursorCondition != null) sollectCondition.and(cursorCondition);
-
-    sollectCondition.and(sollect.deletedAt.isNull());
-
-    // ID 추출
-    List<Long> sollectIds =
-        queryFactory
-            .select(sollect.id)
-            .from(sollect)
-            .leftJoin(sollect.sollectPlaces, sollectPlace)
-            .where(sollectCondition)
-            .distinct()
-            .orderBy(sollect.id.desc())
-            .limit(size + 1)
-            .fetch();
-
-    // DTO 반환
-    QSollectPlace firstPlace = new QSollectPlace("firstPlace");
-    QPlace firstPlaceInfo = new QPlace("firstPlaceInfo");
-
-    return queryFactory
-        .select(
-            new QSollectSearchResponseContent(
-                sollect.id,
-                sollectContent.imageUrl,
-                sollect.title,
-                firstPlaceInfo.district,
-                firstPlaceInfo.neighborhood))
-        .from(sollect)
-        .join(sollect.sollectPlaces, firstPlace)
-        .on(firstPlace.seq.eq(0))
-        .join(firstPlace.place, firstPlaceInfo)
-        .join(sollect.sollectContents, sollectContent)
-        .on(sollectContent.seq.eq(0L))
-        .where(sollect.id.in(sollectIds), sollect.deletedAt.isNull())
-        .orderBy(sollect.id.desc())
-        .fetch();
-  }
-
   @Override
   public List<SolmarkSollectResponseContent> searchSolmarkSollectBySollectIdsAndCursor(
       Long cursorId, int size, List<Long> sollectIds) {
@@ -112,7 +52,7 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
         .select(
             new QSolmarkSollectResponseContent(
                 sollect.id,
-                sollectContent.imageUrl,
+                cardImage(),
                 sollect.title,
                 firstPlaceInfo.district,
                 firstPlaceInfo.neighborhood))
@@ -137,7 +77,7 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
         .select(
             new QPopularSollectResponseContent(
                 sollect.id,
-                sollectContent.imageUrl,
+                cardImage(),
                 sollect.title,
                 firstPlaceInfo.name,
                 firstPlaceInfo.district,
@@ -171,7 +111,7 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
         .select(
             new QSollectSearchResponseContent(
                 sollect.id,
-                sollectContent.imageUrl,
+                cardImage(),
                 sollect.title,
                 firstPlaceInfo.district,
                 firstPlaceInfo.neighborhood))
@@ -241,7 +181,7 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
             .select(
                 new QSollectSearchResponseContent(
                     sollect.id,
-                    sollectContent.imageUrl,
+                    cardImage(),
                     sollect.title,
                     firstPlaceInfo.district,
                     firstPlaceInfo.neighborhood))
@@ -258,13 +198,9 @@ public class SollectRepositoryImpl implements SollectRepositoryCustom {
     return results;
   }
 
-  private BooleanExpression anyMatchKeyword(String keyword) {
-    if (keyword == null || keyword.isBlank()) return null;
-    return place
-        .address
-        .containsIgnoreCase(keyword)
-        .or(place.district.containsIgnoreCase(keyword))
-        .or(place.neighborhood.containsIgnoreCase(keyword));
+  // 목록 카드에는 축소본을 사용하고, 축소본이 없는 이전 이미지는 원본 사용
+  private StringExpression cardImage() {
+    return sollectContent.thumbnailUrl.coalesce(sollectContent.imageUrl);
   }
 
   private BooleanExpression matchCategory(String categoryName) {
@@ -0,0 +1,104 @@
+package com.ilta.solepli.domain.sollect.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import com.ilta.solepli.domain.sollect.entity.SollectSearchDoc;
+
+public interface SollectSearchDocRepository extends JpaRepository<SollectSearchDoc, Long> {
+
+  // 네이티브 DML이 2차 캐시 전체를 비우지 않도록 sollect_search_docs만 동기화 공간으로 지정
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sollect_search_docs"))
+  @Query(
+      value =
+          """
+          INSERT INTO sollect_search_docs (sollect_id, title, body, address)
+          VALUES (:sollectId, :title, :body, :address)
+          ON DUPLICATE KEY UPDATE title = :title, body = :body, address = :address
+          """,
+      nativeQuery = true)
+  void upsert(
+      @Param("sollectId") Long sollectId,
+      @Param("title") String title,
+      @Param("body") String body,
+      @Param("address") String address);
+
+  @Modifying(flushAutomatically = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sollect_search_docs"))
+  @Query(
+      value = "DELETE FROM sollect_search_docs WHERE sollect_id = :sollectId",
+      nativeQuery = true)
+  void deleteBySollectId(@Param("sollectId") Long sollectId);
+
+  // FULLTEXT(ngram) 매칭 결과를 sollect_id 내림차순 커서로 페이징
+  @Query(
+      value =
+          """
+          SELECT d.sollect_id FROM sollect_search_docs d
+          WHERE MATCH (d.title, d.body, d.address) AGAINST (:query IN BOOLEAN MODE)
+            AND (:cursorId IS NULL OR d.sollect_id < :cursorId)
+            AND (:category IS NULL OR EXISTS (
+              SELECT 1 FROM sollect_places sp
+              JOIN place_categories pc ON pc.place_id = sp.place_id
+              JOIN categories c ON c.id = pc.category_id
+              WHERE sp.sollect_id = d.sollect_id AND c.name = :category))
+          ORDER BY d.sollect_id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Long> findIdsByFullText(
+      @Param("query") String query,
+      @Param("category") String category,
+      @Param("cursorId") Long cursorId,
+      @Param("limit") int limit);
+
+  // ngram 토큰보다 짧은 검색어(한 글자)는 FULLTEXT로 찾을 수 없으므로 PK 역순 스캔으로 처리
+  @Query(
+      value =
+          """
+          SELECT d.sollect_id FROM sollect_search_docs d
+          WHERE (d.title LIKE :pattern OR d.body LIKE :pattern OR d.address LIKE :pattern)
+            AND (:cursorId IS NULL OR d.sollect_id < :cursorId)
+            AND (:category IS NULL OR EXISTS (
+              SELECT 1 FROM sollect_places sp
+              JOIN place_categories pc ON pc.place_id = sp.place_id
+              JOIN categories c ON c.id = pc.category_id
+              WHERE sp.sollect_id = d.sollect_id AND c.name = :category))
+          ORDER BY d.sollect_id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Long> findIdsByPattern(
+      @Param("pattern") String pattern,
+      @Param("category") String category,
+      @Param("cursorId") Long cursorId,
+      @Param("limit") int limit);
+
+  @Query(
+      value =
+          """
+          SELECT d.sollect_id FROM sollect_search_docs d
+          WHERE (:cursorId IS NULL OR d.sollect_id < :cursorId)
+            AND (:category IS NULL OR EXISTS (
+              SELECT 1 FROM sollect_places sp
+              JOIN place_categories pc ON pc.place_id = sp.place_id
+              JOIN categories c ON c.id = pc.category_id
+              WHERE sp.sollect_id = d.sollect_id AND c.name = :category))
+          ORDER BY d.sollect_id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<Long> findIdsByCategory(
+      @Param("category") String category,
+      @Param("cursorId") Long cursorId,
+      @Param("limit") int limit);
+}
@@ -0,0 +1,69 @@
+package com.ilta.solepli.domain.sollect.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.sollect.repository.SollectContentRepository;
+import com.ilta.solepli.global.service.S3Service;
+
+/**
+ * presigned URL로 업로드만 하고 확인({@link SollectService#confirmImageUploads})되지 않은 쏠렉트 이미지를 정리한다.
+ *
+ * <p>클라이언트가 업로드 후 확인을 보내지 않거나 확인이 거절되면 S3 객체가 어떤 콘텐츠에도 연결되지 않은 채 남는다. 업로드된 지 하루가 지난
+ * 직접 업로드 객체 중 콘텐츠의 이미지 URL로 쓰이지 않는 것을 한 시간마다 삭제한다. 삭제는 멱등이므로 여러 인스턴스에서 동시에 실행되어도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SollectImageUploadCleaner {
+
+  private static final long CLEANUP_DELAY_MS = 60 * 60_000L;
+  private static final Duration STALE_AFTER = Duration.ofDays(1);
+  private static final int QUERY_BATCH_SIZE = 1_000;
+
+  private final S3Service s3Service;
+  private final SollectContentRepository sollectContentRepository;
+
+  @Scheduled(fixedDelay = CLEANUP_DELAY_MS, initialDelay = CLEANUP_DELAY_MS)
+  public void cleanup() {
+    List<String> staleKeys =
+        s3Service.findSollectImageKeysUploadedBefore(Instant.now().minus(STALE_AFTER));
+
+    List<String> orphanKeys = new ArrayList<>();
+    for (int from = 0; from < staleKeys.size(); from += QUERY_BATCH_SIZE) {
+      int to = Math.min(from + QUERY_BATCH_SIZE, staleKeys.size());
+      orphanKeys.addAll(findOrphanKeys(staleKeys.subList(from, to)));
+    }
+    if (orphanKeys.isEmpty()) {
+      return;
+    }
+
+    s3Service.deleteSollectImageKeysQuietly(orphanKeys);
+    log.info("[SollectImageUploadCleaner] 확인되지 않은 업로드 이미지 {}개 삭제", orphanKeys.size());
+  }
+
+  // 콘텐츠에는 getFileUrl로 만든 URL이 저장되므로 같은 방식으로 URL을 만들어 비교
+  private List<String> findOrphanKeys(List<String> keys) {
+    Map<String, String> keyByUrl = new LinkedHashMap<>();
+    keys.forEach(key -> keyByUrl.put(s3Service.getFileUrl(key), key));
+
+    Set<String> usedUrls =
+        new HashSet<>(sollectContentRepository.findImageUrlsIn(keyByUrl.keySet()));
+    return keyByUrl.entrySet().stream()
+        .filter(entry -> !usedUrls.contains(entry.getKey()))
+        .map(Map.Entry::getValue)
+        .toList();
+  }
+}
@@ -0,0 +1,113 @@
+package com.ilta.solepli.domain.sollect.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.sollect.entity.ContentType;
+import com.ilta.solepli.domain.sollect.entity.Sollect;
+import com.ilta.solepli.domain.sollect.entity.SollectContent;
+import com.ilta.solepli.domain.sollect.entity.mapping.SollectPlace;
+import com.ilta.solepli.domain.sollect.repository.SollectSearchDocRepository;
+
+/**
+ * 쏠렉트 검색 문서(sollect_search_docs)를 관리하고 검색어로 쏠렉트 ID를 조회한다.
+ *
+ * <p>문서 갱신은 쏠렉트 작성/수정/삭제 트랜잭션 안에서 이루어져 원본과 항상 함께 커밋된다. 검색은 ngram FULLTEXT 인덱스에서 sollect_id
+ * 내림차순으로 커서 페이징한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SollectSearchIndexer {
+
+  // innodb_ngram_token_size 기본값. 이보다 짧은 토큰은 FULLTEXT 인덱스에 존재하지 않음
+  private static final int NGRAM_TOKEN_SIZE = 2;
+  // BOOLEAN MODE 연산자로 해석되는 문자
+  private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+  private final SollectSearchDocRepository sollectSearchDocRepository;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void index(
+      Sollect sollect, List<SollectPlace> sollectPlaces, List<SollectContent> contents) {
+    String body =
+        contents.stream()
+            .filter(content -> content.getType() == ContentType.TEXT)
+            .map(SollectContent::getText)
+            .filter(Objects::nonNull)
+            .collect(Collectors.joining(" "));
+
+    // 같은 동네의 장소가 여러 개여도 토큰이 중복되지 않도록 합친다
+    Set<String> addressTokens = new LinkedHashSet<>();
+    for (SollectPlace sollectPlace : sollectPlaces) {
+      Place place = sollectPlace.getPlace();
+      addressTokens.add(place.getAddress());
+      addressTokens.add(place.getDistrict());
+      addressTokens.add(place.getNeighborhood());
+    }
+    addressTokens.remove(null);
+
+    sollectSearchDocRepository.upsert(
+        sollect.getId(),
+        Objects.toString(sollect.getTitle(), ""),
+        body,
+        String.join(" ", addressTokens));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void remove(Long sollectId) {
+    sollectSearchDocRepository.deleteBySollectId(sollectId);
+  }
+
+  /**
+   * 키워드(제목, 본문, 장소 주소)와 카테고리로 쏠렉트 ID를 최신순으로 조회한다.
+   *
+   * @param cursorId 이전 페이지의 마지막 쏠렉트 ID (첫 페이지는 null)
+   * @param limit 조회할 최대 개수
+   * @param keyword 검색어 (없으면 카테고리로만 조회)
+   * @param category 카테고리 이름 (없으면 전체)
+   * @return 쏠렉트 ID 목록 (내림차순)
+   */
+  @Transactional(readOnly = true)
+  public List<Long> searchIds(Long cursorId, int limit, String keyword, String category) {
+    String categoryName = (category == null || category.isBlank()) ? null : category;
+
+    if (keyword == null || keyword.isBlank()) {
+      return sollectSearchDocRepository.findIdsByCategory(categoryName, cursorId, limit);
+    }
+
+    String query = toBooleanQuery(keyword);
+    if (query.isEmpty()) {
+      return sollectSearchDocRepository.findIdsByPattern(
+          toLikePattern(keyword.strip()), categoryName, cursorId, limit);
+    }
+
+    return sollectSearchDocRepository.findIdsByFullText(query, categoryName, cursorId, limit);
+  }
+
+  // 공백으로 구분된 각 단어를 모두 포함하도록 "+단어" 형태로 변환
+  private String toBooleanQuery(String keyword) {
+    List<String> terms = new ArrayList<>();
+    for (String token : keyword.replaceAll(BOOLEAN_OPERATORS, " ").split("\\s+")) {
+      if (token.length() >= NGRAM_TOKEN_SIZE) {
+        terms.add("+" + token);
+      }
+    }
+    return String.join(" ", terms);
+  }
+
+  private String toLikePattern(String keyword) {
+    String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    return "%" + escaped + "%";
+  }
+}
@@ -1,20 +1,26 @@
 package com.ilta.solepli.domain.sollect.service;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.place.entity.Place;
@@ -22,9 +28,12 @@ import com.ilta.solepli.domain.place.repository.PlaceRepository;
 import com.ilta.solepli.domain.sollect.dto.PopularSollectResponseContent;
 import com.ilta.solepli.domain.sollect.dto.SollectSearchResponseContent;
 import com.ilta.solepli.domain.sollect.dto.request.SollectCreateRequest;
+import com.ilta.solepli.domain.sollect.dto.request.SollectImageConfirmRequest;
 import com.ilta.solepli.domain.sollect.dto.request.SollectUpdateRequest;
 import com.ilta.solepli.domain.sollect.dto.response.SollectCreateResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectDetailResponse;
+import com.ilta.solepli.domain.sollect.dto.response.SollectImageUploadUrlResponse;
+import com.ilta.solepli.domain.sollect.dto.response.SollectImageUploadUrlResponse.UploadUrl;
 import com.ilta.solepli.domain.sollect.dto.response.SollectPlaceAddPreviewResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectSearchResponse;
 import com.ilta.solepli.domain.sollect.dto.response.SollectSearchResponse.PopularSollectContent;
@@ -36,13 +45,19 @@ import com.ilta.solepli.domain.sollect.repository.SollectContentRepository;
 import com.ilta.solepli.domain.sollect.repository.SollectPlaceRepository;
 import com.ilta.solepli.domain.sollect.repository.SollectRepository;
 import com.ilta.solepli.domain.sollect.repository.SollectRepositoryCustom;
-import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlace;
-import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceRepository;
 import com.ilta.solepli.domain.solmark.sollect.repository.SolmarkSollectRepository;
+import com.ilta.solepli.domain.solmark.sollect.service.PopularSollectService;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
 import com.ilta.solepli.domain.solmark.sollect.service.SolmarkSollectService;
 import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.global.async.QueryFanOut;
+import com.ilta.solepli.global.async.QueryFanOutExecutor;
+import com.ilta.solepli.global.dto.PresignedUpload;
+import com.ilta.solepli.global.dto.UploadedImage;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.metrics.MetricNames;
+import com.ilta.solepli.global.metrics.QueryBudget;
 import com.ilta.solepli.global.service.S3Service;
 import com.ilta.solepli.global.util.PlaceUtil;
 
@@ -59,11 +74,15 @@ public class SollectService {
   private final SollectRepositoryCustom sollectRepositoryCustom;
   private final SolmarkSollectRepository solmarkSollectRepository;
   private final SolmarkSollectService solmarkSollectService;
+  private final SollectSearchIndexer sollectSearchIndexer;
+  private final PopularSollectService popularSollectService;
+  private final QueryFanOutExecutor queryFanOutExecutor;
+  private final TransactionTemplate transactionTemplate;
 
   private static final String RECENT_SEARCH_PREFIX = "sollect_recent_search:";
   private static final int MAX_RECENT_SEARCH = 10;
   private static final int POPULAR_SEARCH_LIMIT = 4;
-  private final SolmarkPlaceRepository solmarkPlaceRepository;
+  private final SolmarkMembershipService solmarkMembershipService;
 
   @Transactional
   public SollectCreateResponse createSollect(SollectCreateRequest request, User user) {
@@ -117,40 +136,100 @@ public class SollectService {
     }
 
     sollectContentRepository.saveAll(sollectContents);
+    sollectSearchIndexer.index(sollect, sollectPlaces, sollectContents);
 
     return SollectCreateResponse.builder().sollectId(sollect.getId()).build();
   }
 
-  @Transactional
+  /**
+   * 쏠렉트 본문의 이미지를 업로드한다. 대상 콘텐츠를 확인한 뒤 트랜잭션 밖에서 S3에 동시 업로드하고, 트랜잭션에서는 업로드된 URL만 반영한다. 반영에
+   * 실패하면 업로드한 이미지를 삭제한다.
+   */
   public void uploadSollectImage(Long id, List<MultipartFile> files, User user) {
 
-    Sollect sollect =
-        sollectRepository
-            .findWithContentById(id)
-            .orElseThrow(() -> new CustomException(ErrorCode.SOLLECT_NOT_FOUND));
+    if (files.size() > 100) {
+      throw new CustomException(ErrorCode.TOO_MANY_SOLLECT_IMAGES);
+    }
 
-    // 쏠렉트 소유자가 맞는지 검증
-    if (!sollect.getUser().getId().equals(user.getId())) {
-      throw new CustomException(ErrorCode.SOLLECT_FORBIDDEN);
+    // 업로드 전에 소유자와 대상 콘텐츠를 검증해 불필요한 업로드를 막음
+    transactionTemplate.executeWithoutResult(status -> findImageContents(id, files, user));
+
+    List<UploadedImage> images = s3Service.uploadSollectImages(files);
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            List<SollectContent> targets = findImageContents(id, files, user);
+            for (int i = 0; i < targets.size(); i++) {
+              attachImage(targets.get(i), images.get(i).url(), images.get(i).variantUrl());
+            }
+          });
+    } catch (RuntimeException e) {
+      s3Service.deleteImagesQuietly(images);
+      throw e;
     }
+  }
 
-    List<SollectContent> sollectContents = sollect.getSollectContents();
+  /**
+   * 이미지가 아직 없는 콘텐츠마다 S3에 직접 업로드할 presigned URL을 발급한다. 클라이언트는 filename이 같은 파일을 uploadUrl로 PUT한 뒤
+   * {@link #confirmImageUploads}로 키를 알려준다. 이미지 바이트는 서버를 거치지 않는다.
+   */
+  @Transactional(readOnly = true)
+  public SollectImageUploadUrlResponse createImageUploadUrls(Long id, User user) {
 
-    if (files.size() > 100) {
+    Sollect sollect = getOwnedSollectWithContents(id, user);
+
+    List<UploadUrl> uploadUrls = new ArrayList<>();
+    for (SollectContent sollectContent : sollect.getSollectContents()) {
+      if (!isPendingImage(sollectContent)) {
+        continue;
+      }
+      PresignedUpload upload =
+          s3Service.createSollectImageUploadUrl(
+              id, sollectContent.getId(), sollectContent.getFilename());
+      uploadUrls.add(
+          UploadUrl.builder()
+              .filename(sollectContent.getFilename())
+              .key(upload.key())
+              .uploadUrl(upload.uploadUrl())
+              .contentType(upload.contentType())
+              .build());
+    }
+
+    return SollectImageUploadUrlResponse.builder().uploadUrls(uploadUrls).build();
+  }
+
+  /** S3 직접 업로드를 마친 이미지 키들을 검증한 뒤 한 번에 콘텐츠에 반영한다. */
+  @Transactional
+  public void confirmImageUploads(Long id, SollectImageConfirmRequest request, User user) {
+
+    if (request.keys().size() > 100) {
       throw new CustomException(ErrorCode.TOO_MANY_SOLLECT_IMAGES);
     }
 
-    for (MultipartFile file : files) {
-      String filename = file.getOriginalFilename();
-      SollectContent sollectContent = findImage(sollectContents, filename);
+    Sollect sollect = getOwnedSollectWithContents(id, user);
+
+    Map<Long, SollectContent> pendingImages =
+        sollect.getSollectContents().stream()
+            .filter(this::isPendingImage)
+            .collect(Collectors.toMap(SollectContent::getId, sollectContent -> sollectContent));
+
+    // 키마다 존재 여부를 묻지 않고 쏠렉트 경로의 객체 목록(크기 포함)을 한 번에 조회
+    Map<String, Long> uploadedSizes = s3Service.findSollectImageSizes(id);
+
+    for (String key : request.keys()) {
+      SollectContent sollectContent =
+          pendingImages.remove(s3Service.parseSollectImageContentId(id, key));
       if (sollectContent == null) {
         throw new CustomException(ErrorCode.CONTENT_IMAGE_NOT_FOUND);
       }
-      String imageUrl = s3Service.uploadSollectImage(file);
-      sollectContent.updateImageUrl(imageUrl);
-      if (sollectContent.getSeq() == 0) {
-        sollectContent.updateIsThumbnail(true);
+      Long size = uploadedSizes.get(key);
+      if (size == null) {
+        throw new CustomException(ErrorCode.IMAGE_NOT_UPLOADED);
       }
+      s3Service.validateSollectImageSize(key, size);
+      // 직접 업로드된 이미지는 서버에서 축소본을 만들지 않으므로 원본만 반영
+      attachImage(sollectContent, s3Service.getFileUrl(key), null);
     }
   }
 
@@ -219,10 +298,17 @@ public class SollectService {
     }
 
     sollectContentRepository.saveAll(sollectContents);
+    sollectSearchIndexer.index(sollect, sollectPlaces, sollectContents);
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * 쏠렉트 상세 조회. 쏠렉트(작성자, 본문)와 장소는 응답에 필요한 연관을 모두 fetch join하는 짧은 읽기 전용 조회로 가져오고, 저장 수와 장소별
+   * 태그/추천 비율은 별도 커넥션에서 동시에 조회한다. 요청 스레드는 트랜잭션 없이 결과만 기다리므로 대기하는 동안 커넥션을 점유하지 않는다.
+   */
+  @QueryBudget(10)
+  @Timed(MetricNames.SERVICE_TIMER)
   public SollectDetailResponse getSollectDetail(Long id, User user) {
+    // 두 조회 모두 리포지토리의 읽기 전용 트랜잭션 안에서 끝나며 이후에는 분리된 엔티티만 읽음
     Sollect sollect =
         sollectRepository
             .findWithContentById(id)
@@ -264,18 +350,32 @@ public class SollectService {
       contents.add(content);
     }
 
-    // 쏠렉트 저장 수
-    Long markedCount = solmarkSollectRepository.countSolmarkSollectsBySollect(sollect);
+    // 쏠렉트 저장 수와 장소별 태그/추천 비율은 별도 커넥션에서 동시에 조회
+    List<Long> placeIds = sollectPlaces.stream().map(sp -> sp.getPlace().getId()).toList();
+    QueryFanOut fanOut = queryFanOutExecutor.start("sollect_detail");
+    CompletableFuture<Long> markedCountFuture =
+        fanOut.submit(
+            "marked_count", () -> solmarkSollectRepository.countSolmarkSollectsBySollect(sollect));
+    CompletableFuture<Map<Long, List<String>>> tagsFuture =
+        fanOut.submit("tags", () -> placeRepository.getTopTagsForPlaces(placeIds, 3));
+    CompletableFuture<Map<Long, Integer>> recommendationFuture =
+        fanOut.submit(
+            "recommendation", () -> placeRepository.getRecommendationPercentsForPlaces(placeIds));
 
     // 해당 유저의 장소 쏠마크 여부
-    Set<Long> makredSet = getSolmarkedPlaceIds(user, sollectPlaces);
+    Set<Long> makredSet = solmarkMembershipService.getMarkedPlaceIds(user);
+
+    // 쏠렉트 저장 수
+    Long markedCount = fanOut.await(markedCountFuture);
+    Map<Long, List<String>> tagsByPlace = fanOut.await(tagsFuture);
+    Map<Long, Integer> recommendationPercents = fanOut.await(recommendationFuture);
 
     // 장소 요약 정보
     List<SollectDetailResponse.PlaceSummary> placeSummaries = new ArrayList<>();
     for (SollectPlace sollectPlace : sollectPlaces) {
       Place place = sollectPlace.getPlace();
-      List<String> tags = placeRepository.getTopTagsForPlace(place.getId(), 3);
-      Integer recommendationPercent = placeRepository.getRecommendationPercent(place.getId());
+      List<String> tags = tagsByPlace.getOrDefault(place.getId(), List.of());
+      Integer recommendationPercent = recommendationPercents.get(place.getId());
       boolean isMarked = makredSet.contains(place.getId());
 
       SollectDetailResponse.PlaceSummary placeSummary =
@@ -326,6 +426,8 @@ public class SollectService {
     // deleteS3Images(sollect.getSollectContents());
 
     sollect.softDelete();
+    sollectSearchIndexer.remove(sollect.getId());
+    popularSollectService.removeAfterCommit(sollect.getId());
     // sollectRepository.delete(sollect);
   }
 
@@ -387,8 +489,10 @@ public class SollectService {
   public SollectSearchResponse getSearchContents(
       User user, Long cursorId, int size, String keyword, String category) {
 
+    // 검색 인덱스에서 커서 이후 ID를 size + 1개까지 조회한 뒤 해당 쏠렉트만 DTO로 변환
+    List<Long> sollectIds = sollectSearchIndexer.searchIds(cursorId, size + 1, keyword, category);
     List<SollectSearchResponseContent> rawContents =
-        sollectRepositoryCustom.searchSollectByKeywordOrCategory(cursorId, size, keyword, category);
+        sollectRepositoryCustom.searchSollectBySollectIdsAndCursor(null, size, sollectIds);
 
     boolean hasNext = rawContents.size() > size;
     if (hasNext) rawContents.remove(size); // 커서 페이징이므로 초과 1개 제거
@@ -465,21 +569,60 @@ public class SollectService {
     return toResponseContent(rawContents, markedSet);
   }
 
-  private SollectContent findImage(List<SollectContent> sollectContents, String filename) {
-    for (SollectContent sollectContent : sollectContents) {
-      if (sollectContent.getType().equals(ContentType.IMAGE)
-          && sollectContent.getImageUrl() == null
-          && sollectContent.getFilename().equals(filename)) {
-        return sollectContent;
+  /** 업로드할 파일 순서대로, 이미지가 아직 없는 같은 파일명의 콘텐츠를 찾는다. */
+  private List<SollectContent> findImageContents(Long id, List<MultipartFile> files, User user) {
+
+    Sollect sollect = getOwnedSollectWithContents(id, user);
+
+    // 파일명별 대기 중인 이미지 콘텐츠. 같은 파일명이 여러 번 오면 순서대로 서로 다른 콘텐츠에 대응됨
+    Map<String, Deque<SollectContent>> pendingImages = new HashMap<>();
+    for (SollectContent sollectContent : sollect.getSollectContents()) {
+      if (isPendingImage(sollectContent)) {
+        pendingImages
+            .computeIfAbsent(sollectContent.getFilename(), k -> new ArrayDeque<>())
+            .add(sollectContent);
+      }
+    }
+
+    List<SollectContent> targets = new ArrayList<>();
+    for (MultipartFile file : files) {
+      Deque<SollectContent> candidates = pendingImages.get(file.getOriginalFilename());
+      if (candidates == null || candidates.isEmpty()) {
+        throw new CustomException(ErrorCode.CONTENT_IMAGE_NOT_FOUND);
       }
+      targets.add(candidates.poll());
+    }
+    return targets;
+  }
+
+  private Sollect getOwnedSollectWithContents(Long id, User user) {
+    Sollect sollect =
+        sollectRepository
+            .findWithContentById(id)
+            .orElseThrow(() -> new CustomException(ErrorCode.SOLLECT_NOT_FOUND));
+
+    // 쏠렉트 소유자가 맞는지 검증
+    if (!sollect.getUser().getId().equals(user.getId())) {
+      throw new CustomException(ErrorCode.SOLLECT_FORBIDDEN);
+    }
+    return sollect;
+  }
+
+  private boolean isPendingImage(SollectContent sollectContent) {
+    return sollectContent.getType() == ContentType.IMAGE && sollectContent.getImageUrl() == null;
+  }
+
+  private void attachImage(SollectContent sollectContent, String imageUrl, String thumbnailUrl) {
+    sollectContent.updateImageUrl(imageUrl, thumbnailUrl);
+    if (sollectContent.getSeq() == 0) {
+      sollectContent.updateIsThumbnail(true);
     }
-    return null;
   }
 
   private void deleteS3Images(List<SollectContent> sollectContents) {
     sollectContents.stream()
         .filter(content -> content.getType() == ContentType.IMAGE)
-        .map(SollectContent::getImageUrl)
+        .flatMap(content -> Stream.of(content.getImageUrl(), content.getThumbnailUrl()))
         .filter(Objects::nonNull) // null인 경우 필터링
         .forEach(s3Service::deleteSollectImage);
   }
@@ -527,26 +670,8 @@ public class SollectService {
         .toList();
   }
 
-  private Set<Long> getSolmarkedPlaceIds(User user, List<SollectPlace> sollectPlaces) {
-    // 비로그인이거나 조회된 장소가 없으면 빈 Set 반환
-    if (user == null & sollectPlaces.isEmpty()) {
-      return Collections.emptySet();
-    }
-
-    List<Long> placeIds = sollectPlaces.stream().map(sp -> sp.getPlace().getId()).toList();
-
-    // 쏠마크 장소 조회
-    List<SolmarkPlace> solmarkPlaces =
-        solmarkPlaceRepository.findAllNonDeletedByUserAndPlaceIds(user, placeIds);
-
-    // 쏠마크 장소 ID Set 반환
-    return solmarkPlaces.stream().map(sp -> sp.getPlace().getId()).collect(Collectors.toSet());
-  }
-
   private Set<Long> getMarkedSet(User user) {
-    return (user == null)
-        ? Collections.emptySet()
-        : new HashSet<>(solmarkSollectRepository.findSollectIdsByUser(user));
+    return solmarkMembershipService.getMarkedSollectIds(user);
   }
 
   private SollectSearchResponse toSollectSearchResponse(
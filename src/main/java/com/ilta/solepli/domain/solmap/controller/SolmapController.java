@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.solmap.dto.*;
+import com.ilta.solepli.domain.solmap.service.PlaceDetailCacheService;
 import com.ilta.solepli.domain.solmap.service.SolmapService;
 import com.ilta.solepli.domain.user.util.CustomUserDetails;
 import com.ilta.solepli.global.response.SuccessResponse;
@@ -23,6 +24,7 @@ import com.ilta.solepli.global.response.SuccessResponse;
 public class SolmapController {
 
   private final SolmapService solmapService;
+  private final PlaceDetailCacheService placeDetailCacheService;
 
   @Operation(summary = "지도 화면 내 장소 마커 정보 조회 API", description = "지도 화면 내 장소 마커 정보들을 조회하는 API 입니다.")
   @GetMapping("/markers")
@@ -41,6 +43,26 @@ public class SolmapController {
                     swLat, swLng, neLat, neLng, category, customUserDetails)));
   }
 
+  @Operation(
+      summary = "지도 화면 내 장소 마커 클러스터 조회 API",
+      description =
+          "지도 화면 내 장소를 격자 단위 클러스터(중심 좌표, 장소 수, 대표 카테고리)로 묶어 조회하는 API 입니다. 장소가 많은 낮은 줌 레벨(15 미만)에서 마커 대신 사용합니다.")
+  @GetMapping("/markers/clusters")
+  public ResponseEntity<SuccessResponse<List<MarkerClusterResponse>>> getMarkerClustersByViewport(
+      @RequestParam Double swLat,
+      @RequestParam Double swLng,
+      @RequestParam Double neLat,
+      @RequestParam Double neLng,
+      @RequestParam(required = false) String category,
+      @RequestParam int zoom) {
+
+    return ResponseEntity.ok()
+        .body(
+            SuccessResponse.successWithData(
+                solmapService.getMarkerClustersByViewport(
+                    swLat, swLng, neLat, neLng, category, zoom)));
+  }
+
   @Operation(summary = "최근 검색어 저장 API", description = "최근 검색어를 저장하는 API 입니다.")
   @PostMapping("/search/recent")
   public ResponseEntity<SuccessResponse<Void>> addRecentSearch(
@@ -89,11 +111,22 @@ public class SolmapController {
       @RequestParam(required = false) String category,
       @RequestParam(required = false) Long cursorId,
       @RequestParam(required = false) Double cursorDist,
-      @RequestParam(required = false, defaultValue = "5") int limit) {
+      @RequestParam(required = false, defaultValue = "5") int limit,
+      @RequestParam(required = false, defaultValue = "false") boolean openNow) {
 
     PlaceSearchPreviewResponse response =
         solmapService.getPlacesPreview(
-            swLat, swLng, neLat, neLng, userLat, userLng, category, cursorId, cursorDist, limit);
+            swLat,
+            swLng,
+            neLat,
+            neLng,
+            userLat,
+            userLng,
+            category,
+            cursorId,
+            cursorDist,
+            limit,
+            openNow);
 
     return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
   }
@@ -132,11 +165,12 @@ public class SolmapController {
       @RequestParam(required = false) String category,
       @RequestParam(required = false) Long cursorId,
       @RequestParam(required = false) Double cursorDist,
-      @RequestParam(required = false, defaultValue = "5") int limit) {
+      @RequestParam(required = false, defaultValue = "5") int limit,
+      @RequestParam(required = false, defaultValue = "false") boolean openNow) {
 
     PlaceSearchPreviewResponse response =
         solmapService.getPlacesByRegionPreview(
-            regionName, userLat, userLng, category, cursorId, cursorDist, limit);
+            regionName, userLat, userLng, category, cursorId, cursorDist, limit, openNow);
 
     return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
   }
@@ -146,7 +180,7 @@ public class SolmapController {
   public ResponseEntity<SuccessResponse<PlaceDetailSearchResponse>> getPlaceDetail(
       @PathVariable Long id) {
 
-    PlaceDetailSearchResponse response = solmapService.getPlaceDetail(id);
+    PlaceDetailSearchResponse response = placeDetailCacheService.getPlaceDetail(id);
 
     return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
   }
@@ -166,10 +200,11 @@ public class SolmapController {
   public ResponseEntity<SuccessResponse<PlaceSearchPreviewResponse>> getPlacePreviewByRelatedSearch(
       @RequestParam List<Long> ids,
       @RequestParam(required = false) Long cursorId,
-      @RequestParam(required = false, defaultValue = "5") int limit) {
+      @RequestParam(required = false, defaultValue = "5") int limit,
+      @RequestParam(required = false, defaultValue = "false") boolean openNow) {
 
     PlaceSearchPreviewResponse response =
-        solmapService.getPlacePreviewByRelatedSearch(ids, cursorId, limit);
+        solmapService.getPlacePreviewByRelatedSearch(ids, cursorId, limit, openNow);
 
     return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
   }
@@ -181,10 +216,12 @@ public class SolmapController {
       @RequestParam Double userLng,
       @RequestParam(required = false) Long cursorId,
       @RequestParam(required = false) Double cursorDist,
-      @RequestParam(required = false, defaultValue = "5") int limit) {
+      @RequestParam(required = false, defaultValue = "5") int limit,
+      @RequestParam(required = false, defaultValue = "false") boolean openNow) {
 
     PlaceSearchPreviewResponse response =
-        solmapService.getPlacesPreviewNearby(userLat, userLng, cursorId, cursorDist, limit);
+        solmapService.getPlacesPreviewNearby(
+            userLat, userLng, cursorId, cursorDist, limit, openNow);
 
     return ResponseEntity.ok().body(SuccessResponse.successWithData(response));
   }
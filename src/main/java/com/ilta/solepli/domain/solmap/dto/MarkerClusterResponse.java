@@ -0,0 +1,7 @@
+package com.ilta.solepli.domain.solmap.dto;
+
+import lombok.Builder;
+
+@Builder
+public record MarkerClusterResponse(
+    Double latitude, Double longitude, Integer count, String category) {}
@@ -6,7 +6,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record PlaceDetail(
     Long id,
     String name,
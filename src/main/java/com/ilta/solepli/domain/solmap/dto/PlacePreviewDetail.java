@@ -1,11 +1,17 @@
 package com.ilta.solepli.domain.solmap.dto;
 
+import static com.ilta.solepli.global.util.PlaceUtil.truncateTo2Decimals;
+
 import java.time.LocalTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 
+import com.ilta.solepli.domain.place.dto.PlacePreviewStats;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.global.dto.OpenStatus;
+
 @Builder
 public record PlacePreviewDetail(
     Long id,
@@ -16,4 +22,21 @@ public record PlacePreviewDetail(
     Double rating,
     Boolean isOpen,
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm") LocalTime closingTime,
-    List<String> thumbnailUrls) {}
+    List<String> thumbnailUrls) {
+
+  /** 장소와 페이지 단위로 일괄 조회한 통계, 조회 시점의 영업 여부로 미리보기 DTO를 만든다. */
+  public static PlacePreviewDetail of(
+      Place place, PlacePreviewStats stats, OpenStatus openStatus) {
+    return PlacePreviewDetail.builder()
+        .id(place.getId())
+        .name(place.getName())
+        .detailedCategory(place.getTypes())
+        .tags(stats.topTags())
+        .isSoloRecommended(stats.recommendationPercent())
+        .rating(truncateTo2Decimals(place.getRating()))
+        .isOpen(openStatus.isOpen())
+        .closingTime(openStatus.closingTime())
+        .thumbnailUrls(stats.thumbnailUrls())
+        .build();
+  }
+}
@@ -0,0 +1,6 @@
+package com.ilta.solepli.domain.solmap.dto;
+
+import com.ilta.solepli.domain.place.entity.Place;
+
+/** 장소와 DB(ST_Distance_Sphere)가 계산한 사용자까지의 거리(km). 거리는 다음 페이지 커서로 그대로 사용한다. */
+public record PlaceWithDistance(Place place, Double distance) {}
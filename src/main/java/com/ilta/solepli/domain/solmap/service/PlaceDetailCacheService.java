@@ -0,0 +1,118 @@
+package com.ilta.solepli.domain.solmap.service;
+
+import static com.ilta.solepli.global.util.OpenStatusUtil.getOpenStatus;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.solmap.dto.PlaceDetail;
+import com.ilta.solepli.domain.solmap.dto.PlaceDetailSearchResponse;
+import com.ilta.solepli.global.dto.OpenStatus;
+import com.ilta.solepli.global.metrics.MetricNames;
+import com.ilta.solepli.global.metrics.QueryBudget;
+
+/**
+ * 장소 상세 응답(PlaceDetailSearchResponse)의 Redis read-through 캐시.
+ *
+ * <p>캐시 키에는 장소별 버전이 포함되며, 리뷰 작성 트랜잭션이 커밋되면 버전을 올려 이전 키를 더 이상 읽지 않도록 한다. 조회 도중 무효화가 일어나도 이전 버전 키에
+ * 저장되므로 오래된 응답이 새 버전으로 캐시되지 않는다. 영업 여부는 시간에 따라 바뀌므로 캐시하지 않고, 캐시된 영업 시간으로 매 조회마다 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceDetailCacheService {
+
+  private static final String DETAIL_KEY_PREFIX = "place_detail:";
+  private static final String VERSION_KEY_PREFIX = "place_detail_version:";
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  private final SolmapService solmapService;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @QueryBudget(10)
+  @Timed(MetricNames.SERVICE_TIMER)
+  public PlaceDetailSearchResponse getPlaceDetail(Long placeId) {
+    String key = null;
+    try {
+      key = getDetailKey(placeId);
+      Object cached = redisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return withLiveOpenStatus(
+            objectMapper.readValue((String) cached, PlaceDetailSearchResponse.class));
+      }
+    } catch (RuntimeException | JsonProcessingException e) {
+      log.warn("[PlaceDetailCache] 캐시 조회 실패 placeId={}: {}", placeId, e.getMessage());
+    }
+
+    PlaceDetailSearchResponse response = solmapService.getPlaceDetail(placeId);
+
+    if (key != null) {
+      try {
+        String value = objectMapper.writeValueAsString(withoutOpenStatus(response));
+        redisTemplate.opsForValue().set(key, value, TTL);
+      } catch (RuntimeException | JsonProcessingException e) {
+        log.warn("[PlaceDetailCache] 캐시 저장 실패 placeId={}: {}", placeId, e.getMessage());
+      }
+    }
+
+    return response;
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤 장소 버전을 올려 캐시를 무효화한다. 트랜잭션 밖에서 호출되면 즉시 무효화한다. */
+  public void evictAfterCommit(Long placeId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(placeId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            evict(placeId);
+          }
+        });
+  }
+
+  private void evict(Long placeId) {
+    try {
+      redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + placeId);
+    } catch (RuntimeException e) {
+      // 무효화에 실패해도 TTL이 지나면 갱신됨
+      log.warn("[PlaceDetailCache] 캐시 무효화 실패 placeId={}: {}", placeId, e.getMessage());
+    }
+  }
+
+  private String getDetailKey(Long placeId) {
+    Object version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + placeId);
+    return DETAIL_KEY_PREFIX + placeId + ":" + (version == null ? "0" : version);
+  }
+
+  private PlaceDetailSearchResponse withLiveOpenStatus(PlaceDetailSearchResponse response) {
+    OpenStatus openStatus = getOpenStatus(response.place().openingHours());
+    return withOpenStatus(response, openStatus.isOpen(), openStatus.closingTime());
+  }
+
+  private PlaceDetailSearchResponse withoutOpenStatus(PlaceDetailSearchResponse response) {
+    return withOpenStatus(response, null, null);
+  }
+
+  private PlaceDetailSearchResponse withOpenStatus(
+      PlaceDetailSearchResponse response, Boolean isOpen, LocalTime closingTime) {
+    PlaceDetail place =
+        response.place().toBuilder().isOpen(isOpen).closingTime(closingTime).build();
+    return PlaceDetailSearchResponse.of(place, response.reviews());
+  }
+}
@@ -3,6 +3,7 @@ package com.ilta.solepli.domain.solmap.service;
 import static com.ilta.solepli.global.util.OpenStatusUtil.getOpenStatus;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -12,38 +13,51 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.ilta.solepli.domain.category.entity.QCategory;
-import com.ilta.solepli.domain.category.repository.CategoryRepository;
+import com.ilta.solepli.domain.place.dto.PlacePreviewStats;
 import com.ilta.solepli.domain.place.entity.Place;
 import com.ilta.solepli.domain.place.entity.QPlace;
-import com.ilta.solepli.domain.place.entity.QPlaceHour;
 import com.ilta.solepli.domain.place.entity.mapping.PlaceCategory;
 import com.ilta.solepli.domain.place.entity.mapping.QPlaceCategory;
+import com.ilta.solepli.domain.place.index.OpeningHoursIndex;
+import com.ilta.solepli.domain.place.index.PlaceCluster;
+import com.ilta.solepli.domain.place.index.PlaceClusterAggregator;
+import com.ilta.solepli.domain.place.index.PlaceMarker;
+import com.ilta.solepli.domain.place.index.PlaceSpatialIndex;
 import com.ilta.solepli.domain.place.repository.PlaceRepository;
-import com.ilta.solepli.domain.review.entity.QReview;
-import com.ilta.solepli.domain.review.entity.Review;
-import com.ilta.solepli.domain.review.entity.mapping.ReviewImage;
-import com.ilta.solepli.domain.review.entity.mapping.ReviewTag;
+import com.ilta.solepli.domain.place.repository.PlaceTagStatsRepository;
+import com.ilta.solepli.domain.review.dto.ReviewFeedRow;
+import com.ilta.solepli.domain.review.dto.ReviewValueRow;
 import com.ilta.solepli.domain.review.repository.ReviewRepository;
-import com.ilta.solepli.domain.review.repository.ReviewTagCustomRepository;
+import com.ilta.solepli.domain.search.index.PlaceNameIndex;
+import com.ilta.solepli.domain.search.index.PlaceSuggestion;
 import com.ilta.solepli.domain.solmap.dto.*;
 import com.ilta.solepli.domain.solmap.entity.SearchType;
-import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlace;
-import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceRepository;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
 import com.ilta.solepli.domain.tag.entity.TagType;
 import com.ilta.solepli.domain.user.entity.User;
 import com.ilta.solepli.domain.user.util.CustomUserDetails;
+import com.ilta.solepli.global.async.QueryFanOut;
+import com.ilta.solepli.global.async.QueryFanOutExecutor;
+import com.ilta.solepli.global.cache.ReferenceDataCache;
 import com.ilta.solepli.global.dto.OpenStatus;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.metrics.MetricNames;
+import com.ilta.solepli.global.metrics.QueryBudget;
+import com.ilta.solepli.global.util.PlaceUtil;
 import com.ilta.solepli.global.util.SecurityUtil;
+import com.ilta.solepli.global.util.WeeklySchedule;
 
 @Slf4j
 @Service
@@ -51,18 +65,20 @@ import com.ilta.solepli.global.util.SecurityUtil;
 public class SolmapService {
 
   private final PlaceRepository placeRepository;
-  private final CategoryRepository categoryRepository;
-  private final ReviewTagCustomRepository reviewTagCustomRepository;
+  private final ReferenceDataCache referenceDataCache;
+  private final PlaceTagStatsRepository placeTagStatsRepository;
   private final ReviewRepository reviewRepository;
-  private final SolmarkPlaceRepository solmarkPlaceRepository;
+  private final SolmarkMembershipService solmarkMembershipService;
+  private final PlaceSpatialIndex placeSpatialIndex;
+  private final PlaceNameIndex placeNameIndex;
+  private final OpeningHoursIndex openingHoursIndex;
+  private final QueryFanOutExecutor queryFanOutExecutor;
 
   private final RedisTemplate<String, Object> redisTemplate;
   private final JPAQueryFactory jpaQueryFactory;
   private final QPlace p = QPlace.place;
   private final QPlaceCategory pc = QPlaceCategory.placeCategory;
   private final QCategory c = QCategory.category;
-  private final QPlaceHour ph = QPlaceHour.placeHour;
-  private final QReview r = QReview.review;
 
   private static final String RECENT_SEARCH_PREFIX = "solmap_recent_search:";
   private static final int MAX_RECENT_SEARCH = 10;
@@ -72,7 +88,14 @@ public class SolmapService {
   private static final int MAX_PLACE_THUMBNAIL_LIMIT = 5;
   private static final int INITIAL_REVIEW_LIMIT = 5;
   private static final int NEARBY_RADIUS_KM_LIMIT = 2;
-
+  private static final int EARTH_RADIUS_METER = 6371000;
+  private static final int CLUSTER_CELL_PIXEL = 64; // 클러스터 한 칸의 화면상 크기
+  private static final int MAX_CLUSTER_CELLS = 400; // 뷰포트당 최대 클러스터 셀 수
+  private static final int OPEN_NOW_FETCH_FACTOR = 3; // 영업 중 필터 시 조회마다 늘려갈 배수
+  private static final int OPEN_NOW_MAX_ROUNDS = 3; // 영업 중 필터 시 최대 조회 횟수
+
+  @QueryBudget(5)
+  @Timed(MetricNames.SERVICE_TIMER)
   @Transactional(readOnly = true)
   public List<MarkerResponse> getMarkersByViewport(
       Double swLat,
@@ -89,17 +112,92 @@ public class SolmapService {
     // 사용자 로그인, 비로그인 확인
     User user = SecurityUtil.getUser(customUserDetails);
 
+    // 공간 인덱스 적재 전이면 DB에서 조회
+    if (!placeSpatialIndex.isReady()) {
+      return getMarkersByViewportFromDb(swLat, swLng, neLat, neLng, category, user);
+    }
+
+    // 좌표에 속한 장소를 메모리 공간 인덱스에서 조회
+    List<PlaceMarker> markers =
+        placeSpatialIndex.findInViewport(swLat, swLng, neLat, neLng, category);
+
+    // 쏠마크한 PlaceId 리스트 조회
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
+
+    // 마커 관련 데이터 리스트
+    return markers.stream()
+        .map(
+            m ->
+                MarkerResponse.builder()
+                    .id(m.id())
+                    .latitude(m.latitude())
+                    .longitude(m.longitude())
+                    .category(m.category())
+                    .isMarked(solmarkedPlaceIds.contains(m.id()))
+                    .build())
+        .toList();
+  }
+
+  private List<MarkerResponse> getMarkersByViewportFromDb(
+      Double swLat, Double swLng, Double neLat, Double neLng, String category, User user) {
     // 좌표에 속한 장소 조회
     List<Place> places =
-        placeRepository.findInViewportWithOptionalCategory(swLat, swLng, neLat, neLng, category);
+        placeRepository.findInViewportWithOptionalCategory(
+            PlaceUtil.toEnvelopeWkt(swLat, swLng, neLat, neLng), category);
 
     // 쏠마크한 PlaceId 리스트 조회
-    Set<Long> solmarkedPlaceIds = getSolmarkedPlaceIds(user, places);
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
 
     // 마커 관련 데이터 리스트
     return places.stream().map(p -> toMarkerDetail(p, category, solmarkedPlaceIds)).toList();
   }
 
+  @Transactional(readOnly = true)
+  public List<MarkerClusterResponse> getMarkerClustersByViewport(
+      Double swLat, Double swLng, Double neLat, Double neLng, String category, int zoom) {
+
+    // 좌표, 카테고리 유효성 검증
+    validViewport(swLat, swLng, neLat, neLng);
+    validCategory(category);
+
+    double cellSizeDegree = getClusterCellSizeDegree(swLat, swLng, neLat, neLng, zoom);
+
+    List<PlaceCluster> clusters;
+    if (placeSpatialIndex.isReady()) {
+      clusters =
+          placeSpatialIndex.clusterInViewport(swLat, swLng, neLat, neLng, category, cellSizeDegree);
+    } else {
+      // 공간 인덱스 적재 전이면 DB에서 조회한 마커를 묶음
+      PlaceClusterAggregator aggregator = new PlaceClusterAggregator(cellSizeDegree);
+      getMarkersByViewportFromDb(swLat, swLng, neLat, neLng, category, null)
+          .forEach(m -> aggregator.add(m.latitude(), m.longitude(), m.category()));
+      clusters = aggregator.toClusters();
+    }
+
+    return clusters.stream()
+        .map(
+            c ->
+                MarkerClusterResponse.builder()
+                    .latitude(c.latitude())
+                    .longitude(c.longitude())
+                    .count(c.count())
+                    .category(c.category())
+                    .build())
+        .toList();
+  }
+
+  /**
+   * 줌 레벨에서 CLUSTER_CELL_PIXEL 픽셀에 해당하는 경도 폭을 클러스터 격자 크기로 사용한다. 뷰포트에 대해 줌 레벨이 과도하게 크게 전달되더라도 셀 수가
+   * MAX_CLUSTER_CELLS를 넘지 않도록 격자 크기를 키운다.
+   */
+  private double getClusterCellSizeDegree(
+      Double swLat, Double swLng, Double neLat, Double neLng, int zoom) {
+    double zoomCellSize = 360.0 * CLUSTER_CELL_PIXEL / (256.0 * Math.pow(2, Math.max(zoom, 0)));
+    double viewportArea = (neLat - swLat) * (neLng - swLng);
+    double minCellSize = Math.sqrt(viewportArea / MAX_CLUSTER_CELLS);
+    return Math.max(zoomCellSize, minCellSize);
+  }
+
   private void validViewport(Double swLat, Double swLng, Double neLat, Double neLng) {
     if (swLat > neLat || swLng > neLng) {
       throw new CustomException(ErrorCode.INVALID_VIEWPORT_COORDINATES);
@@ -107,7 +205,7 @@ public class SolmapService {
   }
 
   private void validCategory(String category) {
-    if (category != null && !categoryRepository.existsByName(category)) {
+    if (category != null && !referenceDataCache.getCategoryNames().contains(category)) {
       throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
     }
   }
@@ -202,6 +300,8 @@ public class SolmapService {
     }
   }
 
+  @QueryBudget(9)
+  @Timed(MetricNames.SERVICE_TIMER)
   @Transactional(readOnly = true)
   public PlaceSearchPreviewResponse getPlacesPreview(
       Double swLat,
@@ -213,22 +313,30 @@ public class SolmapService {
       String category,
       Long cursorId,
       Double cursorDist,
-      int limit) {
+      int limit,
+      boolean openNow) {
 
     // 좌표, 카테고리 유효성 검증
     validViewport(swLat, swLng, neLat, neLng);
     validCategory(category);
 
     // 좌표에 속한 장소 조회
-    List<Place> places =
-        getPlacesByViewPort(
-            swLat, swLng, neLat, neLng, userLat, userLng, category, cursorId, cursorDist, limit);
-
-    // 다음 페이지 커서 값 세팅 (limit+1번째 데이터가 존재할 경우에만)
-    CursorInfo next = setNextCursor(places, userLat, userLng, limit);
+    PlacePage page =
+        fetchPlaces(
+            (id, dist, size) ->
+                getPlacesByViewPort(
+                    swLat, swLng, neLat, neLng, userLat, userLng, category, id, dist, size),
+            cursorId,
+            cursorDist,
+            limit,
+            openNow);
+
+    // 다음 페이지 커서 (limit+1번째 데이터가 존재하거나 영업 중 필터 조회 횟수 제한에 걸린 경우에만)
+    CursorInfo next = page.next();
 
     // PreviewDetail DTO 매핑
-    List<PlacePreviewDetail> placePreviewDetails = mapToPreviewDetails(places, limit);
+    List<PlacePreviewDetail> placePreviewDetails =
+        mapToPreviewDetails(placesOf(page.places()), limit);
 
     return PlaceSearchPreviewResponse.builder()
         .places(placePreviewDetails)
@@ -239,32 +347,45 @@ public class SolmapService {
 
   // 지도 뷰포트 내 포함 여부 조건
   private BooleanExpression viewPortIn(Double swLat, Double swLng, Double neLat, Double neLng) {
-    return p.latitude.between(swLat, neLat).and(p.longitude.between(swLng, neLng));
+    return envelopeContains(PlaceUtil.toEnvelopeWkt(swLat, swLng, neLat, neLng));
+  }
+
+  // 사각형(WKT) 내 포함 여부 조건 (places.location SPATIAL INDEX 사용)
+  private BooleanExpression envelopeContains(String envelopeWkt) {
+    return Expressions.numberTemplate(
+            Integer.class,
+            "function('MBRContains',"
+                + " function('ST_GeomFromText', {0}, 4326, 'axis-order=long-lat'), {1})",
+            envelopeWkt,
+            p.location)
+        .eq(1);
   }
 
   private BooleanExpression categoryIn(String category) {
     if (category == null) {
       return null;
     }
-    return c.name.eq(category);
+    return JPAExpressions.selectOne()
+        .from(pc)
+        .join(pc.category, c)
+        .where(pc.place.id.eq(p.id), c.name.eq(category))
+        .exists();
   }
 
-  // 장소 ~ 사용자 거리 계산(Haversine 공식, km단위)
+  // 장소 ~ 사용자 거리 계산(ST_Distance_Sphere, km단위)
   private NumberExpression<Double> distance(double userLat, double userLng) {
     return Expressions.numberTemplate(
         Double.class,
-        "6371 * acos("
-            + " cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) +"
-            + " sin(radians({0})) * sin(radians({1}))"
-            + ")",
-        userLat, // {0}
-        p.latitude, // {1}
-        p.longitude, // {2}
-        userLng // {3}
+        "function('ST_Distance_Sphere', {0},"
+            + " function('ST_SRID', function('POINT', {1}, {2}), 4326), {3}) / 1000",
+        p.location, // {0}
+        userLng, // {1}
+        userLat, // {2}
+        EARTH_RADIUS_METER // {3}
         );
   }
 
-  private List<Place> getPlacesByViewPort(
+  private List<PlaceWithDistance> getPlacesByViewPort(
       Double swLat,
       Double swLng,
       Double neLat,
@@ -275,37 +396,112 @@ public class SolmapService {
       Long cursorId,
       Double cursorDist,
       int limit) {
+    return findPlacesByDistance(
+        viewPortIn(swLat, swLng, neLat, neLng),
+        category,
+        userLat,
+        userLng,
+        cursorId,
+        cursorDist,
+        limit);
+  }
+
+  /**
+   * 조건에 맞는 장소를 거리순으로 limit+1개 조회한다. 먼저 장소 ID와 거리만 거리순으로 잘라낸 뒤 해당 ID의 엔티티를 적재한다. 카테고리 조건은
+   * EXISTS로 걸어 컬렉션 조인으로 행이 늘어나지 않으므로 DISTINCT 없이 LIMIT이 바로 적용된다. 거리는 정렬과 커서 비교에 쓰인 SQL 값을 그대로
+   * 반환한다.
+   */
+  private List<PlaceWithDistance> findPlacesByDistance(
+      BooleanExpression area,
+      String category,
+      Double userLat,
+      Double userLng,
+      Long cursorId,
+      Double cursorDist,
+      int limit) {
     NumberExpression<Double> distance = distance(userLat, userLng);
 
-    return jpaQueryFactory
-        .selectFrom(p)
-        .distinct()
-        .leftJoin(p.placeCategories, pc)
-        .leftJoin(pc.category, c)
-        .leftJoin(p.placeHours, ph)
-        .where(
-            viewPortIn(swLat, swLng, neLat, neLng),
-            categoryIn(category),
-            cursorAfter(cursorId, cursorDist, distance))
-        .orderBy(distance.asc(), p.id.asc())
-        .limit(limit + 1) // 커서 페이징을 위해 limit+1개 조회 (limit개 + nextCursor용 1개)
-        .fetch();
+    List<Tuple> rows =
+        jpaQueryFactory
+            .select(p.id, distance)
+            .from(p)
+            .where(area, categoryIn(category), cursorAfter(cursorId, cursorDist, distance))
+            .orderBy(distance.asc(), p.id.asc())
+            .limit(limit + 1) // 커서 페이징을 위해 limit+1개 조회 (limit개 + nextCursor용 1개)
+            .fetch();
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    // ID로 장소를 조회해 rows 순서대로 반환
+    List<Long> ids = rows.stream().map(row -> row.get(p.id)).toList();
+    List<Place> places = jpaQueryFactory.selectFrom(p).where(p.id.in(ids)).fetch();
+    Map<Long, Place> placeMap =
+        places.stream().collect(Collectors.toMap(Place::getId, Function.identity()));
+    return rows.stream()
+        .filter(row -> placeMap.containsKey(row.get(p.id)))
+        .map(row -> new PlaceWithDistance(placeMap.get(row.get(p.id)), row.get(distance)))
+        .toList();
+  }
+
+  private static List<Place> placesOf(List<PlaceWithDistance> places) {
+    return places.stream().map(PlaceWithDistance::place).toList();
+  }
+
+  /**
+   * 커서 페이지 조회. openNow이면 영업 중인 장소만 limit+1개가 모일 때까지 커서를 옮겨가며 조회 단위를 OPEN_NOW_FETCH_FACTOR배씩 늘려 다시
+   * 조회한다. 영업 중인 장소가 드문 경우를 대비해 조회 횟수는 OPEN_NOW_MAX_ROUNDS로 제한하며(미리보기 @QueryBudget은 이 횟수 기준), 제한에
+   * 걸리면 그때까지 모은 장소와 마지막으로 탐색한 행 다음을 가리키는 커서를 반환한다. 영업 시간 인덱스 적재 전에는 장소의 영업 시간을 지연 로딩해
+   * 판정하므로 그동안은 조회 횟수가 예산을 넘을 수 있다.
+   */
+  private PlacePage fetchPlaces(
+      PlacePageQuery query,
+      Long cursorId,
+      Double cursorDist,
+      int limit,
+      boolean openNow) {
+    if (!openNow) {
+      List<PlaceWithDistance> places = query.fetch(cursorId, cursorDist, limit);
+      return new PlacePage(places, setNextCursor(places, limit));
+    }
+
+    int now = WeeklySchedule.nowMinuteOfWeek();
+    int batchLimit = (limit + 1) * OPEN_NOW_FETCH_FACTOR;
+    List<PlaceWithDistance> openPlaces = new ArrayList<>();
+
+    for (int round = 0; round < OPEN_NOW_MAX_ROUNDS; round++) {
+      List<PlaceWithDistance> batch = query.fetch(cursorId, cursorDist, batchLimit);
+      for (PlaceWithDistance place : batch) {
+        if (openingHoursIndex.isOpenAt(place.place(), now)) {
+          openPlaces.add(place);
+          if (openPlaces.size() > limit) {
+            return new PlacePage(openPlaces, setNextCursor(openPlaces, limit));
+          }
+        }
+      }
+
+      // 더 조회할 장소가 없음
+      if (batch.size() <= batchLimit) {
+        return new PlacePage(openPlaces, CursorInfo.of(null, null));
+      }
+
+      PlaceWithDistance last = batch.get(batch.size() - 1);
+      cursorId = last.place().getId();
+      cursorDist = last.distance();
+      batchLimit *= OPEN_NOW_FETCH_FACTOR;
+    }
+
+    // 조회 횟수 제한에 걸림: 영업 중인 장소가 limit개보다 적더라도 마지막으로 탐색한 행 이후부터 이어서 조회하도록 커서 반환
+    return new PlacePage(openPlaces, CursorInfo.of(cursorId, cursorDist));
   }
 
-  // 커서(다음 페이지)용 거리 계산
-  private Double getNextCursorDistance(
-      Double userLat, Double userLng, Double placeLat, Double PlaceLng) {
-    double radUserLat = Math.toRadians(userLat);
-    double radUserLng = Math.toRadians(userLng);
-    double radPlaceLat = Math.toRadians(placeLat);
-    double radPlaceLng = Math.toRadians(PlaceLng);
+  /** 커서 페이지 조회 결과. places는 최대 limit+1개이며, next는 다음 페이지 커서(없으면 id, distance가 null) */
+  private record PlacePage(List<PlaceWithDistance> places, CursorInfo next) {}
 
-    return 6371
-        * Math.acos(
-            Math.sin(radUserLat) * Math.sin(radPlaceLat)
-                + Math.cos(radUserLat)
-                    * Math.cos(radPlaceLat)
-                    * Math.cos(radUserLng - radPlaceLng));
+  /** 커서 이후 장소를 거리순으로 limit+1개 조회하는 쿼리 */
+  @FunctionalInterface
+  private interface PlacePageQuery {
+    List<PlaceWithDistance> fetch(Long cursorId, Double cursorDist, int limit);
   }
 
   // 커서 이후 데이터 조건 (거리, id순)
@@ -338,37 +534,58 @@ public class SolmapService {
         .toList();
   }
 
-  /** keyword가 포함된 구 명을 중복 없이 조회하여 DTO로 매핑한 스트림을 반환. */
+  /** keyword가 포함된 구 명을 캐시된 구 목록에서 찾아 DTO로 매핑한 스트림을 반환. */
   private Stream<RelatedSearchResponse> getDistrictsByKeyword(String keyword) {
-    return jpaQueryFactory
-        .select(p.district)
-        .distinct()
-        .from(p)
-        .where(p.district.contains(keyword))
-        .fetch()
-        .stream()
+    return referenceDataCache.getDistricts().stream()
+        .filter(s -> s.contains(keyword))
         .map(s -> RelatedSearchResponse.builder().type(SearchType.DISTRICT).name(s).build());
   }
 
-  /** keyword가 포함된 동 명을 중복 없이 조회하여 DTO로 매핑한 스트림을 반환. */
+  /** keyword가 포함된 동 명을 캐시된 동 목록에서 찾아 DTO로 매핑한 스트림을 반환. */
   private Stream<RelatedSearchResponse> getNeighborhoodsByKeyword(String keyword) {
-    return jpaQueryFactory
-        .select(p.neighborhood)
-        .distinct()
-        .from(p)
-        .where(p.neighborhood.contains(keyword))
-        .fetch()
-        .stream()
+    return referenceDataCache.getNeighborhoods().stream()
+        .filter(s -> s.contains(keyword))
         .map(s -> RelatedSearchResponse.builder().type(SearchType.DISTRICT).name(s).build());
   }
 
-  /** keyword가 포함된 장소를 거리순으로 조회하여 DTO로 매핑한 스트림을 반환. */
+  /** keyword가 포함된 장소를 이름 일치도와 거리로 정렬하여 DTO로 매핑한 스트림을 반환. */
   private Stream<RelatedSearchResponse> getPlacesByKeyword(
       String keyword, Double userLat, Double userLng, User user) {
+    // 자동완성 인덱스 적재 전에는 DB에서 조회
+    if (!placeNameIndex.isReady()) {
+      return getPlacesByKeywordFromDb(keyword, userLat, userLng, user);
+    }
+
+    List<PlaceSuggestion> suggestions =
+        placeNameIndex.search(keyword, userLat, userLng, MAX_RELATED_SEARCH);
+    // 쏠마크한 PlaceId 리스트 조회
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
+
+    return suggestions.stream()
+        .map(
+            s ->
+                RelatedSearchResponse.builder()
+                    .id(s.id())
+                    .type(SearchType.PLACE)
+                    .name(s.name())
+                    .address(s.address())
+                    .distance(
+                        Distance.fromMeter(
+                            (int)
+                                PlaceUtil.calculateDistance(
+                                    userLat, userLng, s.latitude(), s.longitude())))
+                    .category(s.category())
+                    .isMarked(solmarkedPlaceIds.contains(s.id()))
+                    .build());
+  }
+
+  /** keyword가 포함된 장소를 DB에서 거리순으로 조회하여 DTO로 매핑한 스트림을 반환. */
+  private Stream<RelatedSearchResponse> getPlacesByKeywordFromDb(
+      String keyword, Double userLat, Double userLng, User user) {
     // 장소 조회
     List<Place> places = getPlaces(keyword, userLat, userLng);
     // 쏠마크한 PlaceId 리스트 조회
-    Set<Long> solmarkedPlaceIds = getSolmarkedPlaceIds(user, places);
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
 
     return places.stream()
         .map(
@@ -385,7 +602,7 @@ public class SolmapService {
                   .distance(
                       Distance.fromMeter(
                           (int)
-                              calculateDistance(
+                              PlaceUtil.calculateDistance(
                                   userLat, userLng, p.getLatitude(), p.getLongitude())))
                   .category(getMainCategory(p))
                   .isMarked(isMarked)
@@ -393,22 +610,6 @@ public class SolmapService {
             });
   }
 
-  private Set<Long> getSolmarkedPlaceIds(User user, List<Place> places) {
-    // 비로그인이거나 조회된 장소가 없으면 빈 Set 반환
-    if (user == null & places.isEmpty()) {
-      return Collections.emptySet();
-    }
-
-    List<Long> placeIds = places.stream().map(Place::getId).toList();
-
-    // 쏠마크 장소 조회
-    List<SolmarkPlace> solmarkPlaces =
-        solmarkPlaceRepository.findAllNonDeletedByUserAndPlaceIds(user, placeIds);
-
-    // 쏠마크 장소 ID Set 반환
-    return solmarkPlaces.stream().map(sp -> sp.getPlace().getId()).collect(Collectors.toSet());
-  }
-
   private List<Place> getPlaces(String keyword, Double userLat, Double userLng) {
     return jpaQueryFactory
         .select(p)
@@ -427,24 +628,6 @@ public class SolmapService {
     return place.getPlaceCategories().get(0).getCategory().getName();
   }
 
-  /** 두 위경도 좌표 간의 거리를 계산하여 미터 단위(double)로 반환. */
-  private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-    final int EARTH_RADIUS = 6371000; // 지구 반지름 (미터 단위)
-
-    double dLat = Math.toRadians(lat2 - lat1);
-    double dLng = Math.toRadians(lng2 - lng1);
-
-    double a =
-        Math.sin(dLat / 2) * Math.sin(dLat / 2)
-            + Math.cos(Math.toRadians(lat1))
-                * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLng / 2)
-                * Math.sin(dLng / 2);
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-    return EARTH_RADIUS * c; // 결과: 미터(m) 단위 거리
-  }
-
   public List<MarkerResponse> getMarkersByRegion(
       String regionName, CustomUserDetails customUserDetails) {
 
@@ -456,7 +639,7 @@ public class SolmapService {
   private List<MarkerResponse> getMarkerByRegion(String regionName, User user) {
     List<Place> places = placeRepository.findAllByRegionName(regionName);
     // 쏠마크한 PlaceId 리스트 조회
-    Set<Long> solmarkedPlaceIds = getSolmarkedPlaceIds(user, places);
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
 
     // 조회된 각 장소를 DTO 변환
     return places.stream().map(p -> getMarkerResponse(p, solmarkedPlaceIds)).toList();
@@ -474,6 +657,8 @@ public class SolmapService {
         .build();
   }
 
+  @QueryBudget(9)
+  @Timed(MetricNames.SERVICE_TIMER)
   @Transactional(readOnly = true)
   public PlaceSearchPreviewResponse getPlacesByRegionPreview(
       String regionName,
@@ -482,22 +667,30 @@ public class SolmapService {
       String category,
       Long cursorId,
       Double cursorDist,
-      int limit) {
+      int limit,
+      boolean openNow) {
 
     // 카테고리, 지역명 유효성 검증
     validCategory(category);
     validRegionName(regionName);
 
     // region, category, 커서 기준으로 장소를 limit+1개 조회
-    List<Place> fetched =
-        fetchPlacesByRegionAndCursor(
-            userLat, userLng, regionName, category, cursorId, cursorDist, limit);
-
-    // 다음 페이지 커서 값 세팅 (limit+1번째 데이터가 존재할 경우에만)
-    CursorInfo next = setNextCursor(fetched, userLat, userLng, limit);
+    PlacePage page =
+        fetchPlaces(
+            (id, dist, size) ->
+                fetchPlacesByRegionAndCursor(
+                    userLat, userLng, regionName, category, id, dist, size),
+            cursorId,
+            cursorDist,
+            limit,
+            openNow);
+
+    // 다음 페이지 커서 (limit+1번째 데이터가 존재하거나 영업 중 필터 조회 횟수 제한에 걸린 경우에만)
+    CursorInfo next = page.next();
 
     // 조회된 장소 중 limit개만 PlacePreviewDetail DTO 매핑
-    List<PlacePreviewDetail> placePreviewDetails = mapToPreviewDetails(fetched, limit);
+    List<PlacePreviewDetail> placePreviewDetails =
+        mapToPreviewDetails(placesOf(page.places()), limit);
 
     return PlaceSearchPreviewResponse.builder()
         .places(placePreviewDetails)
@@ -506,7 +699,7 @@ public class SolmapService {
         .build();
   }
 
-  private List<Place> fetchPlacesByRegionAndCursor(
+  private List<PlaceWithDistance> fetchPlacesByRegionAndCursor(
       Double userLat,
       Double userLng,
       String regionName,
@@ -515,65 +708,43 @@ public class SolmapService {
       Double cursorDist,
       int limit) {
 
-    // 거리 계산용 표현식 생성 (Haversine 공식)
-    NumberExpression<Double> distance = distance(userLat, userLng);
-
-    return jpaQueryFactory
-        .selectFrom(p)
-        .distinct()
-        .leftJoin(p.placeCategories, pc)
-        .leftJoin(pc.category, c)
-        .leftJoin(p.placeHours, ph)
-        .where(
-            regionNameIn(regionName),
-            categoryIn(category),
-            cursorAfter(cursorId, cursorDist, distance))
-        .orderBy(distance.asc(), p.id.asc())
-        .limit(limit + 1) // 커서 페이징을 위해 limit+1개 조회 (limit개 + nextCursor용 1개)
-        .fetch();
+    return findPlacesByDistance(
+        regionNameIn(regionName), category, userLat, userLng, cursorId, cursorDist, limit);
   }
 
-  private CursorInfo setNextCursor(List<Place> places, Double userLat, Double userLng, int limit) {
+  private CursorInfo setNextCursor(List<PlaceWithDistance> places, int limit) {
     Long nextCursor = null;
     Double nextCursorDist = null;
 
-    // limit+1개가 조회되었다면, 마지막 요소를 기준으로 커서 정보 생성
+    // limit+1개가 조회되었다면, 마지막 요소를 기준으로 커서 정보 생성 (거리는 SQL이 계산한 값 그대로 사용)
     if (places.size() > limit) {
-      nextCursor = places.get(limit - 1).getId();
-      Place place = places.get(limit - 1);
-      nextCursorDist =
-          getNextCursorDistance(userLat, userLng, place.getLatitude(), place.getLongitude());
+      PlaceWithDistance last = places.get(limit - 1);
+      nextCursor = last.place().getId();
+      nextCursorDist = last.distance();
     }
 
     return CursorInfo.of(nextCursor, nextCursorDist);
   }
 
   private List<PlacePreviewDetail> mapToPreviewDetails(List<Place> fetched, int limit) {
+    // limit개만 결과로 반환
+    List<Place> places = fetched.stream().limit(limit).toList();
+
+    // 태그, 썸네일, 추천 비율을 장소 단위가 아닌 페이지 단위로 일괄 조회
+    List<Long> placeIds = places.stream().map(Place::getId).toList();
+    Map<Long, PlacePreviewStats> previewStats =
+        placeRepository.getPreviewStatsForPlaces(placeIds, TAG_LIMIT, PREVIEW_THUMBNAIL_LIMIT);
+
+    // 영업 여부는 페이지 전체를 같은 시각 기준으로 인덱스에서 판정 (영업 시간 지연 로딩 없음)
+    int now = WeeklySchedule.nowMinuteOfWeek();
 
-    return fetched.stream()
-        .limit(limit) // limit개만 결과로 반환
+    return places.stream()
         .map(
-            p -> {
-              List<String> topTagsForPlace =
-                  placeRepository.getTopTagsForPlace(p.getId(), TAG_LIMIT);
-              List<String> reviewThumbnails =
-                  placeRepository.getReviewThumbnails(p.getId(), PREVIEW_THUMBNAIL_LIMIT);
-              OpenStatus openStatus = getOpenStatus(p);
-              Integer isSoloRecommendedPercent =
-                  placeRepository.getRecommendationPercent(p.getId());
-
-              return PlacePreviewDetail.builder()
-                  .id(p.getId())
-                  .name(p.getName())
-                  .detailedCategory(p.getTypes())
-                  .tags(topTagsForPlace)
-                  .isSoloRecommended(isSoloRecommendedPercent)
-                  .rating(truncateTo2Decimals(p.getRating()))
-                  .isOpen(openStatus.isOpen())
-                  .closingTime(openStatus.closingTime())
-                  .thumbnailUrls(reviewThumbnails)
-                  .build();
-            })
+            p ->
+                PlacePreviewDetail.of(
+                    p,
+                    previewStats.getOrDefault(p.getId(), PlacePreviewStats.empty()),
+                    openingHoursIndex.getOpenStatus(p, now)))
         .toList();
   }
 
@@ -582,76 +753,71 @@ public class SolmapService {
   }
 
   private void validRegionName(String regionName) {
-    if (!placeRepository.existsByDistrictOrNeighborhood(regionName, regionName)) {
+    if (!referenceDataCache.getDistricts().contains(regionName)
+        && !referenceDataCache.getNeighborhoods().contains(regionName)) {
       throw new CustomException(ErrorCode.REGION_NOT_FOUND);
     }
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * 장소 상세 조회. 장소 본문과 태그/추천 비율/썸네일/리뷰는 서로 독립적이므로 각각 별도의 읽기 전용 트랜잭션(별도 커넥션)에서 동시에 조회한다. 요청
+   * 스레드는 트랜잭션 없이 결과만 기다리므로 대기하는 동안 커넥션을 점유하지 않는다.
+   */
+  @QueryBudget(10)
+  @Timed(MetricNames.SERVICE_TIMER)
   public PlaceDetailSearchResponse getPlaceDetail(Long id) {
-    Place place =
-        placeRepository
-            .findByPlaceId(id)
-            .orElseThrow(() -> new CustomException(ErrorCode.PLACE_NOT_EXISTS));
-
-    // 현재 영업중 여부 및 마감 시간 반환
-    OpenStatus openStatus = getOpenStatus(place);
-
-    // 특정 장소의 리뷰들이 선택한 태그를 MOOD, SOLO로 구분하여 조회후 DTO 생성
-    List<TagInfo> moodTagInfo =
-        reviewTagCustomRepository.findTagCountsByPlaceAndType(place.getId(), TagType.MOOD);
-    List<TagInfo> soloTagInfo =
-        reviewTagCustomRepository.findTagCountsByPlaceAndType(place.getId(), TagType.SOLO);
-    PlaceTags placeTags = PlaceTags.of(moodTagInfo, soloTagInfo);
-
-    // 추천 비율 퍼센트 계산과 각 리뷰 썸네일 사진 조회
-    Integer recommendationPercent = placeRepository.getRecommendationPercent(place.getId());
-    List<String> thumbnails =
-        placeRepository.getReviewThumbnails(place.getId(), MAX_PLACE_THUMBNAIL_LIMIT);
+    QueryFanOut fanOut = queryFanOutExecutor.start("place_detail");
+    // 영업 시간, 카테고리는 지연 로딩이므로 장소를 조회한 트랜잭션 안에서 DTO로 변환
+    CompletableFuture<PlaceDetail> placeDetail =
+        fanOut.submit(
+            "place",
+            () -> {
+              Place place =
+                  placeRepository
+                      .findByPlaceId(id)
+                      .orElseThrow(() -> new CustomException(ErrorCode.PLACE_NOT_EXISTS));
+              // 현재 영업중 여부 및 마감 시간 반환
+              return mapToPlaceDetail(place, getOpenStatus(place));
+            });
+    CompletableFuture<List<TagInfo>> moodTagInfo =
+        fanOut.submit(
+            "mood_tags",
+            () -> placeTagStatsRepository.findTagCountsByPlaceAndType(id, TagType.MOOD));
+    CompletableFuture<List<TagInfo>> soloTagInfo =
+        fanOut.submit(
+            "solo_tags",
+            () -> placeTagStatsRepository.findTagCountsByPlaceAndType(id, TagType.SOLO));
+    CompletableFuture<Integer> recommendationPercent =
+        fanOut.submit("recommendation", () -> placeRepository.getRecommendationPercent(id));
+    CompletableFuture<List<String>> thumbnails =
+        fanOut.submit(
+            "thumbnails",
+            () -> placeRepository.getReviewThumbnails(id, MAX_PLACE_THUMBNAIL_LIMIT));
+    CompletableFuture<ReviewPageResponse> reviewPage =
+        fanOut.submit("reviews", () -> getReviewPage(id, null, INITIAL_REVIEW_LIMIT));
+
+    // 장소가 없으면 여기서 PLACE_NOT_EXISTS 예외가 그대로 전달됨
+    PlaceDetail detail = fanOut.await(placeDetail);
+
+    // 특정 장소의 리뷰들이 선택한 태그를 MOOD, SOLO로 구분하여 DTO 생성
+    PlaceTags placeTags = PlaceTags.of(fanOut.await(moodTagInfo), fanOut.await(soloTagInfo));
 
     // 장소 상세 정보 DTO 매핑
-    PlaceDetail placeDetail =
-        mapToPlaceDetail(place, openStatus, placeTags, recommendationPercent, thumbnails);
+    PlaceDetail merged =
+        detail.toBuilder()
+            .tags(placeTags)
+            .isSoloRecommended(fanOut.await(recommendationPercent))
+            .thumbnailUrl(fanOut.await(thumbnails))
+            .build();
 
     // 특정 장소 리뷰를 최신순, 최대 INITIAL_REVIEW_LIMIT 조회
-    PageRequest pageRequest = PageRequest.of(0, INITIAL_REVIEW_LIMIT);
-    List<Review> reviews =
-        reviewRepository.findByWithImagesAndUserByPlaceId(place.getId(), pageRequest);
+    List<ReviewDetail> reviewDetails = fanOut.await(reviewPage).reviews();
 
-    // 리뷰 조회 DTO 매핑
-    List<ReviewDetail> reviewDetails = mapToReviewDetail(reviews);
-
-    return PlaceDetailSearchResponse.of(placeDetail, reviewDetails);
+    return PlaceDetailSearchResponse.of(merged, reviewDetails);
   }
 
-  private List<ReviewDetail> mapToReviewDetail(List<Review> reviews) {
-    return reviews.stream()
-        .map(
-            r -> {
-              List<String> photoUrls =
-                  r.getReviewImages().stream().map(ReviewImage::getImageUrl).toList();
-              List<String> tags = r.getReviewTags().stream().map(ReviewTag::getName).toList();
-
-              return ReviewDetail.builder()
-                  .userProfileUrl(r.getUser().getProfileImageUrl())
-                  .userNickname(r.getUser().getNickname())
-                  .createdAt(r.getCreatedAt())
-                  .isRecommended(r.getRecommendation())
-                  .rating(Double.valueOf(r.getRating()))
-                  .content(r.getContent())
-                  .photoUrls(photoUrls)
-                  .tags(tags)
-                  .build();
-            })
-        .toList();
-  }
-
-  private PlaceDetail mapToPlaceDetail(
-      Place place,
-      OpenStatus openStatus,
-      PlaceTags placeTags,
-      Integer recommendationPercent,
-      List<String> thumbnails) {
+  // 장소 엔티티로 채울 수 있는 항목만 매핑 (태그, 추천 비율, 썸네일은 getPlaceDetail에서 채움)
+  private PlaceDetail mapToPlaceDetail(Place place, OpenStatus openStatus) {
 
     return PlaceDetail.builder()
         .id(place.getId())
@@ -664,10 +830,7 @@ public class SolmapService {
         .closingTime(openStatus.closingTime())
         .openingHours(getOpeningHours(place))
         .address(place.getAddress())
-        .tags(placeTags)
-        .isSoloRecommended(recommendationPercent)
         .rating(truncateTo2Decimals(place.getRating())) // 소수점 첫째 자리(0.1 단위)까지 절삭, 두번째 자리 이하 버림
-        .thumbnailUrl(thumbnails)
         .build();
   }
 
@@ -700,14 +863,20 @@ public class SolmapService {
     List<Place> places = placeRepository.findByPlace_IdIn(ids);
 
     // 쏠마크한 PlaceId 리스트 조회
-    Set<Long> solmarkedPlaceIds = getSolmarkedPlaceIds(user, places);
+    Set<Long> solmarkedPlaceIds = solmarkMembershipService.getMarkedPlaceIds(user);
 
     return places.stream().map(p -> getMarkerResponse(p, solmarkedPlaceIds)).toList();
   }
 
+  @QueryBudget(5)
   @Transactional(readOnly = true)
   public PlaceSearchPreviewResponse getPlacePreviewByRelatedSearch(
-      List<Long> ids, Long cursorId, int limit) {
+      List<Long> ids, Long cursorId, int limit, boolean openNow) {
+
+    // 영업 중인 장소만 남김 (순서 유지)
+    if (openNow) {
+      ids = filterOpenNow(ids);
+    }
 
     // 커서 기준으로 시작 인덱스 계산 (없으면 0)
     int startIdx = 0;
@@ -730,7 +899,8 @@ public class SolmapService {
     // 조회 결과를 placeIds 순서대로 정렬
     Map<Long, Place> placeMap =
         places.stream().collect(Collectors.toMap(Place::getId, Function.identity()));
-    List<Place> orderedPlaces = placeIds.stream().map(placeMap::get).toList();
+    List<Place> orderedPlaces =
+        placeIds.stream().map(placeMap::get).filter(Objects::nonNull).toList();
 
     // PlacePreviewDetail DTO로 매핑
     List<PlacePreviewDetail> placePreviewDetails = mapToPreviewDetails(orderedPlaces, limit);
@@ -744,15 +914,43 @@ public class SolmapService {
         .build();
   }
 
+  // 인덱스 적재 전에는 ID만으로 판정할 수 없으므로 장소를 조회해 영업 시간(지연 로딩)으로 판정
+  private List<Long> filterOpenNow(List<Long> ids) {
+    int now = WeeklySchedule.nowMinuteOfWeek();
+    if (openingHoursIndex.isReady()) {
+      return ids.stream().filter(id -> openingHoursIndex.isOpenAt(id, now)).toList();
+    }
+
+    Set<Long> openIds =
+        placeRepository.findByPlace_IdIn(ids).stream()
+            .filter(place -> openingHoursIndex.isOpenAt(place, now))
+            .map(Place::getId)
+            .collect(Collectors.toSet());
+    return ids.stream().filter(openIds::contains).toList();
+  }
+
+  @QueryBudget(6)
   @Transactional(readOnly = true)
   public PlaceSearchPreviewResponse getPlacesPreviewNearby(
-      Double userLat, Double userLng, Long cursorId, Double cursorDist, int limit) {
+      Double userLat,
+      Double userLng,
+      Long cursorId,
+      Double cursorDist,
+      int limit,
+      boolean openNow) {
     // 반경 km 이내의 장소 조회
-    List<Place> places = getPlacesNearby(userLat, userLng, cursorId, cursorDist, limit);
-    // 커서 정보 세팅
-    CursorInfo next = setNextCursor(places, userLat, userLng, limit);
+    PlacePage page =
+        fetchPlaces(
+            (id, dist, size) -> getPlacesNearby(userLat, userLng, id, dist, size),
+            cursorId,
+            cursorDist,
+            limit,
+            openNow);
+    // 커서 정보
+    CursorInfo next = page.next();
     // PlacePreviewDetail DTO 매핑
-    List<PlacePreviewDetail> placePreviewDetails = mapToPreviewDetails(places, limit);
+    List<PlacePreviewDetail> placePreviewDetails =
+        mapToPreviewDetails(placesOf(page.places()), limit);
 
     return PlaceSearchPreviewResponse.builder()
         .places(placePreviewDetails)
@@ -761,52 +959,104 @@ public class SolmapService {
         .build();
   }
 
-  private List<Place> getPlacesNearby(
+  private List<PlaceWithDistance> getPlacesNearby(
       Double userLat, Double userLng, Long cursorId, Double cursorDist, int limit) {
 
     NumberExpression<Double> distance = distance(userLat, userLng);
 
     return jpaQueryFactory
-        .selectFrom(p)
-        .where(nearby(distance), cursorAfter(cursorId, cursorDist, distance))
+        .select(p, distance)
+        .from(p)
+        .where(
+            envelopeContains(PlaceUtil.toEnvelopeWkt(userLat, userLng, NEARBY_RADIUS_KM_LIMIT)),
+            nearby(distance),
+            cursorAfter(cursorId, cursorDist, distance))
         .orderBy(distance.asc(), p.id.asc())
         .limit(limit + 1)
-        .fetch();
+        .fetch()
+        .stream()
+        .map(row -> new PlaceWithDistance(row.get(p), row.get(distance)))
+        .toList();
   }
 
   private BooleanExpression nearby(NumberExpression<Double> distance) {
     return distance.loe(NEARBY_RADIUS_KM_LIMIT);
   }
 
+  @QueryBudget(3)
   @Transactional(readOnly = true)
   public ReviewPageResponse getReviewDetails(Long id, Long cursorId, int limit) {
+    ReviewPageResponse response = getReviewPage(id, cursorId, limit);
 
-    // 장소(placeId), 리뷰(cursorId) 검증
-    validPlace(id);
-    if (cursorId != null) {
-      validReview(cursorId);
+    // 조회된 리뷰가 없을 때만 장소(placeId) 존재 여부 검증
+    if (response.reviews().isEmpty()) {
+      validPlace(id);
     }
 
+    return response;
+  }
+
+  /**
+   * 장소 상세 최초 조회와 리뷰 더보기가 함께 사용하는 리뷰 페이지 조회 (cursorId 미만 id 역순). 리뷰 한 페이지를 조회한 뒤 이미지와 태그를 페이지의 리뷰
+   * ID로 한 번씩 조회해 리뷰별로 묶는다.
+   */
+  private ReviewPageResponse getReviewPage(Long placeId, Long cursorId, int limit) {
     // cursorId를 기반으로 리뷰 조회(limit + 1)
-    List<Review> reviews = getReviews(id, cursorId, limit);
+    List<ReviewFeedRow> rows =
+        reviewRepository.findFeedByPlaceId(placeId, cursorId, PageRequest.of(0, limit + 1));
 
     // 조회된 리뷰가 limit + 1 크기일경우 nextCursor 세팅
     Long nextCursor = null;
-    if (reviews.size() > limit) {
-      reviews.remove(reviews.size() - 1);
-      nextCursor = reviews.get(reviews.size() - 1).getId();
+    if (rows.size() > limit) {
+      rows = rows.subList(0, limit);
+      nextCursor = rows.get(rows.size() - 1).id();
+    }
+
+    if (rows.isEmpty()) {
+      return ReviewPageResponse.of(List.of(), nextCursor);
     }
 
+    // 페이지의 리뷰 이미지, 태그를 리뷰 ID별로 묶음 (id 오름차순 유지)
+    List<Long> reviewIds = rows.stream().map(ReviewFeedRow::id).toList();
+    Map<Long, List<String>> imageUrls =
+        groupByReviewId(reviewRepository.findImageUrlsByReviewIds(reviewIds));
+    Map<Long, List<String>> tags =
+        groupByReviewId(reviewRepository.findTagNamesByReviewIds(reviewIds));
+
     // ReviewDetail DTO 매핑
-    List<ReviewDetail> reviewDetails = mapToReviewDetail(reviews);
+    List<ReviewDetail> reviewDetails =
+        rows.stream()
+            .map(
+                row ->
+                    toReviewDetail(
+                        row,
+                        imageUrls.getOrDefault(row.id(), List.of()),
+                        tags.getOrDefault(row.id(), List.of())))
+            .toList();
 
     return ReviewPageResponse.of(reviewDetails, nextCursor);
   }
 
-  private void validReview(Long reviewId) {
-    if (!reviewRepository.existsById(reviewId)) {
-      throw new CustomException(ErrorCode.REVIEW_NOT_FOUND);
-    }
+  private static Map<Long, List<String>> groupByReviewId(List<ReviewValueRow> rows) {
+    return rows.stream()
+        .collect(
+            Collectors.groupingBy(
+                ReviewValueRow::reviewId,
+                Collectors.mapping(ReviewValueRow::value, Collectors.toList())));
+  }
+
+  private ReviewDetail toReviewDetail(
+      ReviewFeedRow row, List<String> photoUrls, List<String> tags) {
+    return ReviewDetail.builder()
+        .userProfileUrl(row.userProfileImageUrl())
+        .userNickname(row.userNickname())
+        .createdAt(row.createdAt())
+        .isRecommended(row.recommendation())
+        .rating(Double.valueOf(row.rating()))
+        .content(row.content())
+        .photoUrls(photoUrls)
+        .tags(tags)
+        .build();
   }
 
   private void validPlace(Long id) {
@@ -814,38 +1064,4 @@ public class SolmapService {
       throw new CustomException(ErrorCode.PLACE_NOT_EXISTS);
     }
   }
-
-  private List<Review> getReviews(Long placeId, Long cursorId, int limit) {
-
-    List<Long> ids =
-        jpaQueryFactory
-            .select(r.id)
-            .from(r)
-            .where(placeIdEq(placeId).and(reviewIdLT(cursorId)).and(r.deletedAt.isNull()))
-            .orderBy(r.id.desc())
-            .limit(limit + 1)
-            .fetch();
-
-    return jpaQueryFactory
-        .selectFrom(r)
-        .distinct()
-        .leftJoin(r.reviewImages)
-        .fetchJoin()
-        .join(r.user)
-        .fetchJoin()
-        .where(r.id.in(ids))
-        .orderBy(r.id.desc())
-        .fetch();
-  }
-
-  private BooleanExpression placeIdEq(Long placeId) {
-    return p.id.eq(placeId);
-  }
-
-  private BooleanExpression reviewIdLT(Long reviewId) {
-    if (reviewId == null) {
-      return null;
-    }
-    return r.id.lt(reviewId);
-  }
 }
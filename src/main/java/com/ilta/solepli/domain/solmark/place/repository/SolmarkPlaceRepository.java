@@ -15,15 +15,14 @@ public interface SolmarkPlaceRepository extends JpaRepository<SolmarkPlace, Long
 
   @Query(
       """
-    SELECT sp
+    SELECT DISTINCT sp.place.id
     FROM SolmarkPlace sp
     JOIN sp.solmarkPlaceCollection spc
-    WHERE spc.user = :user
-    AND sp.place.id IN :placeIds
+    WHERE spc.user.id = :userId
     AND sp.deletedAt IS NULL
     AND spc.deletedAt IS NULL
 """)
-  List<SolmarkPlace> findAllNonDeletedByUserAndPlaceIds(User user, List<Long> placeIds);
+  List<Long> findMarkedPlaceIdsByUserId(Long userId);
 
   Boolean existsBySolmarkPlaceCollectionInAndPlace(
       List<SolmarkPlaceCollection> solmarkPlaceCollection, Place place);
@@ -19,11 +19,13 @@ import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlace;
 import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlaceCollection;
 import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceCollectionRepository;
 import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceRepository;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
 import com.ilta.solepli.domain.user.entity.User;
 import com.ilta.solepli.domain.user.util.CustomUserDetails;
 import com.ilta.solepli.global.entity.Timestamped;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.metrics.QueryBudget;
 import com.ilta.solepli.global.util.PlaceUtil;
 
 @Slf4j
@@ -34,6 +36,7 @@ public class SolmarkPlaceService {
   private final SolmarkPlaceCollectionRepository solmarkPlaceCollectionRepository;
   private final PlaceRepository placeRepository;
   private final SolmarkPlaceRepository solmarkPlaceRepository;
+  private final SolmarkMembershipService solmarkMembershipService;
 
   private static final int MAX_PLACES_PER_COLLECTION = 100;
   private static final int MAX_COLLECTIONS_PER_USER = 50;
@@ -64,6 +67,7 @@ public class SolmarkPlaceService {
     solmarkPlaceCollectionRepository.save(placeCollection);
   }
 
+  @QueryBudget(3)
   @Transactional(readOnly = true)
   public List<CollectionResponse> getCollections(CustomUserDetails customUserDetails) {
     User user = customUserDetails.user();
@@ -89,6 +93,7 @@ public class SolmarkPlaceService {
         .build();
   }
 
+  @QueryBudget(5)
   @Transactional(readOnly = true)
   public SolmarkPlacesResponse getSolmarkPlaces(
       CustomUserDetails customUserDetails, Long collectionId) {
@@ -98,20 +103,34 @@ public class SolmarkPlaceService {
         solmarkPlaceRepository.findByUserAndCollectionId(customUserDetails.user(), collectionId);
     // 쏠마크 장소 개수
     int placeCount = solmarkplaces.size();
+    if (solmarkplaces.isEmpty()) {
+      return SolmarkPlacesResponse.of(List.of(), placeCount);
+    }
+
+    // 태그, 추천 비율을 장소 단위가 아닌 리스트 단위로 일괄 조회
+    List<Long> placeIds = solmarkplaces.stream().map(sp -> sp.getPlace().getId()).toList();
+    Map<Long, List<String>> tagsByPlace = placeRepository.getTopTagsForPlaces(placeIds, TAG_LIMIT);
+    Map<Long, Integer> recommendationPercents =
+        placeRepository.getRecommendationPercentsForPlaces(placeIds);
 
     // 쏠마크 장소 조회 DTO 매핑
     List<SolmarkPlaceDto> solmarkPlaceDtos =
-        solmarkplaces.stream().map(this::mapToSolmarkPlaceDto).toList();
+        solmarkplaces.stream()
+            .map(sp -> mapToSolmarkPlaceDto(sp, tagsByPlace, recommendationPercents))
+            .toList();
 
     return SolmarkPlacesResponse.of(solmarkPlaceDtos, placeCount);
   }
 
-  private SolmarkPlaceDto mapToSolmarkPlaceDto(SolmarkPlace sp) {
+  private SolmarkPlaceDto mapToSolmarkPlaceDto(
+      SolmarkPlace sp,
+      Map<Long, List<String>> tagsByPlace,
+      Map<Long, Integer> recommendationPercents) {
     Long placeId = sp.getPlace().getId();
     String name = sp.getPlace().getName();
     String detailedCategory = sp.getPlace().getTypes();
-    Integer recommendationPercent = placeRepository.getRecommendationPercent(placeId);
-    List<String> tags = placeRepository.getTopTagsForPlace(placeId, TAG_LIMIT);
+    Integer recommendationPercent = recommendationPercents.get(placeId);
+    List<String> tags = tagsByPlace.getOrDefault(placeId, List.of());
     Double rating = PlaceUtil.truncateTo2Decimals(sp.getPlace().getRating());
 
     return SolmarkPlaceDto.builder()
@@ -154,6 +173,9 @@ public class SolmarkPlaceService {
         .findByIdAndUser(collectionId, user)
         .orElseThrow(() -> new CustomException(ErrorCode.COLLECTION_NOT_FOUND))
         .softDelete(); // delete 시점 기록
+
+    // 저장 리스트의 장소가 쏠마크 해제되므로 쏠마크 장소 캐시 무효화
+    solmarkMembershipService.evictPlacesAfterCommit(user.getId());
   }
 
   @Transactional
@@ -189,6 +211,10 @@ public class SolmarkPlaceService {
     addSolmarkPlace(user, toAdd, place);
     // 쏠마크 장소 삭제(softDelete)
     softDeleteSolmarkPlace(user, toRemove, place);
+
+    if (!toAdd.isEmpty() || !toRemove.isEmpty()) {
+      solmarkMembershipService.evictPlacesAfterCommit(user.getId());
+    }
   }
 
   /** 지정한 저장 리스트에서 해당 장소에 대한 쏠마크를 soft-delete 처리 */
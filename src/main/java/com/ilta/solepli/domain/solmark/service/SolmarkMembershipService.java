@@ -0,0 +1,139 @@
+package com.ilta.solepli.domain.solmark.service;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceRepository;
+import com.ilta.solepli.domain.solmark.sollect.repository.SolmarkSollectRepository;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.global.cache.CacheNames;
+
+/**
+ * 사용자가 쏠마크한 장소/쏠렉트 ID 집합을 제공한다.
+ *
+ * <p>사용자별 ID 목록을 정렬된 long[]로 2단계 캐시(Caffeine + Redis)에 보관하므로, 목록 응답의 쏠마크 여부는 DB 조회 없이 이진 탐색으로
+ * 판별한다. 쏠마크 추가/삭제 트랜잭션이 커밋되면 해당 사용자의 캐시를 비워 다음 조회 때 다시 적재한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SolmarkMembershipService {
+
+  private final SolmarkPlaceRepository solmarkPlaceRepository;
+  private final SolmarkSollectRepository solmarkSollectRepository;
+  private final CacheManager cacheManager;
+
+  /** 사용자가 쏠마크한 장소 ID 집합을 반환한다. 비로그인이면 빈 Set을 반환한다. */
+  public Set<Long> getMarkedPlaceIds(User user) {
+    if (user == null) {
+      return Collections.emptySet();
+    }
+    long[] ids =
+        getCache(CacheNames.SOLMARK_PLACES).get(user.getId(), () -> loadPlaceIds(user));
+    return new SortedIdSet(ids);
+  }
+
+  /** 사용자가 쏠마크한 쏠렉트 ID 집합을 반환한다. 비로그인이면 빈 Set을 반환한다. */
+  public Set<Long> getMarkedSollectIds(User user) {
+    if (user == null) {
+      return Collections.emptySet();
+    }
+    long[] ids =
+        getCache(CacheNames.SOLMARK_SOLLECTS).get(user.getId(), () -> loadSollectIds(user));
+    return new SortedIdSet(ids);
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤 사용자의 쏠마크 장소 캐시를 비운다. */
+  public void evictPlacesAfterCommit(Long userId) {
+    afterCommit(() -> getCache(CacheNames.SOLMARK_PLACES).evict(userId));
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤 사용자의 쏠마크 쏠렉트 캐시를 비운다. */
+  public void evictSollectsAfterCommit(Long userId) {
+    afterCommit(() -> getCache(CacheNames.SOLMARK_SOLLECTS).evict(userId));
+  }
+
+  private Cache getCache(String name) {
+    return cacheManager.getCache(name);
+  }
+
+  private long[] loadPlaceIds(User user) {
+    return toSortedArray(solmarkPlaceRepository.findMarkedPlaceIdsByUserId(user.getId()));
+  }
+
+  private long[] loadSollectIds(User user) {
+    return toSortedArray(solmarkSollectRepository.findSollectIdsByUser(user));
+  }
+
+  private static long[] toSortedArray(List<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+  }
+
+  // 커밋 전에 비우면 동시 조회가 커밋 전 데이터를 다시 캐시할 수 있으므로 커밋 후에 비운다
+  private void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            task.run();
+          }
+        });
+  }
+
+  /** 정렬된 long[]을 감싸는 읽기 전용 Set. contains는 이진 탐색으로 판별한다. */
+  private static final class SortedIdSet extends AbstractSet<Long> {
+
+    private final long[] ids;
+
+    private SortedIdSet(long[] ids) {
+      this.ids = ids;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof Long id && Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return ids.length;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+      return new Iterator<>() {
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+          return index < ids.length;
+        }
+
+        @Override
+        public Long next() {
+          if (index >= ids.length) {
+            throw new NoSuchElementException();
+          }
+          return ids[index++];
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,3 @@
+package com.ilta.solepli.domain.solmark.sollect.dto;
+
+public record SollectSavedCount(Long sollectId, Long savedCount) {}
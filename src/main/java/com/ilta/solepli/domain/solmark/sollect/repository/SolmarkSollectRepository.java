@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.ilta.solepli.domain.sollect.entity.Sollect;
+import com.ilta.solepli.domain.solmark.sollect.dto.SollectSavedCount;
 import com.ilta.solepli.domain.solmark.sollect.entity.SolmarkSollect;
 import com.ilta.solepli.domain.user.entity.User;
 
@@ -27,5 +28,13 @@ public interface SolmarkSollectRepository extends JpaRepository<SolmarkSollect,
           + "ORDER BY COUNT(s) DESC")
   List<Long> findPopularSollectIds(Pageable pageable);
 
+  @Query(
+      "SELECT new com.ilta.solepli.domain.solmark.sollect.dto.SollectSavedCount("
+          + "s.sollect.id, COUNT(s)) "
+          + "FROM SolmarkSollect s "
+          + "WHERE s.sollect.deletedAt IS NULL "
+          + "GROUP BY s.sollect.id")
+  List<SollectSavedCount> findSavedCounts();
+
   boolean existsBySollectIdAndUser(Long sollectId, User user);
 }
@@ -0,0 +1,127 @@
+package com.ilta.solepli.domain.solmark.sollect.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.domain.solmark.sollect.dto.SollectSavedCount;
+import com.ilta.solepli.domain.solmark.sollect.repository.SolmarkSollectRepository;
+
+/**
+ * 쏠렉트 저장 수 순위를 Redis ZSET(member: 쏠렉트 ID, score: 저장 수)으로 관리한다.
+ *
+ * <p>쏠마크 추가/삭제와 쏠렉트 삭제 트랜잭션이 커밋되면 점수를 증감하므로, 인기 쏠렉트 조회는 solmark_sollects를 집계하지 않고 ZSET 상위 N개만
+ * 읽는다. 증감 누락(Redis 장애, 재집계 중 발생한 변경 등)은 주기적인 MySQL 재집계로 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularSollectService {
+
+  private static final String RANKING_KEY = "popular_sollect:saved";
+  private static final String REBUILD_KEY = "popular_sollect:saved:rebuild";
+  private static final long RECONCILE_DELAY_MS = 600_000;
+
+  private final SolmarkSollectRepository solmarkSollectRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  /** 저장 수 상위 limit개 쏠렉트 ID를 순위순으로 반환한다. 순위가 아직 없거나 Redis를 읽지 못하면 DB에서 집계한다. */
+  public List<Long> getPopularSollectIds(int limit) {
+    try {
+      Set<Object> members = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, limit - 1);
+      if (members != null && !members.isEmpty()) {
+        return members.stream().map(member -> Long.valueOf(member.toString())).toList();
+      }
+    } catch (RuntimeException e) {
+      log.warn("[PopularSollect] 순위 조회 실패: {}", e.getMessage());
+    }
+    return solmarkSollectRepository.findPopularSollectIds(PageRequest.of(0, limit));
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤 쏠렉트의 저장 수를 delta만큼 증감한다. */
+  public void incrementAfterCommit(Long sollectId, int delta) {
+    afterCommit(() -> increment(sollectId, delta));
+  }
+
+  /** 현재 트랜잭션이 커밋된 뒤 삭제된 쏠렉트를 순위에서 제거한다. */
+  public void removeAfterCommit(Long sollectId) {
+    afterCommit(() -> remove(sollectId));
+  }
+
+  /** MySQL의 저장 수로 순위를 다시 만들어 증감 누락을 바로잡는다. 새 키에 적재한 뒤 교체하므로 조회 중 순위가 비지 않는다. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelay = RECONCILE_DELAY_MS, initialDelay = RECONCILE_DELAY_MS)
+  public void reconcile() {
+    try {
+      List<SollectSavedCount> counts = solmarkSollectRepository.findSavedCounts();
+      if (counts.isEmpty()) {
+        redisTemplate.delete(RANKING_KEY);
+        return;
+      }
+
+      Set<TypedTuple<Object>> tuples = new HashSet<>();
+      for (SollectSavedCount count : counts) {
+        tuples.add(
+            new DefaultTypedTuple<>(
+                String.valueOf(count.sollectId()), count.savedCount().doubleValue()));
+      }
+
+      redisTemplate.delete(REBUILD_KEY);
+      redisTemplate.opsForZSet().add(REBUILD_KEY, tuples);
+      redisTemplate.rename(REBUILD_KEY, RANKING_KEY);
+      log.info("[PopularSollect] {}개 쏠렉트 순위 재집계", counts.size());
+    } catch (RuntimeException e) {
+      log.warn("[PopularSollect] 순위 재집계 실패: {}", e.getMessage());
+    }
+  }
+
+  private void increment(Long sollectId, int delta) {
+    try {
+      Double score =
+          redisTemplate.opsForZSet().incrementScore(RANKING_KEY, String.valueOf(sollectId), delta);
+      // 저장 수가 0이 된 쏠렉트는 순위에서 제외
+      if (score != null && score <= 0) {
+        redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(sollectId));
+      }
+    } catch (RuntimeException e) {
+      log.warn("[PopularSollect] 순위 갱신 실패 sollectId={}: {}", sollectId, e.getMessage());
+    }
+  }
+
+  private void remove(Long sollectId) {
+    try {
+      redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(sollectId));
+    } catch (RuntimeException e) {
+      log.warn("[PopularSollect] 순위 제거 실패 sollectId={}: {}", sollectId, e.getMessage());
+    }
+  }
+
+  private void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            task.run();
+          }
+        });
+  }
+}
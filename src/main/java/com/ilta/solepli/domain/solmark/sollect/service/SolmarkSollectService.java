@@ -2,7 +2,6 @@ package com.ilta.solepli.domain.solmark.sollect.service;
 
 import java.util.List;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import com.ilta.solepli.domain.sollect.entity.Sollect;
 import com.ilta.solepli.domain.sollect.repository.SollectRepository;
 import com.ilta.solepli.domain.sollect.repository.SollectRepositoryCustom;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
 import com.ilta.solepli.domain.solmark.sollect.dto.response.SolmarkSollectResponse;
 import com.ilta.solepli.domain.solmark.sollect.dto.response.SolmarkSollectResponseContent;
 import com.ilta.solepli.domain.solmark.sollect.entity.SolmarkSollect;
@@ -26,6 +26,8 @@ public class SolmarkSollectService {
   private final SolmarkSollectRepository solmarkSollectRepository;
   private final SollectRepository sollectRepository;
   private final SollectRepositoryCustom sollectRepositoryCustom;
+  private final PopularSollectService popularSollectService;
+  private final SolmarkMembershipService solmarkMembershipService;
 
   @Transactional
   public void addSolmarkSollect(User user, Long id) {
@@ -41,6 +43,8 @@ public class SolmarkSollectService {
     SolmarkSollect solmarkSollect = SolmarkSollect.builder().sollect(sollect).user(user).build();
 
     solmarkSollectRepository.save(solmarkSollect);
+    popularSollectService.incrementAfterCommit(id, 1);
+    solmarkMembershipService.evictSollectsAfterCommit(user.getId());
   }
 
   @Transactional(readOnly = true)
@@ -100,6 +104,8 @@ public class SolmarkSollectService {
             .orElseThrow(() -> new CustomException(ErrorCode.SOLMARK_SOLLECT_NOT_FOUND));
 
     solmarkSollectRepository.delete(solmarkSollect);
+    popularSollectService.incrementAfterCommit(id, -1);
+    solmarkMembershipService.evictSollectsAfterCommit(user.getId());
   }
 
   @Transactional(readOnly = true)
@@ -107,9 +113,8 @@ public class SolmarkSollectService {
     return solmarkSollectRepository.countSolmarkSollectsBySollect(sollect);
   }
 
-  @Transactional(readOnly = true)
   public List<Long> getPopularSollectIds(int limit) {
-    return solmarkSollectRepository.findPopularSollectIds(PageRequest.of(0, limit));
+    return popularSollectService.getPopularSollectIds(limit);
   }
 
   private List<SolmarkSollectResponse.SollectSearchContent> toResponseContent(
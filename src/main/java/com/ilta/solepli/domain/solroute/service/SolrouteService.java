@@ -1,21 +1,19 @@
 package com.ilta.solepli.domain.solroute.service;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.place.entity.Place;
 import com.ilta.solepli.domain.place.repository.PlaceRepository;
-import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlace;
-import com.ilta.solepli.domain.solmark.place.repository.SolmarkPlaceRepository;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
 import com.ilta.solepli.domain.solroute.dto.PlaceWithReviewCountDto;
 import com.ilta.solepli.domain.solroute.dto.request.SolrouteCreateRequest;
 import com.ilta.solepli.domain.solroute.dto.request.SolrouteCreateRequest.PlaceInfo;
@@ -31,6 +29,8 @@ import com.ilta.solepli.domain.solroute.repository.SolrouteRepository;
 import com.ilta.solepli.domain.user.entity.User;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.metrics.MetricNames;
+import com.ilta.solepli.global.metrics.QueryBudget;
 import com.ilta.solepli.global.util.PlaceUtil;
 
 @Service
@@ -40,7 +40,7 @@ public class SolrouteService {
   private final SolrouteRepository solrouteRepository;
   private final SolroutePlaceRepository solroutePlaceRepository;
   private final PlaceRepository placeRepository;
-  private final SolmarkPlaceRepository solmarkPlaceRepository;
+  private final SolmarkMembershipService solmarkMembershipService;
 
   @Transactional
   public void createSolroute(User user, SolrouteCreateRequest request) {
@@ -64,6 +64,8 @@ public class SolrouteService {
     solrouteRepository.save(solroute); // cascade로 SolroutePlace까지 저장
   }
 
+  @QueryBudget(10)
+  @Timed(MetricNames.SERVICE_TIMER)
   @Transactional(readOnly = true)
   public List<PlaceSummaryResponse> findNearbyPopularPlace(User user, Long placeId) {
     Place place =
@@ -74,17 +76,10 @@ public class SolrouteService {
     double baseLat = place.getLatitude();
     double baseLng = place.getLongitude();
 
-    double latDelta = 1.0 / 111.0;
-    double lngDelta = 1.0 / (111.0 * Math.cos(Math.toRadians(baseLat)));
-
-    double minLat = baseLat - latDelta;
-    double maxLat = baseLat + latDelta;
-    double minLng = baseLng - lngDelta;
-    double maxLng = baseLng + lngDelta;
-
-    // 1차 사각형 필터
+    // 1차 사각형 필터 (반경 1km를 감싸는 사각형, SPATIAL INDEX 사용)
     List<PlaceWithReviewCountDto> candidates =
-        placeRepository.findPlacesWithReviewCountInArea(minLat, maxLat, minLng, maxLng);
+        placeRepository.findPlacesWithReviewCountInArea(
+            PlaceUtil.toEnvelopeWkt(baseLat, baseLng, 1.0));
 
     // 정확히 1KM 내에 있는 장소만 추출
     List<Place> result =
@@ -101,7 +96,7 @@ public class SolrouteService {
             .toList();
 
     List<PlaceSummaryResponse> response = new ArrayList<>();
-    Set<Long> markedSet = getSolmarkedPlaceIds(user, result);
+    Set<Long> markedSet = solmarkMembershipService.getMarkedPlaceIds(user);
 
     for (Place p : result) {
       List<String> tags = placeRepository.getTopTagsForPlace(p.getId(), 3);
@@ -213,22 +208,6 @@ public class SolrouteService {
     solroute.softDelete();
   }
 
-  private Set<Long> getSolmarkedPlaceIds(User user, List<Place> places) {
-    // 비로그인이거나 조회된 장소가 없으면 빈 Set 반환
-    if (user == null & places.isEmpty()) {
-      return Collections.emptySet();
-    }
-
-    List<Long> placeIds = places.stream().map(Place::getId).toList();
-
-    // 쏠마크 장소 조회
-    List<SolmarkPlace> solmarkPlaces =
-        solmarkPlaceRepository.findAllNonDeletedByUserAndPlaceIds(user, placeIds);
-
-    // 쏠마크 장소 ID Set 반환
-    return solmarkPlaces.stream().map(sp -> sp.getPlace().getId()).collect(Collectors.toSet());
-  }
-
   private Solroute getSolrouteOrThrow(Long solrouteId, User user) {
     return solrouteRepository
         .findByIdAndUser(solrouteId, user)
@@ -0,0 +1,53 @@
+package com.ilta.solepli.domain.user.util;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * loginId 별 인증 주체(CustomUserDetails) 캐시.
+ *
+ * <p>인증된 요청마다 users 테이블을 조회하지 않도록 최초 1회 조회한 사용자를 크기·TTL 제한이 있는 메모리 캐시에 보관한다. 사용자 정보가 바뀌면 {@link
+ * #evict(String)}로 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+  private static final long MAXIMUM_SIZE = 10_000;
+  private static final Duration TTL = Duration.ofMinutes(30);
+
+  private final CustomUserDetailService customUserDetailService;
+
+  private final Cache<String, CustomUserDetails> cache =
+      Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(TTL).build();
+
+  /**
+   * 캐시된 인증 주체를 반환한다. 토큰의 userId, role 클레임과 캐시된 사용자가 다르면(재가입, 권한 변경 등) 다시 조회한다. 클레임이 없는 이전 토큰은
+   * loginId만으로 조회한다.
+   */
+  public CustomUserDetails get(String loginId, Long userId, String role) {
+    CustomUserDetails cached = cache.getIfPresent(loginId);
+    if (cached != null && matches(cached, userId, role)) {
+      return cached;
+    }
+
+    CustomUserDetails loaded =
+        (CustomUserDetails) customUserDetailService.loadUserByUsername(loginId);
+    cache.put(loginId, loaded);
+    return loaded;
+  }
+
+  public void evict(String loginId) {
+    cache.invalidate(loginId);
+  }
+
+  private boolean matches(CustomUserDetails cached, Long userId, String role) {
+    return (userId == null || userId.equals(cached.user().getId()))
+        && (role == null || role.equals(cached.user().getRole().name()));
+  }
+}
@@ -0,0 +1,86 @@
+package com.ilta.solepli.global.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import com.ilta.solepli.global.exception.CustomException;
+import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.metrics.StatementCounter;
+
+/**
+ * 한 요청 안에서 동시에 실행하는 조회 묶음. 모든 조회는 생성 시점부터 계산된 같은 기한(deadline)을 공유한다.
+ *
+ * <p>조회별 실행 시간은 "query.fanout.part" 타이머(fanout, part 태그)로 기록된다. 조회가 실행한 JDBC 문장 수는 요청 스레드의
+ * {@link StatementCounter}에 합산된다.
+ */
+@Slf4j
+public class QueryFanOut {
+
+  private static final String PART_TIMER = "query.fanout.part";
+
+  private final String name;
+  private final Executor executor;
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+  private final long deadlineNanos;
+
+  QueryFanOut(
+      String name,
+      Executor executor,
+      TransactionTemplate readOnlyTransaction,
+      MeterRegistry meterRegistry,
+      long timeoutMillis) {
+    this.name = name;
+    this.executor = executor;
+    this.readOnlyTransaction = readOnlyTransaction;
+    this.meterRegistry = meterRegistry;
+    this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+  }
+
+  /** query를 읽기 전용 트랜잭션 안에서 비동기로 실행한다. */
+  public <T> CompletableFuture<T> submit(String part, Supplier<T> query) {
+    Timer timer =
+        Timer.builder(PART_TIMER).tag("fanout", name).tag("part", part).register(meterRegistry);
+    Supplier<T> task =
+        StatementCounter.propagate(
+            () -> timer.record(() -> readOnlyTransaction.execute(status -> query.get())));
+    return CompletableFuture.supplyAsync(task, executor);
+  }
+
+  /** 기한까지 결과를 기다린다. 기한을 넘기면 예외를 던지고, 조회 중 발생한 예외는 그대로 다시 던진다. */
+  public <T> T await(CompletableFuture<T> future) {
+    long remaining = deadlineNanos - System.nanoTime();
+    try {
+      return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      log.warn("[QueryFanOut] {} 조회 기한 초과", name);
+      throw new CustomException(ErrorCode.QUERY_TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.QUERY_TIMEOUT);
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new IllegalStateException(cause);
+  }
+}
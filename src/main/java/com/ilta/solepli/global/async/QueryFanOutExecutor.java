@@ -0,0 +1,101 @@
+package com.ilta.solepli.global.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 서로 독립적인 읽기 쿼리를 동시에 실행하기 위한 {@link QueryFanOut}을 만든다.
+ *
+ * <p>각 쿼리는 별도의 읽기 전용 트랜잭션(별도 커넥션)으로 실행된다. 기본적으로 제한된 크기의 전용 스레드 풀을 사용하며, 대기열이 가득 차면 요청 스레드가
+ * 직접 실행하므로 부하가 높을 때는 순차 실행과 같아진다. 가상 스레드가 활성화되면(spring.threads.virtual.enabled) 쿼리마다 가상 스레드를
+ * 만들고, 동시 실행 수만 poolSize로 제한한다.
+ *
+ * <p>동시에 실행되는 쿼리마다 커넥션을 하나씩 쓰므로 poolSize는 커넥션 풀(Hikari maximum-pool-size)의 절반을 넘을 수 없으며, 기동 시 검증한다.
+ * 나머지 절반은 팬아웃을 쓰지 않는 요청의 트랜잭션 몫이다.
+ */
+@Component
+public class QueryFanOutExecutor implements DisposableBean {
+
+  private final Executor executor;
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+  private final QueryFanOutProperties properties;
+
+  public QueryFanOutExecutor(
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      QueryFanOutProperties properties,
+      Environment environment,
+      DataSource dataSource) {
+    validatePoolSize(properties, dataSource);
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+
+    this.executor =
+        Threading.VIRTUAL.isActive(environment)
+            ? createVirtualThreadExecutor(properties)
+            : createPlatformThreadExecutor(properties);
+  }
+
+  /** 설정된 제한 시간을 기한으로 하는 조회 묶음을 시작한다. name은 메트릭 태그로 사용된다. */
+  public QueryFanOut start(String name) {
+    return new QueryFanOut(
+        name, executor, readOnlyTransaction, meterRegistry, properties.getTimeoutMillis());
+  }
+
+  @Override
+  public void destroy() {
+    if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+      threadPool.shutdown();
+    } else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+      virtualThreads.close();
+    }
+  }
+
+  private static void validatePoolSize(QueryFanOutProperties properties, DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikari
+        && properties.getPoolSize() * 2 > hikari.getMaximumPoolSize()) {
+      throw new IllegalStateException(
+          "async.query.pool-size("
+              + properties.getPoolSize()
+              + ")는 커넥션 풀 크기("
+              + hikari.getMaximumPoolSize()
+              + ")의 절반 이하여야 합니다.");
+    }
+  }
+
+  private static Executor createPlatformThreadExecutor(QueryFanOutProperties properties) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("query-fanout-");
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  private static Executor createVirtualThreadExecutor(QueryFanOutProperties properties) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("query-fanout-");
+    executor.setVirtualThreads(true);
+    // 스레드 수 대신 동시 실행 수를 제한해 DB 커넥션 풀이 고갈되지 않도록 함
+    executor.setConcurrencyLimit(properties.getPoolSize());
+    return executor;
+  }
+}
@@ -0,0 +1,15 @@
+package com.ilta.solepli.global.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "async.query")
+public class QueryFanOutProperties {
+  private int poolSize = 4; // 동시 조회 수 (DB 커넥션 풀 크기의 절반 이하, 기동 시 검증)
+  private int queueCapacity = 200; // 대기 작업 수, 초과 시 요청 스레드에서 직접 실행
+  private long timeoutMillis = 3_000; // 요청 하나가 모든 조회 결과를 기다리는 최대 시간
+}
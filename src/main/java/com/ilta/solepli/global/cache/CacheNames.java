@@ -0,0 +1,11 @@
+package com.ilta.solepli.global.cache;
+
+public final class CacheNames {
+
+  public static final String CATEGORIES = "categories";
+  public static final String REGIONS = "regions";
+  public static final String SOLMARK_PLACES = "solmarkPlaces";
+  public static final String SOLMARK_SOLLECTS = "solmarkSollects";
+
+  private CacheNames() {}
+}
@@ -0,0 +1,61 @@
+package com.ilta.solepli.global.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.place.entity.mapping.PlaceCategory;
+
+/**
+ * Hibernate 2차 캐시 무효화용 관리 엔드포인트 (management 포트에서만 노출).
+ *
+ * <p>장소/영업 시간/카테고리를 DB에서 직접 수정한 경우 TTL을 기다리지 않고 반영하기 위해 사용한다. 장소 하나만 비울 때 영업 시간과 장소-카테고리는
+ * 엔티티 ID를 알 수 없으므로 region 전체를 비운다.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "entitycache")
+public class EntityCacheEndpoint {
+
+  private static final String PLACE_CATEGORIES_ROLE = Place.class.getName() + ".placeCategories";
+  private static final String PLACE_HOURS_ROLE = Place.class.getName() + ".placeHours";
+
+  private final Cache cache;
+
+  public EntityCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+    this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+  }
+
+  @DeleteOperation
+  public void evictAll() {
+    cache.evictEntityData(Place.class);
+    cache.evictCollectionData(PLACE_CATEGORIES_ROLE);
+    cache.evictCollectionData(PLACE_HOURS_ROLE);
+    cache.evictEntityData(PlaceCategory.class);
+    cache.evictEntityData(PlaceHour.class);
+    cache.evictEntityData(Category.class);
+
+    log.info("[EntityCache] 장소/카테고리 캐시 전체 무효화");
+  }
+
+  @DeleteOperation
+  public void evictPlace(@Selector Long placeId) {
+    cache.evictEntityData(Place.class, placeId);
+    cache.evictCollectionData(PLACE_CATEGORIES_ROLE, placeId);
+    cache.evictCollectionData(PLACE_HOURS_ROLE, placeId);
+    cache.evictEntityData(PlaceCategory.class);
+    cache.evictEntityData(PlaceHour.class);
+
+    log.info("[EntityCache] 장소 캐시 무효화 placeId={}", placeId);
+  }
+}
@@ -0,0 +1,14 @@
+package com.ilta.solepli.global.cache;
+
+/** Hibernate 2차 캐시 region 이름. 엔티티/컬렉션의 {@code @Cache(region = ...)}와 region 설정이 함께 사용한다. */
+public final class EntityCacheRegions {
+
+  public static final String PLACE = "place";
+  public static final String PLACE_CATEGORIES = "place.placeCategories";
+  public static final String PLACE_HOURS = "place.placeHours";
+  public static final String PLACE_CATEGORY = "placeCategory";
+  public static final String PLACE_HOUR = "placeHour";
+  public static final String CATEGORY = "category";
+
+  private EntityCacheRegions() {}
+}
@@ -0,0 +1,43 @@
+package com.ilta.solepli.global.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import com.ilta.solepli.domain.category.repository.CategoryRepository;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+
+/** 거의 변하지 않는 참조 데이터(카테고리명, 구/동 목록)를 2단계 캐시로 제공한다. */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+  private final CategoryRepository categoryRepository;
+  private final PlaceRepository placeRepository;
+
+  @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "'names'", sync = true)
+  public List<String> getCategoryNames() {
+    return new ArrayList<>(categoryRepository.findAllNames());
+  }
+
+  @Cacheable(cacheNames = CacheNames.REGIONS, key = "'districts'", sync = true)
+  public List<String> getDistricts() {
+    return new ArrayList<>(placeRepository.findDistinctDistricts());
+  }
+
+  @Cacheable(cacheNames = CacheNames.REGIONS, key = "'neighborhoods'", sync = true)
+  public List<String> getNeighborhoods() {
+    return new ArrayList<>(placeRepository.findDistinctNeighborhoods());
+  }
+
+  @CacheEvict(cacheNames = CacheNames.CATEGORIES, allEntries = true)
+  public void evictCategories() {}
+
+  @CacheEvict(cacheNames = CacheNames.REGIONS, allEntries = true)
+  public void evictRegions() {}
+}
@@ -0,0 +1,186 @@
+package com.ilta.solepli.global.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 Caffeine(L1) 앞단과 Redis(L2) 뒷단으로 구성된 2단계 캐시.
+ *
+ * <p>조회는 L1 → L2 → 원본 순서로 진행하며 L2에서 찾은 값은 L1에 채운다. 쓰기/삭제는 L2와 L1에 모두 반영한 뒤 다른 인스턴스가 자신의 L1을 비우도록
+ * 무효화 메시지를 발행한다.
+ *
+ * <p>Redis는 성능을 위한 보조 저장소이므로 L2 오류는 로그만 남긴다. 조회 실패는 L2 miss로 보고 원본을 조회하며, 쓰기/삭제 실패에도 L1 반영과 무효화
+ * 발행은 그대로 진행한다(다른 인스턴스의 L2 값은 TTL 후 만료됨).
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+  private final Cache remote;
+  private final Consumer<String> invalidationPublisher; // 무효화할 key 문자열 (null이면 전체)
+  private final ConcurrentHashMap<Object, ReentrantLock> loadLocks = new ConcurrentHashMap<>();
+
+  private final Counter remoteHit;
+  private final Counter remoteMiss;
+
+  public TwoLevelCache(
+      String name,
+      com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+      Cache remote,
+      Consumer<String> invalidationPublisher,
+      MeterRegistry meterRegistry) {
+    super(false);
+    this.name = name;
+    this.local = local;
+    this.remote = remote;
+    this.invalidationPublisher = invalidationPublisher;
+    this.remoteHit = remoteCounter(meterRegistry, name, "hit");
+    this.remoteMiss = remoteCounter(meterRegistry, name, "miss");
+  }
+
+  private static Counter remoteCounter(MeterRegistry meterRegistry, String name, String result) {
+    return Counter.builder("cache.l2.gets")
+        .description("Redis(L2) 캐시 조회 결과")
+        .tag("cache", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return local;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    Object value = local.getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+
+    value = lookupRemote(key);
+    if (value != null) {
+      local.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * 값이 없으면 valueLoader로 원본을 조회해 L2, L1에 채우며, 같은 key의 원본 조회는 key별 락으로 한 번만 실행한다.
+   *
+   * <p>Caffeine의 get(key, mappingFunction) 안에서 원본을 조회하면 해시 bin의 synchronized 락을 잡은 채 DB를 기다리게 된다.
+   * 그동안 가상 스레드가 캐리어 스레드에 고정되고 같은 bin의 다른 key 조회도 막히므로 원본 조회는 Caffeine 밖에서 한다.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    Object value = lookup(key);
+    if (value != null) {
+      return (T) value;
+    }
+
+    ReentrantLock lock = loadLocks.computeIfAbsent(key, k -> new ReentrantLock());
+    lock.lock();
+    try {
+      // 락을 기다리는 동안 다른 스레드가 채웠을 수 있음
+      value = lookup(key);
+      if (value != null) {
+        return (T) value;
+      }
+
+      try {
+        value = valueLoader.call();
+      } catch (Exception e) {
+        throw new ValueRetrievalException(key, valueLoader, e);
+      }
+      if (value != null) {
+        putRemote(key, value);
+        local.put(key, value);
+      }
+      return (T) value;
+    } finally {
+      lock.unlock();
+      // 기다리는 스레드가 없으면 락 제거 (경합으로 락이 새로 만들어져도 재확인 덕분에 결과는 같음)
+      if (!lock.hasQueuedThreads()) {
+        loadLocks.remove(key, lock);
+      }
+    }
+  }
+
+  private Object lookupRemote(Object key) {
+    ValueWrapper wrapper;
+    try {
+      wrapper = remote.get(key);
+    } catch (RuntimeException e) {
+      log.warn("[TwoLevelCache] L2 조회 실패 {}::{}: {}", name, key, e.getMessage());
+      return null;
+    }
+    if (wrapper == null || wrapper.get() == null) {
+      remoteMiss.increment();
+      return null;
+    }
+    remoteHit.increment();
+    return wrapper.get();
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    putRemote(key, toStoreValue(value));
+    local.put(key, toStoreValue(value));
+    invalidationPublisher.accept(key.toString());
+  }
+
+  @Override
+  public void evict(Object key) {
+    try {
+      remote.evict(key);
+    } catch (RuntimeException e) {
+      log.warn("[TwoLevelCache] L2 삭제 실패 {}::{}: {}", name, key, e.getMessage());
+    }
+    local.invalidate(key);
+    invalidationPublisher.accept(key.toString());
+  }
+
+  @Override
+  public void clear() {
+    try {
+      remote.clear();
+    } catch (RuntimeException e) {
+      log.warn("[TwoLevelCache] L2 전체 삭제 실패 {}: {}", name, e.getMessage());
+    }
+    local.invalidateAll();
+    invalidationPublisher.accept(null);
+  }
+
+  private void putRemote(Object key, Object value) {
+    try {
+      remote.put(key, value);
+    } catch (RuntimeException e) {
+      log.warn("[TwoLevelCache] L2 저장 실패 {}::{}: {}", name, key, e.getMessage());
+    }
+  }
+
+  /** 다른 인스턴스에서 발행한 무효화 메시지를 받아 L1만 비운다. */
+  void evictLocal(String key) {
+    if (key == null) {
+      local.invalidateAll();
+      return;
+    }
+    local.asMap().keySet().removeIf(k -> k.toString().equals(key));
+  }
+}
@@ -0,0 +1,105 @@
+package com.ilta.solepli.global.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 이름별로 {@link TwoLevelCache}를 생성하는 CacheManager.
+ *
+ * <p>캐시 변경 시 "인스턴스ID|캐시명|key" 형식의 메시지를 Redis 채널로 발행하고, 다른 인스턴스가 보낸 메시지를 받으면 해당 캐시의 L1만 비운다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+  private static final String SEPARATOR = "|";
+  private static final String ALL_KEYS = "*";
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  private final RedisCacheManager redisCacheManager;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final String invalidationChannel;
+  private final long localMaximumSize;
+  private final Duration localTtl;
+
+  public TwoLevelCacheManager(
+      RedisCacheManager redisCacheManager,
+      RedisTemplate<String, Object> redisTemplate,
+      MeterRegistry meterRegistry,
+      String invalidationChannel,
+      long localMaximumSize,
+      Duration localTtl) {
+    this.redisCacheManager = redisCacheManager;
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.invalidationChannel = invalidationChannel;
+    this.localMaximumSize = localMaximumSize;
+    this.localTtl = localTtl;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  private TwoLevelCache createCache(String name) {
+    com.github.benmanes.caffeine.cache.Cache<Object, Object> local =
+        Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+    return new TwoLevelCache(
+        name,
+        local,
+        redisCacheManager.getCache(name),
+        key -> publishInvalidation(name, key),
+        meterRegistry);
+  }
+
+  private void publishInvalidation(String name, String key) {
+    String message = String.join(SEPARATOR, instanceId, name, key == null ? ALL_KEYS : key);
+    try {
+      redisTemplate.convertAndSend(invalidationChannel, message);
+    } catch (RuntimeException e) {
+      // 발행에 실패해도 다른 인스턴스의 L1은 TTL 후 만료됨
+      log.warn("[TwoLevelCache] 무효화 메시지 발행 실패 {}: {}", message, e.getMessage());
+    }
+  }
+
+  /** 무효화 채널 메시지 처리. 자신이 발행한 메시지는 이미 반영되었으므로 무시한다. */
+  public void onInvalidation(String message) {
+    String[] parts = message.split("\\|", 3);
+    if (parts.length < 3 || parts[0].equals(instanceId)) {
+      return;
+    }
+
+    TwoLevelCache cache = caches.get(parts[1]);
+    if (cache != null) {
+      cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+    }
+  }
+}
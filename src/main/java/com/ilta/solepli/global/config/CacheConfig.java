@@ -0,0 +1,66 @@
+package com.ilta.solepli.global.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.ilta.solepli.global.cache.TwoLevelCacheManager;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  private static final String INVALIDATION_CHANNEL = "cache_invalidation";
+  private static final long LOCAL_MAXIMUM_SIZE = 1_000;
+  private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+  private static final Duration REMOTE_TTL = Duration.ofHours(6);
+
+  @Bean
+  public TwoLevelCacheManager cacheManager(
+      RedisConnectionFactory redisConnectionFactory,
+      RedisTemplate<String, Object> redisTemplate,
+      MeterRegistry meterRegistry) {
+
+    // L2: Redis (key prefix "cache:{cacheName}::")
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(
+                RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(REMOTE_TTL)
+                    .prefixCacheNameWith("cache:"))
+            .build();
+    redisCacheManager.afterPropertiesSet();
+
+    return new TwoLevelCacheManager(
+        redisCacheManager,
+        redisTemplate,
+        meterRegistry,
+        INVALIDATION_CHANNEL,
+        LOCAL_MAXIMUM_SIZE,
+        LOCAL_TTL);
+  }
+
+  // 다른 인스턴스가 발행한 캐시 무효화 메시지 수신
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(INVALIDATION_CHANNEL));
+    return container;
+  }
+}
@@ -0,0 +1,70 @@
+package com.ilta.solepli.global.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+
+import com.ilta.solepli.global.cache.EntityCacheRegions;
+
+/**
+ * 장소/카테고리 엔티티용 Hibernate 2차 캐시(JCache + Caffeine) 설정.
+ *
+ * <p>region마다 최대 크기와 TTL을 지정한 캐시를 미리 만들어 Hibernate에 넘긴다. 장소 데이터는 외부(Google Places)에서 적재되어 애플리케이션
+ * 밖에서 바뀔 수 있으므로, TTL이 지나면 DB에서 다시 읽는다. 즉시 반영이 필요하면 entitycache 관리 엔드포인트로 비운다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+  private static final Duration TTL = Duration.ofHours(1);
+
+  // region별 최대 엔트리 수
+  private static final Map<String, Long> REGION_MAXIMUM_SIZES =
+      Map.of(
+          EntityCacheRegions.PLACE, 20_000L,
+          EntityCacheRegions.PLACE_CATEGORIES, 20_000L,
+          EntityCacheRegions.PLACE_HOURS, 20_000L,
+          EntityCacheRegions.PLACE_CATEGORY, 50_000L,
+          EntityCacheRegions.PLACE_HOUR, 150_000L,
+          EntityCacheRegions.CATEGORY, 1_000L);
+
+  @Bean(destroyMethod = "close")
+  public CacheManager entityCacheManager() {
+    CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    CacheManager cacheManager =
+        provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+    REGION_MAXIMUM_SIZES.forEach(
+        (region, maximumSize) -> cacheManager.createCache(region, regionConfig(maximumSize)));
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+    return properties -> {
+      properties.put("hibernate.cache.region.factory_class", "jcache");
+      properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+      // 미리 만들지 않은 region이 쓰이면 무제한 캐시가 생기지 않도록 기동 실패
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+
+  private static CaffeineConfiguration<Object, Object> regionConfig(long maximumSize) {
+    CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+    config.setMaximumSize(OptionalLong.of(maximumSize));
+    config.setExpireAfterWrite(OptionalLong.of(TTL.toNanos()));
+    config.setStatisticsEnabled(true);
+    return config;
+  }
+}
@@ -0,0 +1,28 @@
+package com.ilta.solepli.global.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+
+import com.ilta.solepli.global.metrics.CountingStatementInspector;
+
+@Configuration
+public class MetricsConfig {
+
+  // 서비스 메서드의 @Timed 처리
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  // 요청별 JDBC 문장 수 집계
+  @Bean
+  public HibernatePropertiesCustomizer statementCountCustomizer() {
+    return properties ->
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+  }
+}
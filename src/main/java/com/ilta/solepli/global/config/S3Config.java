@@ -1,13 +1,19 @@
 package com.ilta.solepli.global.config;
 
+import java.util.concurrent.Executors;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -23,13 +29,41 @@ public class S3Config {
   @Value("${cloud.aws.region.static}")
   private String region;
 
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint; // 로컬 MinIO 등 S3 호환 스토리지 주소 (비어 있으면 AWS S3 사용)
+
+  @Value("${cloud.aws.s3.upload-concurrency:8}")
+  private int uploadConcurrency;
+
   @Bean
   public AmazonS3Client amazonS3Client() {
     BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-    return (AmazonS3Client)
+    AmazonS3ClientBuilder builder =
         AmazonS3ClientBuilder.standard()
-            .withRegion(region)
-            .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-            .build();
+            .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+
+    if (endpoint.isBlank()) {
+      builder.withRegion(region);
+    } else {
+      builder
+          .withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+          .withPathStyleAccessEnabled(true);
+    }
+    return (AmazonS3Client) builder.build();
+  }
+
+  /**
+   * 여러 이미지를 동시에 업로드하기 위한 TransferManager. 업로드(및 큰 파일의 멀티파트 파트 전송)는 고정 크기 스레드 풀에서 실행되어 동시 S3 요청
+   * 수가 uploadConcurrency로 제한된다.
+   */
+  @Bean(destroyMethod = "shutdownNow")
+  public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+    return TransferManagerBuilder.standard()
+        .withS3Client(amazonS3Client)
+        .withExecutorFactory(
+            () ->
+                Executors.newFixedThreadPool(
+                    uploadConcurrency, new CustomizableThreadFactory("s3-upload-")))
+        .build();
   }
 }
@@ -18,7 +18,7 @@ import lombok.RequiredArgsConstructor;
 
 import com.ilta.solepli.domain.auth.filter.JwtAuthenticationFilter;
 import com.ilta.solepli.domain.auth.service.JwtTokenProvider;
-import com.ilta.solepli.domain.user.util.CustomUserDetailService;
+import com.ilta.solepli.domain.user.util.UserPrincipalCache;
 
 @Configuration
 @RequiredArgsConstructor
@@ -26,7 +26,7 @@ import com.ilta.solepli.domain.user.util.CustomUserDetailService;
 public class SecurityConfig {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final CustomUserDetailService customUserDetailService;
+  private final UserPrincipalCache userPrincipalCache;
 
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -71,7 +71,7 @@ public class SecurityConfig {
         // CORS 설정을 수동으로 추가
         .cors(cors -> cors.configurationSource(corsConfigurationSource()))
         .addFilterBefore(
-            new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailService),
+            new JwtAuthenticationFilter(jwtTokenProvider, userPrincipalCache),
             UsernamePasswordAuthenticationFilter.class) // JWT 필터 추가
         .build();
   }
@@ -0,0 +1,36 @@
+package com.ilta.solepli.global.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 가상 스레드 사용 시(spring.threads.virtual.enabled) 커넥션 풀 설정.
+ *
+ * <p>가상 스레드에서는 요청 동시성을 Tomcat 스레드 수가 아닌 커넥션 풀이 제한하므로, 커넥션을 기다리는 요청이 오래 쌓이지 않도록 대기 시간을 짧게 두어
+ * 빠르게 실패시킨다. 플랫폼 스레드에서는 Hikari 기본값(30초)을 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadDataSourceConfig {
+
+  private static final long CONNECTION_TIMEOUT_MILLIS = 3_000;
+
+  // spring.datasource.hikari 바인딩 이후에 적용되도록 순서 없는 BeanPostProcessor로 등록
+  @Bean
+  public static BeanPostProcessor virtualThreadConnectionTimeout() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+          dataSource.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,4 @@
+package com.ilta.solepli.global.dto;
+
+/** 클라이언트가 S3에 직접 업로드할 때 사용하는 presigned PUT URL. contentType 헤더를 그대로 보내야 한다. */
+public record PresignedUpload(String key, String uploadUrl, String contentType) {}
@@ -0,0 +1,19 @@
+package com.ilta.solepli.global.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * S3에 업로드된 원본 이미지와 축소본의 URL 및 객체 키. 축소본을 만들지 못한 경우 variantUrl, variantKey는 null이다. 정리(삭제)할 때는 URL을
+ * 다시 해석하지 않고 업로드한 키를 그대로 사용한다.
+ */
+public record UploadedImage(String url, String variantUrl, String key, String variantKey) {
+
+  public static List<String> allKeys(List<UploadedImage> images) {
+    return images.stream()
+        .flatMap(image -> Stream.of(image.key(), image.variantKey()))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+}
@@ -10,6 +10,9 @@ public enum ErrorCode {
   // 에러코드 예시: 샘플 에러
   SAMPLE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "예시: 샘플 에러가 발생했습니다."),
 
+  // 공통 에러
+  QUERY_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "조회 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
   // 인증 관련 에러
   INCORRECT_ACCOUNT(HttpStatus.BAD_REQUEST, "해당 계정이 존재하지 않습니다."),
   INCORRECT_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 틀렸습니다."),
@@ -48,6 +51,8 @@ public enum ErrorCode {
   S3_DELETE_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "S3 버킷에서 파일을 삭제하는 중 에러가 발생했습니다."),
   MALFORMED_URL_EXCEPTION(HttpStatus.BAD_REQUEST, "잘못된 URL 형식입니다."),
   FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "파일을 찾을 수 없습니다."),
+  INVALID_IMAGE_KEY(HttpStatus.BAD_REQUEST, "발급되지 않은 이미지 키입니다."),
+  IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "S3에 업로드되지 않은 이미지입니다."),
 
   // 리뷰 등록 관련 에러
   REVIEW_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "해당 장소에 이미 리뷰를 작성하셨습니다."),
@@ -0,0 +1,137 @@
+package com.ilta.solepli.global.image;
+
+import java.awt.geom.AffineTransform;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * JPEG EXIF의 Orientation(0x0112) 태그.
+ *
+ * <p>휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 화면에 보일 방향을 이 태그로만 표시한다. 축소본은 메타데이터 없이 다시 인코딩되므로, 태그가 가리키는
+ * 회전/반전을 픽셀에 직접 적용해야 원본과 같은 방향으로 보인다. 태그가 없거나 JPEG가 아니면 {@link #NORMAL}로 본다.
+ */
+final class ExifOrientation {
+
+  static final int NORMAL = 1;
+
+  private static final int SOI = 0xFFD8;
+  private static final int APP1 = 0xFFE1;
+  private static final int SOS = 0xFFDA;
+  private static final int ORIENTATION_TAG = 0x0112;
+  private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+  private ExifOrientation() {}
+
+  /** 이미지 스트림 앞부분의 마커 세그먼트에서 Orientation 값(1~8)을 읽는다. 스트림은 닫지 않는다. */
+  static int read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readUnsignedShort() != SOI) {
+      return NORMAL;
+    }
+
+    // 이미지 데이터(SOS)가 시작되기 전까지 세그먼트를 건너뛰며 EXIF(APP1)를 찾음
+    while (true) {
+      int marker = data.readUnsignedShort();
+      if ((marker & 0xFF00) != 0xFF00 || marker == SOS) {
+        return NORMAL;
+      }
+      int length = data.readUnsignedShort() - 2;
+      if (length < 0) {
+        return NORMAL;
+      }
+      if (marker != APP1) {
+        data.skipNBytes(length);
+        continue;
+      }
+
+      byte[] segment = new byte[length];
+      data.readFully(segment);
+      int orientation = parseApp1(segment);
+      if (orientation != 0) {
+        return orientation;
+      }
+    }
+  }
+
+  /** Orientation이 가로/세로를 바꾸는 회전(5~8)인지. */
+  static boolean swapsDimensions(int orientation) {
+    return orientation >= 5 && orientation <= 8;
+  }
+
+  /**
+   * 너비 {@code width}, 높이 {@code height}로 그린 이미지를 보이는 방향으로 옮기는 변환. 가로/세로가 바뀌는 경우 결과 캔버스는 높이 x 너비
+   * 크기여야 한다.
+   */
+  static AffineTransform transform(int orientation, int width, int height) {
+    AffineTransform t = new AffineTransform();
+    switch (orientation) {
+      case 2 -> { // 좌우 반전
+        t.translate(width, 0);
+        t.scale(-1, 1);
+      }
+      case 3 -> { // 180도 회전
+        t.translate(width, height);
+        t.quadrantRotate(2);
+      }
+      case 4 -> { // 상하 반전
+        t.translate(0, height);
+        t.scale(1, -1);
+      }
+      case 5 -> { // 좌상단-우하단 대각선 기준 반전
+        t.quadrantRotate(-1);
+        t.scale(-1, 1);
+      }
+      case 6 -> { // 시계 방향 90도 회전
+        t.translate(height, 0);
+        t.quadrantRotate(1);
+      }
+      case 7 -> { // 우상단-좌하단 대각선 기준 반전
+        t.translate(height, width);
+        t.quadrantRotate(1);
+        t.scale(-1, 1);
+      }
+      case 8 -> { // 반시계 방향 90도 회전
+        t.translate(0, width);
+        t.quadrantRotate(-1);
+      }
+      default -> {}
+    }
+    return t;
+  }
+
+  // "Exif\0\0" 다음의 TIFF 헤더와 IFD0에서 Orientation을 찾고, EXIF가 아니거나 태그가 없으면 0
+  private static int parseApp1(byte[] segment) {
+    if (segment.length < EXIF_HEADER.length + 8) {
+      return 0;
+    }
+    for (int i = 0; i < EXIF_HEADER.length; i++) {
+      if (segment[i] != EXIF_HEADER[i]) {
+        return 0;
+      }
+    }
+
+    ByteBuffer tiff =
+        ByteBuffer.wrap(segment, EXIF_HEADER.length, segment.length - EXIF_HEADER.length).slice();
+    tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    int ifdOffset = tiff.getInt(4);
+    if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+      return 0;
+    }
+
+    int entries = tiff.getShort(ifdOffset) & 0xFFFF;
+    for (int i = 0; i < entries; i++) {
+      int entry = ifdOffset + 2 + i * 12;
+      if (entry + 12 > tiff.limit()) {
+        return 0;
+      }
+      if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+        int value = tiff.getShort(entry + 8) & 0xFFFF;
+        return value >= 1 && value <= 8 ? value : NORMAL;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,125 @@
+package com.ilta.solepli.global.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지의 축소본(JPEG)을 만든다.
+ *
+ * <p>원본 전체를 디코딩하지 않고, 목표 너비 이상이 유지되는 정수 배율로 픽셀을 건너뛰며 스트림에서 바로 읽는다. 수천만 화소 사진도 디코딩 버퍼가 배율의 제곱만큼
+ * 줄어든다. EXIF Orientation이 있으면 보이는 방향 기준으로 너비를 맞추고 회전/반전을 픽셀에 적용한다. 읽을 수 없는 형식이면 축소본 없이 원본만
+ * 사용하도록 빈 값을 반환한다.
+ */
+@Slf4j
+@Component
+public class ImageResizer {
+
+  private static final float JPEG_QUALITY = 0.8f;
+
+  public Optional<byte[]> resize(MultipartFile file, int targetWidth) {
+    try {
+      return resize(file, targetWidth, readOrientation(file));
+    } catch (IOException | RuntimeException e) {
+      log.warn("[ImageResizer] 축소본 생성 실패 file={}: {}", file.getOriginalFilename(), e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private Optional<byte[]> resize(MultipartFile file, int targetWidth, int orientation)
+      throws IOException {
+    try (InputStream in = file.getInputStream();
+        ImageInputStream input = ImageIO.createImageInputStream(in)) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return Optional.empty();
+      }
+
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        int orientedWidth = swap ? reader.getHeight(0) : reader.getWidth(0);
+        int step = Math.max(1, orientedWidth / targetWidth);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(step, step, 0, 0);
+
+        return Optional.of(encodeJpeg(scale(reader.read(0, param), targetWidth, orientation)));
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  // Orientation을 읽지 못해도 축소본은 만들 수 있으므로 원래 방향으로 간주
+  private int readOrientation(MultipartFile file) {
+    try (InputStream in = file.getInputStream()) {
+      return ExifOrientation.read(in);
+    } catch (IOException | RuntimeException e) {
+      return ExifOrientation.NORMAL;
+    }
+  }
+
+  // 보이는 방향의 너비가 목표보다 큰 경우에만 줄이고, 투명 배경은 흰색으로 채워 RGB로 변환
+  private BufferedImage scale(BufferedImage source, int targetWidth, int orientation) {
+    boolean swap = ExifOrientation.swapsDimensions(orientation);
+    int sourceWidth = swap ? source.getHeight() : source.getWidth();
+    int sourceHeight = swap ? source.getWidth() : source.getHeight();
+
+    int width = Math.min(targetWidth, sourceWidth);
+    int height = Math.max(1, Math.round((float) sourceHeight * width / sourceWidth));
+
+    BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = scaled.createGraphics();
+    try {
+      g.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      // 원본 방향 그대로 축소해 그리면서 회전/반전을 함께 적용
+      int drawWidth = swap ? height : width;
+      int drawHeight = swap ? width : height;
+      g.transform(ExifOrientation.transform(orientation, drawWidth, drawHeight));
+      g.drawImage(source, 0, 0, drawWidth, drawHeight, null);
+    } finally {
+      g.dispose();
+    }
+    return scaled;
+  }
+
+  private byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,18 @@
+package com.ilta.solepli.global.image;
+
+import lombok.Getter;
+
+/** 업로드 이미지와 함께 저장하는 축소본 종류. 원본(full)은 그대로 보관한다. */
+@Getter
+public enum ImageVariant {
+  THUMB("thumb", 320), // 지도 미리보기 카드, 장소 상세 썸네일
+  CARD("card", 720); // 쏠렉트 목록 카드
+
+  private final String folderName;
+  private final int width;
+
+  ImageVariant(String folderName, int width) {
+    this.folderName = folderName;
+    this.width = width;
+  }
+}
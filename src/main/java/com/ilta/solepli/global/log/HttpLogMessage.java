@@ -2,116 +2,72 @@ package com.ilta.solepli.global.log;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import lombok.Getter;
+/**
+ * 요청/응답 로그 스냅샷. 요청 스레드에서는 크기가 제한된 값만 복사해 만들고, JSON 직렬화는 {@link HttpLogWriter}의 백그라운드 스레드에서
+ * 수행한다.
+ */
+public record HttpLogMessage(
+    String timestamp,
+    String requestId,
+    String httpMethod,
+    String requestUri,
+    int httpStatus,
+    String clientIp,
+    double elapsedTime,
+    Map<String, String> headers,
+    String requestParam,
+    String requestBody,
+    String responseBody) {
 
-@Getter
-public class HttpLogMessage {
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
-  private final String httpMethod;
-  private final String requestUri;
-  private final HttpStatus httpStatus;
-  private final String clientIp;
-  private final double elapsedTime;
-  private final String headers;
-  private final String requestParam;
-  private final String requestBody;
-  private final String responseBody;
-  private final String timestamp;
-
-  public HttpLogMessage(
-      String httpMethod,
-      String requestUri,
-      HttpStatus httpStatus,
-      String clientIp,
+  /** 본문까지 포함한 스냅샷 (샘플링된 요청) */
+  public static HttpLogMessage createInstance(
+      String requestId,
+      HttpServletRequest request,
+      HttpServletResponse response,
       double elapsedTime,
-      String headers,
-      String requestParam,
       String requestBody,
-      String responseBody,
-      String timestamp) {
-
-    this.httpMethod = httpMethod;
-    this.requestUri = requestUri;
-    this.httpStatus = httpStatus;
-    this.clientIp = clientIp;
-    this.elapsedTime = elapsedTime;
-    this.headers = headers;
-    this.requestParam = requestParam;
-    this.requestBody = requestBody;
-    this.responseBody = responseBody;
-    this.timestamp = timestamp;
-  }
-
-  public static HttpLogMessage createInstance(
-      ContentCachingRequestWrapper requestWrapper,
-      ContentCachingResponseWrapper responseWrapper,
-      double elapsedTime) {
-
-    String method = requestWrapper.getMethod();
-    String uri = requestWrapper.getRequestURI();
-    HttpStatus status = HttpStatus.valueOf(responseWrapper.getStatus());
-    String clientIp = RequestUtils.getClientIp(requestWrapper);
-    String headers = RequestUtils.getRequestHeaders(requestWrapper);
-    String requestParam = RequestUtils.getRequestParams(requestWrapper);
-    String requestBody = RequestUtils.getRequestBody(requestWrapper);
-    String responseBody = RequestUtils.getResponseBody(responseWrapper);
-    String timestamp =
-        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+      String responseBody) {
 
     return new HttpLogMessage(
-        method,
-        uri,
-        status,
-        clientIp,
+        LocalDateTime.now().format(TIMESTAMP_FORMATTER),
+        requestId,
+        request.getMethod(),
+        request.getRequestURI(),
+        response.getStatus(),
+        RequestUtils.getClientIp(request),
         elapsedTime,
-        headers,
-        requestParam,
+        RequestUtils.getRequestHeaders(request),
+        RequestUtils.getRequestParams(request),
         requestBody,
-        responseBody,
-        timestamp);
+        responseBody);
   }
 
-  public String toPrettierLog() {
-
-    String prettyResponse = responseBody;
-    try {
-      // JSON 문자열 파싱 및 pretty-print
-      ObjectMapper mapper = new ObjectMapper();
-      Object json = mapper.readValue(responseBody, Object.class);
-      ObjectWriter writer = mapper.writerWithDefaultPrettyPrinter();
-      prettyResponse = writer.writeValueAsString(json);
-    } catch (Exception e) {
-      // 예외 발생 시 그냥 원본 문자열 사용
-      prettyResponse = responseBody;
-    }
+  /** 헤더와 본문을 제외한 요약 스냅샷 (샘플링되지 않은 실패 요청) */
+  public static HttpLogMessage createSummary(
+      String requestId,
+      HttpServletRequest request,
+      HttpServletResponse response,
+      double elapsedTime) {
 
-    return String.format(
-        "%n=============================(START)%n"
-            + "Timestamp      : %s%n"
-            + "[REQUEST]      : %s %s %s (%.3fs)%n"
-            + "-----------------------------%n"
-            + "Client IP      : %s%n"
-            + "Headers        : %s%n"
-            + "Request Params : %s%n"
-            + "Request Body   : %s%n"
-            + "Response Body  : %s%n"
-            + "=============================(END)",
-        timestamp,
-        httpMethod,
-        requestUri,
-        httpStatus,
+    return new HttpLogMessage(
+        LocalDateTime.now().format(TIMESTAMP_FORMATTER),
+        requestId,
+        request.getMethod(),
+        request.getRequestURI(),
+        response.getStatus(),
+        RequestUtils.getClientIp(request),
         elapsedTime,
-        clientIp,
-        headers,
-        requestParam,
-        requestBody,
-        prettyResponse);
+        null,
+        null,
+        null,
+        null);
   }
 }
@@ -0,0 +1,19 @@
+package com.ilta.solepli.global.log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "logging.http")
+public class HttpLogProperties {
+  private double defaultSampleRate = 1.0; // 기본 샘플링 비율 (0.0 ~ 1.0)
+  private Map<String, Double> sampleRates = new LinkedHashMap<>(); // 경로 패턴별 샘플링 비율 (먼저 선언된 패턴 우선)
+  private int maxBodyBytes = 4 * 1024; // 요청/응답 본문 최대 기록 크기
+  private int bufferSize = 8 * 1024; // 로그 링 버퍼 크기 (2의 거듭제곱으로 올림)
+}
@@ -0,0 +1,94 @@
+package com.ilta.solepli.global.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 요청/응답 로그 스냅샷을 링 버퍼로 받아 백그라운드 스레드에서 한 줄 JSON으로 기록한다.
+ *
+ * <p>요청 스레드는 {@link #submit(HttpLogMessage)}로 버퍼에 넣기만 하고 반환되므로, 직렬화와 로그 출력 비용이 응답 지연에 포함되지 않는다. 버퍼가
+ * 가득 차면 로그를 버린다.
+ */
+@Component
+public class HttpLogWriter {
+
+  private static final Logger log = LoggerFactory.getLogger(HttpLogWriter.class);
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+  private final ObjectMapper objectMapper;
+  private final LogRingBuffer<HttpLogMessage> buffer;
+
+  private volatile boolean running;
+  private Thread writerThread;
+  private long reportedDropCount;
+
+  public HttpLogWriter(ObjectMapper objectMapper, HttpLogProperties properties) {
+    this.objectMapper = objectMapper;
+    this.buffer = new LogRingBuffer<>(properties.getBufferSize());
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    writerThread = new Thread(this::drainLoop, "http-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    LockSupport.unpark(writerThread);
+    writerThread.join(TimeUnit.SECONDS.toMillis(2));
+  }
+
+  public void submit(HttpLogMessage message) {
+    buffer.offer(message);
+  }
+
+  private void drainLoop() {
+    while (running) {
+      if (!drain()) {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+    }
+    // 종료 전 남은 로그 기록
+    drain();
+  }
+
+  // 버퍼에 쌓인 로그를 모두 기록하고, 하나라도 기록했으면 true 반환
+  private boolean drain() {
+    boolean written = false;
+    HttpLogMessage message;
+    while ((message = buffer.poll()) != null) {
+      write(message);
+      written = true;
+    }
+    reportDrops();
+    return written;
+  }
+
+  private void write(HttpLogMessage message) {
+    try {
+      log.info(objectMapper.writeValueAsString(message));
+    } catch (Exception e) {
+      log.error("[HttpLogWriter] Logging failed", e);
+    }
+  }
+
+  private void reportDrops() {
+    long dropped = buffer.getDroppedCount();
+    if (dropped > reportedDropCount) {
+      log.warn("[HttpLogWriter] 버퍼 초과로 {}건의 로그를 버렸습니다.", dropped - reportedDropCount);
+      reportedDropCount = dropped;
+    }
+  }
+}
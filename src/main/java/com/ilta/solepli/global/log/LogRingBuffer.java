@@ -0,0 +1,58 @@
+package com.ilta.solepli.global.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다중 생산자, 단일 소비자용 고정 크기 lock-free 링 버퍼.
+ *
+ * <p>생산자는 CAS로 슬롯을 예약한 뒤 값을 기록하며, 버퍼가 가득 차면 대기하지 않고 값을 버린다. 소비자는 하나의 스레드만 {@link #poll()}을 호출해야
+ * 한다.
+ */
+public class LogRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> slots;
+  private final int mask;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+
+  public LogRingBuffer(int requestedCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(requestedCapacity - 1, 1)) << 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /** 버퍼에 값을 넣는다. 가득 찼으면 false를 반환하고 값을 버린다. */
+  public boolean offer(E element) {
+    while (true) {
+      long index = producerIndex.get();
+      if (index - consumerIndex.get() > mask) {
+        dropped.increment();
+        return false;
+      }
+      if (producerIndex.compareAndSet(index, index + 1)) {
+        slots.lazySet((int) (index & mask), element);
+        return true;
+      }
+    }
+  }
+
+  /** 다음 값을 꺼낸다. 비어있거나 예약된 슬롯에 아직 값이 기록되지 않았으면 null을 반환한다. */
+  public E poll() {
+    long index = consumerIndex.get();
+    int slot = (int) (index & mask);
+    E element = slots.get(slot);
+    if (element == null) {
+      return null;
+    }
+    slots.lazySet(slot, null);
+    consumerIndex.lazySet(index + 1);
+    return element;
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+}
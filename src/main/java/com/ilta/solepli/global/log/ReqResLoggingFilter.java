@@ -1,10 +1,13 @@
 package com.ilta.solepli.global.log;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
@@ -12,33 +15,45 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class ReqResLoggingFilter extends OncePerRequestFilter {
 
   private static final Logger log = LoggerFactory.getLogger(ReqResLoggingFilter.class);
   public static final String REQUEST_ID = "request_id";
 
+  private final HttpLogProperties properties;
+  private final HttpLogWriter httpLogWriter;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
-    // 요청/응답을 캐싱용 Wrapper로 감싸기
-    ContentCachingRequestWrapper cachingRequestWrapper = new ContentCachingRequestWrapper(request);
-    ContentCachingResponseWrapper cachingResponseWrapper =
-        new ContentCachingResponseWrapper(response);
-
     // UUID를 사용해 요청마다 고유 ID 할당 (MDC에 저장)
     String requestId = UUID.randomUUID().toString().substring(0, 8);
     MDC.put(REQUEST_ID, requestId);
 
+    // 샘플링된 요청만 요청/응답을 캐싱용 Wrapper로 감싸기 (요청 본문은 최대 크기까지만 캐싱)
+    boolean sampled = isSampled(request.getRequestURI());
+    ContentCachingRequestWrapper cachingRequestWrapper =
+        sampled ? new ContentCachingRequestWrapper(request, properties.getMaxBodyBytes()) : null;
+    ContentCachingResponseWrapper cachingResponseWrapper =
+        sampled ? new ContentCachingResponseWrapper(response) : null;
+
     long startTime = System.currentTimeMillis();
     try {
       // 체인을 통해 다음 필터 또는 서블릿으로 요청 전달
-      filterChain.doFilter(cachingRequestWrapper, cachingResponseWrapper);
+      if (sampled) {
+        filterChain.doFilter(cachingRequestWrapper, cachingResponseWrapper);
+      } else {
+        filterChain.doFilter(request, response);
+      }
     } catch (Exception ex) {
       log.error("Exception during filtering", ex);
     } finally {
@@ -47,11 +62,22 @@ public class ReqResLoggingFilter extends OncePerRequestFilter {
       double elapsedTime = (endTime - startTime) / 1000.0;
 
       try {
-        // 캐싱된 요청 및 응답 데이터를 활용하여 로그 메시지 작성
-        HttpLogMessage logMessage =
-            HttpLogMessage.createInstance(
-                cachingRequestWrapper, cachingResponseWrapper, elapsedTime);
-        log.info(logMessage.toPrettierLog());
+        // 크기가 제한된 스냅샷만 만들어 백그라운드 writer에 전달
+        if (sampled) {
+          httpLogWriter.submit(
+              HttpLogMessage.createInstance(
+                  requestId,
+                  request,
+                  response,
+                  elapsedTime,
+                  RequestUtils.getRequestBody(cachingRequestWrapper, properties.getMaxBodyBytes()),
+                  RequestUtils.getResponseBody(
+                      cachingResponseWrapper, properties.getMaxBodyBytes())));
+        } else if (response.getStatus() >= 400) {
+          // 샘플링되지 않은 요청도 실패 응답은 요약 정보를 남김
+          httpLogWriter.submit(
+              HttpLogMessage.createSummary(requestId, request, response, elapsedTime));
+        }
       } catch (Exception ex) {
         log.error("[ReqResLoggingFilter] Logging failed", ex);
       } finally {
@@ -59,11 +85,25 @@ public class ReqResLoggingFilter extends OncePerRequestFilter {
         MDC.remove(REQUEST_ID);
         try {
           // 캐싱된 응답 본문을 실제 응답 객체에 복사하여 클라이언트에 전달
-          cachingResponseWrapper.copyBodyToResponse();
+          if (sampled) {
+            cachingResponseWrapper.copyBodyToResponse();
+          }
         } catch (Exception e) {
           log.error("Error copying body to response", e);
         }
       }
     }
   }
+
+  // 경로 패턴별 샘플링 비율에 따라 로그 기록 여부 결정 (먼저 일치한 패턴 적용)
+  private boolean isSampled(String uri) {
+    double rate = properties.getDefaultSampleRate();
+    for (Map.Entry<String, Double> entry : properties.getSampleRates().entrySet()) {
+      if (pathMatcher.match(entry.getKey(), uri)) {
+        rate = entry.getValue();
+        break;
+      }
+    }
+    return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+  }
 }
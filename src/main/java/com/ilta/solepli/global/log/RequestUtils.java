@@ -1,9 +1,13 @@
 package com.ilta.solepli.global.log;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -13,6 +17,9 @@ import jakarta.servlet.http.HttpServletRequest;
 
 public class RequestUtils {
 
+  private static final Set<String> MASKED_HEADERS = Set.of("authorization", "cookie");
+  private static final String MASKED_VALUE = "****";
+
   /**
    * 클라이언트의 IP 주소를 반환한다.
    *
@@ -28,22 +35,25 @@ public class RequestUtils {
   }
 
   /**
-   * 요청에 포함된 모든 HTTP 헤더 정보를 Map 형태로 수집하여 문자열로 반환한다.
+   * 요청에 포함된 HTTP 헤더 정보를 Map 형태로 수집하여 반환한다.
    *
-   * <p>HttpServletRequest 객체에서 헤더 이름을 Enumeration으로 가져온 후, 각 헤더 이름과 값을 Map에 저장하고, 이를 문자열로 변환한다.
+   * <p>인증 정보가 담긴 헤더(Authorization, Cookie)는 값을 마스킹한다.
    */
-  public static String getRequestHeaders(HttpServletRequest request) {
+  public static Map<String, String> getRequestHeaders(HttpServletRequest request) {
     Enumeration<String> headerNames = request.getHeaderNames();
     if (headerNames == null) {
-      return "";
+      return Map.of();
     }
     Map<String, String> headersMap = new HashMap<>();
     while (headerNames.hasMoreElements()) {
       String headerName = headerNames.nextElement();
-      String headerValue = request.getHeader(headerName);
+      String headerValue =
+          MASKED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT))
+              ? MASKED_VALUE
+              : request.getHeader(headerName);
       headersMap.put(headerName, headerValue);
     }
-    return headersMap.toString();
+    return headersMap;
   }
 
   /**
@@ -63,15 +73,17 @@ public class RequestUtils {
   }
 
   /**
-   * ContentCachingRequestWrapper를 사용하여 요청 본문(body) 데이터를 문자열로 추출한다.
+   * ContentCachingRequestWrapper를 사용하여 요청 본문(body) 데이터를 최대 maxBytes까지 문자열로 추출한다.
    *
    * <p>요청에서 바이트 배열 형태로 저장된 본문 데이터를, 지정된 문자 인코딩 방식에 따라 문자열로 변환한다. 변환 도중 문제가 발생하면 에러 메시지를 반환한다.
    */
-  public static String getRequestBody(ContentCachingRequestWrapper requestWrapper) {
+  public static String getRequestBody(ContentCachingRequestWrapper requestWrapper, int maxBytes) {
     byte[] buf = requestWrapper.getContentAsByteArray();
     if (buf.length > 0) {
       try {
-        return new String(buf, 0, buf.length, requestWrapper.getCharacterEncoding());
+        int length = Math.min(buf.length, maxBytes);
+        return new String(buf, 0, length, requestWrapper.getCharacterEncoding())
+            + truncatedSuffix(buf.length, length);
       } catch (Exception ex) {
         return "[error reading request body]";
       }
@@ -80,19 +92,25 @@ public class RequestUtils {
   }
 
   /**
-   * ContentCachingResponseWrapper를 사용하여 응답 본문(body) 데이터를 문자열로 추출한다.
+   * ContentCachingResponseWrapper를 사용하여 응답 본문(body) 데이터를 최대 maxBytes까지 문자열로 추출한다.
    *
-   * <p>응답의 바이트 배열 데이터를 UTF-8 인코딩으로 문자열로 변환하며, 변환 도중 오류가 발생할 경우 에러 메시지를 반환한다.
+   * <p>캐싱된 응답 전체를 복사하지 않고 앞부분만 읽어 UTF-8 문자열로 변환하며, 변환 도중 오류가 발생할 경우 에러 메시지를 반환한다.
    */
-  public static String getResponseBody(ContentCachingResponseWrapper responseWrapper) {
-    byte[] buf = responseWrapper.getContentAsByteArray();
-    if (buf.length > 0) {
-      try {
-        return new String(buf, 0, buf.length, "UTF-8");
+  public static String getResponseBody(
+      ContentCachingResponseWrapper responseWrapper, int maxBytes) {
+    int size = responseWrapper.getContentSize();
+    if (size > 0) {
+      try (InputStream in = responseWrapper.getContentInputStream()) {
+        byte[] buf = in.readNBytes(Math.min(size, maxBytes));
+        return new String(buf, StandardCharsets.UTF_8) + truncatedSuffix(size, buf.length);
       } catch (Exception ex) {
         return "[error reading response body]";
       }
     }
     return "";
   }
+
+  private static String truncatedSuffix(int totalBytes, int loggedBytes) {
+    return totalBytes > loggedBytes ? "...(truncated " + totalBytes + " bytes)" : "";
+  }
 }
@@ -0,0 +1,13 @@
+package com.ilta.solepli.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Hibernate가 실행하는 SQL마다 현재 요청의 {@link StatementCounter}를 올린다. SQL은 변경하지 않는다. */
+public class CountingStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    StatementCounter.increment();
+    return sql;
+  }
+}
@@ -0,0 +1,11 @@
+package com.ilta.solepli.global.metrics;
+
+public final class MetricNames {
+
+  // 서비스 메서드 실행 시간 (@Timed, class/method 태그)
+  public static final String SERVICE_TIMER = "service.method";
+  // 요청당 실행된 JDBC 문장 수 (method/uri/status 태그)
+  public static final String REQUEST_STATEMENTS = "http.server.requests.statements";
+
+  private MetricNames() {}
+}
@@ -0,0 +1,20 @@
+package com.ilta.solepli.global.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 한 번 실행에 허용하는 JDBC 문장 수 상한.
+ *
+ * <p>트랜잭션 커밋 시 flush까지 포함해 센다. 결과 개수에 비례해 문장 수가 늘어나는 코드(N+1)는 상한을 넘게 되므로 {@link
+ * QueryBudgetAspect}가 모드에 따라 경고를 남기거나 예외를 던진다. 상한은 결과 개수와 무관한 최악의 경우 기준으로 정한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+  /** 허용하는 최대 문장 수 */
+  int value();
+}
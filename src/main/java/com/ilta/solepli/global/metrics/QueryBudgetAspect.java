@@ -0,0 +1,90 @@
+package com.ilta.solepli.global.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * {@link QueryBudget}이 붙은 메서드가 실행한 JDBC 문장 수를 상한과 비교한다.
+ *
+ * <p>요청 단위 카운터({@link StatementCounter})의 실행 전후 차이로 세므로 중첩된 메서드도 각자의 상한으로 검사된다. 카운터가 열려
+ * 있지 않으면(스케줄러, 테스트 등) 메서드 실행 동안만 연다. 트랜잭션 커밋 시 flush까지 포함하도록 트랜잭션 프록시보다 바깥에서 실행된다. 상한을
+ * 넘으면 "query.budget.exceeded" 카운터를 올리고, 모드(query-budget.mode)가 WARN이면 경고 로그를, FAIL이면 예외를 던진다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetAspect {
+
+  private static final String EXCEEDED_COUNTER = "query.budget.exceeded";
+
+  public enum Mode {
+    OFF,
+    WARN,
+    FAIL
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final Mode mode;
+
+  public QueryBudgetAspect(
+      MeterRegistry meterRegistry, @Value("${query-budget.mode:WARN}") Mode mode) {
+    this.meterRegistry = meterRegistry;
+    this.mode = mode;
+  }
+
+  @Around("@annotation(budget)")
+  public Object enforce(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+    if (mode == Mode.OFF) {
+      return joinPoint.proceed();
+    }
+
+    boolean opened = !StatementCounter.isActive();
+    if (opened) {
+      StatementCounter.begin();
+    }
+
+    int statements;
+    Object result;
+    try {
+      int before = StatementCounter.current();
+      result = joinPoint.proceed();
+      statements = StatementCounter.current() - before;
+    } finally {
+      if (opened) {
+        StatementCounter.end();
+      }
+    }
+
+    if (statements > budget.value()) {
+      onExceeded(joinPoint, statements, budget.value());
+    }
+    return result;
+  }
+
+  private void onExceeded(ProceedingJoinPoint joinPoint, int statements, int budget) {
+    String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+    String methodName = joinPoint.getSignature().getName();
+
+    Counter.builder(EXCEEDED_COUNTER)
+        .tag("class", className)
+        .tag("method", methodName)
+        .register(meterRegistry)
+        .increment();
+
+    if (mode == Mode.FAIL) {
+      throw new QueryBudgetExceededException(className + "." + methodName, statements, budget);
+    }
+    log.warn(
+        "[QueryBudget] {}.{} JDBC 문장 {}개 실행 (허용 {}개)", className, methodName, statements, budget);
+  }
+}
@@ -0,0 +1,9 @@
+package com.ilta.solepli.global.metrics;
+
+/** FAIL 모드에서 {@link QueryBudget} 상한을 넘었을 때 발생한다. */
+public class QueryBudgetExceededException extends RuntimeException {
+
+  public QueryBudgetExceededException(String method, int statements, int budget) {
+    super(method + " 실행 중 JDBC 문장 " + statements + "개 실행 (허용 " + budget + "개)");
+  }
+}
@@ -0,0 +1,58 @@
+package com.ilta.solepli.global.metrics;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 실행된 JDBC 문장 수를 "http.server.requests.statements" 분포로 기록한다.
+ *
+ * <p>uri 태그는 http.server.requests와 같은 경로 패턴(/api/solmap/place/search/{id} 등)을 사용하므로, 엔드포인트별 문장 수가
+ * 늘어나면(N+1) 대시보드에서 바로 드러난다. 인증 필터의 조회까지 포함하도록 보안 필터보다 먼저 실행된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    StatementCounter.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statements = StatementCounter.end();
+      DistributionSummary.builder(MetricNames.REQUEST_STATEMENTS)
+          .baseUnit("statements")
+          .tag("method", request.getMethod())
+          .tag("uri", uriPattern(request))
+          .tag("status", String.valueOf(response.getStatus()))
+          .register(meterRegistry)
+          .record(statements);
+    }
+  }
+
+  // 매핑된 핸들러의 경로 패턴 (매핑되지 않은 요청은 태그 수가 늘지 않도록 UNKNOWN)
+  private static String uriPattern(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern == null ? UNKNOWN_URI : pattern.toString();
+  }
+}
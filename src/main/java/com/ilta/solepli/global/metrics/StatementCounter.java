@@ -0,0 +1,69 @@
+package com.ilta.solepli.global.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청에서 실행된 JDBC 문장 수를 스레드 단위로 센다.
+ *
+ * <p>요청 스레드에서 {@link #begin()}으로 카운터를 열면 {@link CountingStatementInspector}가 Hibernate가 준비하는 문장마다
+ * 값을 올린다. 다른 스레드에서 실행되는 조회(QueryFanOut 등)는 {@link #propagate(Supplier)}로 감싸 같은 카운터에 합산한다.
+ */
+public final class StatementCounter {
+
+  private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+  private StatementCounter() {}
+
+  /** 현재 스레드에 새 카운터를 연다. */
+  public static void begin() {
+    CURRENT.set(new AtomicInteger());
+  }
+
+  /** 현재 스레드의 카운터를 닫고 지금까지의 문장 수를 반환한다. 열려 있지 않으면 0. */
+  public static int end() {
+    AtomicInteger count = CURRENT.get();
+    CURRENT.remove();
+    return count == null ? 0 : count.get();
+  }
+
+  /** 현재 스레드에 열린 카운터가 있는지 여부 */
+  public static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  /** 현재 스레드의 문장 수. 열려 있지 않으면 0. */
+  public static int current() {
+    AtomicInteger count = CURRENT.get();
+    return count == null ? 0 : count.get();
+  }
+
+  static void increment() {
+    AtomicInteger count = CURRENT.get();
+    if (count != null) {
+      count.incrementAndGet();
+    }
+  }
+
+  /** 호출한 스레드의 카운터를 task 실행 스레드에서도 사용하도록 감싼다. 열린 카운터가 없으면 task를 그대로 반환한다. */
+  public static <T> Supplier<T> propagate(Supplier<T> task) {
+    AtomicInteger count = CURRENT.get();
+    if (count == null) {
+      return task;
+    }
+
+    return () -> {
+      AtomicInteger previous = CURRENT.get();
+      CURRENT.set(count);
+      try {
+        return task.get();
+      } finally {
+        if (previous == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(previous);
+        }
+      }
+    };
+  }
+}
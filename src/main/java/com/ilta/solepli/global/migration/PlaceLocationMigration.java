@@ -0,0 +1,96 @@
+package com.ilta.solepli.global.migration;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * places.location(POINT SRID 4326) 컬럼과 SPATIAL INDEX를 보장하는 마이그레이션.
+ *
+ * <p>location은 위경도로부터 계산되는 STORED 생성 컬럼이므로, 컬럼 추가 시점에 기존 행이 모두 채워지고(backfill) 이후 insert/update 시에도
+ * MySQL이 자동으로 갱신한다. ddl-auto는 SPATIAL INDEX를 생성하지 못하므로 웹 서버가 요청을 받기 전에 확인 후 생성하며, 여러 인스턴스가 동시에
+ * 기동해도 DB 잠금(GET_LOCK)을 잡은 한 인스턴스만 DDL을 실행하고 나머지는 잠금을 얻은 뒤 이미 생성된 컬럼과 인덱스를 확인하고 넘어간다.
+ */
+@Slf4j
+@Component
+public class PlaceLocationMigration implements SmartInitializingSingleton {
+
+  private static final String TABLE_NAME = "places";
+  private static final String COLUMN_NAME = "location";
+  private static final String INDEX_NAME = "idx_places_location";
+  private static final String LOCK_NAME = "place_location_migration";
+  private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public PlaceLocationMigration(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    // GET_LOCK은 커넥션(세션) 단위이므로 잠금, DDL, 해제를 같은 커넥션에서 실행.
+    // DDL은 암묵적으로 커밋되므로 트랜잭션은 원자성이 아니라 커넥션 고정 용도
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          acquireLock();
+          try {
+            migrate();
+          } finally {
+            jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+          }
+        });
+  }
+
+  private void migrate() {
+    if (!columnExists()) {
+      log.info("[PlaceLocationMigration] {}.{} 컬럼 추가 및 backfill", TABLE_NAME, COLUMN_NAME);
+      jdbcTemplate.execute(
+          "ALTER TABLE places ADD COLUMN location POINT SRID 4326 "
+              + "GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL");
+    }
+
+    if (!indexExists()) {
+      log.info("[PlaceLocationMigration] {} SPATIAL INDEX 생성", INDEX_NAME);
+      jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX_NAME + " ON places (location)");
+    }
+  }
+
+  private void acquireLock() {
+    Integer acquired =
+        jdbcTemplate.queryForObject(
+            "SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+    if (!Integer.valueOf(1).equals(acquired)) {
+      throw new IllegalStateException("[PlaceLocationMigration] " + LOCK_NAME + " 잠금 획득 실패");
+    }
+  }
+
+  private boolean columnExists() {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.COLUMNS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+            Integer.class,
+            TABLE_NAME,
+            COLUMN_NAME);
+    return count != null && count > 0;
+  }
+
+  private boolean indexExists() {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+            Integer.class,
+            TABLE_NAME,
+            INDEX_NAME);
+    return count != null && count > 0;
+  }
+}
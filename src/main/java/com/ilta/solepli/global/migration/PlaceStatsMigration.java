@@ -0,0 +1,91 @@
+package com.ilta.solepli.global.migration;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * place_stats, place_tag_stats 초기 적재 마이그레이션.
+ *
+ * <p>통계 테이블은 리뷰 작성/삭제 시 증분 갱신되므로, 테이블이 처음 생성되어 비어있을 때 한 번만 기존 리뷰로부터 집계해 채운다. 증분 갱신과 섞이지 않도록
+ * 모든 빈 생성 직후, 웹 서버가 요청을 받기 전에 실행하며 여러 인스턴스가 동시에 기동해도 DB 잠금(GET_LOCK)을 잡은 한 인스턴스만 적재하고 나머지는 채워진
+ * 테이블을 확인한 뒤 넘어간다. 적재는 upsert이므로 다시 실행되어도 같은 결과가 된다.
+ */
+@Slf4j
+@Component
+public class PlaceStatsMigration implements SmartInitializingSingleton {
+
+  private static final String LOCK_NAME = "place_stats_migration";
+  private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public PlaceStatsMigration(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    // GET_LOCK은 커넥션(세션) 단위이므로 잠금, 적재, 해제를 한 트랜잭션(같은 커넥션) 안에서 실행
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          acquireLock();
+          try {
+            backfill();
+          } finally {
+            jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+          }
+        });
+  }
+
+  private void backfill() {
+    if (isEmpty("place_stats")) {
+      int rows =
+          jdbcTemplate.update(
+              "INSERT INTO place_stats (place_id, review_count, recommended_count, rating_sum) "
+                  + "SELECT * FROM ("
+                  + "SELECT place_id, COUNT(*) AS review_count, "
+                  + "SUM(recommendation) AS recommended_count, SUM(rating) AS rating_sum "
+                  + "FROM reviews WHERE place_id IS NOT NULL GROUP BY place_id) AS src "
+                  + "ON DUPLICATE KEY UPDATE review_count = src.review_count, "
+                  + "recommended_count = src.recommended_count, rating_sum = src.rating_sum");
+      log.info("[PlaceStatsMigration] place_stats {}개 행 backfill", rows);
+    }
+
+    if (isEmpty("place_tag_stats")) {
+      int rows =
+          jdbcTemplate.update(
+              "INSERT INTO place_tag_stats (place_id, tag_type, name, tag_count) "
+                  + "SELECT * FROM ("
+                  + "SELECT r.place_id, rt.tag_type, rt.name, COUNT(*) AS tag_count "
+                  + "FROM review_tags rt JOIN reviews r ON rt.review_id = r.id "
+                  + "WHERE r.place_id IS NOT NULL "
+                  + "GROUP BY r.place_id, rt.tag_type, rt.name) AS src "
+                  + "ON DUPLICATE KEY UPDATE tag_count = src.tag_count");
+      log.info("[PlaceStatsMigration] place_tag_stats {}개 행 backfill", rows);
+    }
+  }
+
+  private void acquireLock() {
+    Integer acquired =
+        jdbcTemplate.queryForObject(
+            "SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+    if (!Integer.valueOf(1).equals(acquired)) {
+      throw new IllegalStateException("[PlaceStatsMigration] " + LOCK_NAME + " 잠금 획득 실패");
+    }
+  }
+
+  private boolean isEmpty(String tableName) {
+    Boolean exists =
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + tableName + ")", Boolean.class);
+    return !Boolean.TRUE.equals(exists);
+  }
+}
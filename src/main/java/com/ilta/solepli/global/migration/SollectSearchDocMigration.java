@@ -0,0 +1,114 @@
+package com.ilta.solepli.global.migration;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * sollect_search_docs의 ngram FULLTEXT 인덱스 생성 및 초기 적재 마이그레이션.
+ *
+ * <p>ddl-auto는 FULLTEXT 인덱스를 생성하지 못하므로 기동 시 확인 후 생성한다. 검색 문서는 쏠렉트 작성/수정/삭제 시 갱신되므로, 테이블이 비어있을 때
+ * 한 번만 기존 쏠렉트로부터 채운다. 검색 요청과 섞이지 않도록 웹 서버가 요청을 받기 전에 실행하며, 여러 인스턴스가 동시에 기동해도 DB 잠금(GET_LOCK)을
+ * 잡은 한 인스턴스만 인덱스를 만들고 적재한다. 적재는 upsert이므로 이미 있는 문서와 겹쳐도 실패하지 않는다.
+ */
+@Slf4j
+@Component
+public class SollectSearchDocMigration implements SmartInitializingSingleton {
+
+  private static final String TABLE_NAME = "sollect_search_docs";
+  private static final String INDEX_NAME = "ftx_sollect_search_docs";
+  private static final String LOCK_NAME = "sollect_search_doc_migration";
+  private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public SollectSearchDocMigration(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    // GET_LOCK과 group_concat_max_len은 커넥션(세션) 단위이므로 모든 단계를 같은 커넥션에서 실행.
+    // CREATE INDEX는 암묵적으로 커밋되므로 트랜잭션은 원자성이 아니라 커넥션 고정 용도
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          acquireLock();
+          try {
+            createIndex();
+            backfill();
+          } finally {
+            jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+          }
+        });
+  }
+
+  private void createIndex() {
+    if (indexExists()) {
+      return;
+    }
+    log.info("[SollectSearchDocMigration] {} FULLTEXT INDEX 생성", INDEX_NAME);
+    jdbcTemplate.execute(
+        "CREATE FULLTEXT INDEX "
+            + INDEX_NAME
+            + " ON sollect_search_docs (title, body, address) WITH PARSER ngram");
+  }
+
+  private void backfill() {
+    if (!isEmpty()) {
+      return;
+    }
+    // GROUP_CONCAT 기본 길이(1024) 제한을 세션 단위로 늘린다
+    jdbcTemplate.execute("SET SESSION group_concat_max_len = 1048576");
+    int rows =
+        jdbcTemplate.update(
+            "INSERT INTO sollect_search_docs (sollect_id, title, body, address) "
+                + "SELECT * FROM ("
+                + "SELECT s.id AS sollect_id, COALESCE(s.title, '') AS title, "
+                + "COALESCE((SELECT GROUP_CONCAT(c.text ORDER BY c.seq SEPARATOR ' ') "
+                + "FROM sollect_contents c "
+                + "WHERE c.sollect_id = s.id AND c.type = 'TEXT'), '') AS body, "
+                + "COALESCE((SELECT GROUP_CONCAT(DISTINCT "
+                + "CONCAT_WS(' ', p.address, p.district, p.neighborhood) SEPARATOR ' ') "
+                + "FROM sollect_places sp JOIN places p ON p.id = sp.place_id "
+                + "WHERE sp.sollect_id = s.id), '') AS address "
+                + "FROM sollects s WHERE s.deleted_at IS NULL) AS src "
+                + "ON DUPLICATE KEY UPDATE title = src.title, body = src.body, "
+                + "address = src.address");
+    log.info("[SollectSearchDocMigration] {} {}개 행 backfill", TABLE_NAME, rows);
+  }
+
+  private void acquireLock() {
+    Integer acquired =
+        jdbcTemplate.queryForObject(
+            "SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+    if (!Integer.valueOf(1).equals(acquired)) {
+      throw new IllegalStateException(
+          "[SollectSearchDocMigration] " + LOCK_NAME + " 잠금 획득 실패");
+    }
+  }
+
+  private boolean indexExists() {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?",
+            Integer.class,
+            TABLE_NAME,
+            INDEX_NAME);
+    return count != null && count > 0;
+  }
+
+  private boolean isEmpty() {
+    Boolean exists =
+        jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + TABLE_NAME + ")", Boolean.class);
+    return !Boolean.TRUE.equals(exists);
+  }
+}
@@ -1,25 +1,55 @@
 package com.ilta.solepli.global.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import com.ilta.solepli.global.dto.PresignedUpload;
+import com.ilta.solepli.global.dto.UploadedImage;
 import com.ilta.solepli.global.exception.CustomException;
 import com.ilta.solepli.global.exception.ErrorCode;
+import com.ilta.solepli.global.image.ImageResizer;
+import com.ilta.solepli.global.image.ImageVariant;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+  private static final int DELETE_BATCH_SIZE = 1_000;
+
   @Value("${cloud.aws.s3.bucket}")
   private String bucketName;
 
@@ -32,7 +62,15 @@ public class S3Service {
   @Value("${S3_SOLLECT_FOLDER}")
   private String sollectFolderName;
 
+  @Value("${cloud.aws.s3.presigned-url-expiration:10m}")
+  private Duration presignedUrlExpiration;
+
+  @Value("${spring.servlet.multipart.max-file-size:5MB}")
+  private DataSize maxImageSize;
+
   private final AmazonS3 amazonS3;
+  private final TransferManager transferManager;
+  private final ImageResizer imageResizer;
 
   public String uploadProfileImage(MultipartFile file) {
 
@@ -56,48 +94,102 @@ public class S3Service {
     return amazonS3.getUrl(bucketName, fileName).toString();
   }
 
-  public String uploadReviewImage(MultipartFile file) {
+  /**
+   * 리뷰 이미지와 썸네일(THUMB) 축소본을 동시에 업로드하고 요청 순서대로 반환한다. 하나라도 실패하면 업로드된 파일을 모두 삭제한다.
+   */
+  public List<UploadedImage> uploadReviewImages(List<MultipartFile> files) {
+    return uploadAll(reviewFolderName, files, ImageVariant.THUMB);
+  }
 
-    // 파일 확장자 유효성 검사
-    validateImageExtension(file);
+  /** 쏠렉트 이미지와 카드(CARD) 축소본을 동시에 업로드하고 요청 순서대로 반환한다. 하나라도 실패하면 업로드된 파일을 모두 삭제한다. */
+  public List<UploadedImage> uploadSollectImages(List<MultipartFile> files) {
+    return uploadAll(sollectFolderName, files, ImageVariant.CARD);
+  }
 
-    // 파일명을 고유하게 지정
-    String fileName = reviewFolderName + "/" + createFileName(file.getOriginalFilename());
+  /** 업로드 후 DB 반영에 실패한 이미지들(축소본 포함)을 업로드한 키 그대로 정리한다. 삭제 실패는 로그만 남긴다. */
+  public void deleteImagesQuietly(List<UploadedImage> images) {
+    deleteKeysQuietly(UploadedImage.allKeys(images));
+  }
 
-    // 메타 데이터 추출
-    ObjectMetadata objectMetadata = getObjectMetaData(file);
+  /**
+   * 쏠렉트 이미지 콘텐츠를 클라이언트가 S3에 직접 올릴 수 있는 presigned PUT URL을 만든다. 키는
+   * {쏠렉트 폴더}/{쏠렉트 ID}/{콘텐츠 ID}_{임의값}.{확장자} 형식이다.
+   */
+  public PresignedUpload createSollectImageUploadUrl(
+      Long sollectId, Long contentId, String filename) {
+    validateImageExtension(filename);
+
+    String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
+    String contentType = extension.equals("png") ? "image/png" : "image/jpeg";
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    String key = sollectImagePrefix(sollectId) + contentId + "_" + suffix + "." + extension;
+
+    Date expiration = new Date(System.currentTimeMillis() + presignedUrlExpiration.toMillis());
+    GeneratePresignedUrlRequest request =
+        new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+            .withExpiration(expiration)
+            .withContentType(contentType);
+
+    return new PresignedUpload(key, amazonS3.generatePresignedUrl(request).toString(), contentType);
+  }
 
-    // S3에 파일 업로드
+  /** presigned URL로 발급한 쏠렉트 이미지 키에서 콘텐츠 ID를 꺼낸다. 해당 쏠렉트의 키가 아니면 예외를 던진다. */
+  public Long parseSollectImageContentId(Long sollectId, String key) {
+    String prefix = sollectImagePrefix(sollectId);
+    int separator = key.indexOf('_', prefix.length());
+    if (!key.startsWith(prefix) || separator < 0) {
+      throw new CustomException(ErrorCode.INVALID_IMAGE_KEY);
+    }
     try {
-      amazonS3.putObject(bucketName, fileName, file.getInputStream(), objectMetadata);
-    } catch (IOException e) {
-      throw new CustomException(ErrorCode.S3_UPLOAD_FAILURE);
+      return Long.parseLong(key.substring(prefix.length(), separator));
+    } catch (NumberFormatException e) {
+      throw new CustomException(ErrorCode.INVALID_IMAGE_KEY);
     }
-
-    // 업로드된 파일의 URL 반환
-    return amazonS3.getUrl(bucketName, fileName).toString();
   }
 
-  public String uploadSollectImage(MultipartFile file) {
-
-    // 파일 확장자 유효성 검사
-    validateImageExtension(file);
+  /** 쏠렉트에 직접 업로드된 이미지의 키별 크기(byte)를 한 번의 목록 조회(1,000개 단위)로 가져온다. */
+  public Map<String, Long> findSollectImageSizes(Long sollectId) {
+    Map<String, Long> sizes = new HashMap<>();
+    listObjects(
+        sollectImagePrefix(sollectId), summary -> sizes.put(summary.getKey(), summary.getSize()));
+    return sizes;
+  }
 
-    // 파일명을 고유하게 지정
-    String fileName = sollectFolderName + "/" + createFileName(file.getOriginalFilename());
+  /**
+   * 직접 업로드된 쏠렉트 이미지가 허용 크기를 넘으면 삭제하고 예외를 던진다. presigned PUT URL은 업로드 크기를 제한하지 못하므로 확인 시점에
+   * 멀티파트 업로드와 같은 한도로 검사한다.
+   */
+  public void validateSollectImageSize(String key, long size) {
+    if (size > maxImageSize.toBytes()) {
+      deleteKeysQuietly(List.of(key));
+      throw new CustomException(ErrorCode.IMAGE_SIZE_EXCEEDED);
+    }
+  }
 
-    // 메타 데이터 추출
-    ObjectMetadata objectMetadata = getObjectMetaData(file);
+  /** {@code uploadedBefore} 이전에 직접 업로드된 쏠렉트 이미지 키 목록. 멀티파트 업로드 이미지와 축소본은 제외한다. */
+  public List<String> findSollectImageKeysUploadedBefore(Instant uploadedBefore) {
+    Pattern directUploadKey = Pattern.compile(Pattern.quote(sollectFolderName) + "/\\d+/[^/]+");
+    Date cutoff = Date.from(uploadedBefore);
+
+    List<String> keys = new ArrayList<>();
+    listObjects(
+        sollectFolderName + "/",
+        summary -> {
+          if (summary.getLastModified().before(cutoff)
+              && directUploadKey.matcher(summary.getKey()).matches()) {
+            keys.add(summary.getKey());
+          }
+        });
+    return keys;
+  }
 
-    // S3에 파일 업로드
-    try {
-      amazonS3.putObject(bucketName, fileName, file.getInputStream(), objectMetadata);
-    } catch (IOException e) {
-      throw new CustomException(ErrorCode.S3_UPLOAD_FAILURE);
-    }
+  /** 확인되지 않은 직접 업로드 이미지를 키로 삭제한다. 삭제 실패는 로그만 남긴다. */
+  public void deleteSollectImageKeysQuietly(List<String> keys) {
+    deleteKeysQuietly(keys);
+  }
 
-    // 업로드된 파일의 URL 반환
-    return amazonS3.getUrl(bucketName, fileName).toString();
+  public String getFileUrl(String key) {
+    return amazonS3.getUrl(bucketName, key).toString();
   }
 
   public void deleteProfileImage(String fileUrl) {
@@ -125,24 +217,148 @@ public class S3Service {
     }
   }
 
+  private List<UploadedImage> uploadAll(
+      String folderName, List<MultipartFile> files, ImageVariant variant) {
+    files.forEach(this::validateImageExtension);
+
+    // 원본 업로드를 먼저 시작하고 축소본을 만드는 동안 전송이 진행되도록 함 (동시 실행 수는 TransferManager 스레드 풀이 제한)
+    List<String> keys = new ArrayList<>();
+    List<String> variantKeys = new ArrayList<>();
+    List<String> uploadedKeys = new ArrayList<>();
+    List<Upload> uploads = new ArrayList<>();
+    try {
+      for (MultipartFile file : files) {
+        String key = folderName + "/" + createFileName(file.getOriginalFilename());
+        keys.add(key);
+        uploadedKeys.add(key);
+        uploads.add(
+            transferManager.upload(
+                bucketName, key, file.getInputStream(), getObjectMetaData(file)));
+
+        byte[] resized = imageResizer.resize(file, variant.getWidth()).orElse(null);
+        if (resized == null) {
+          variantKeys.add(null);
+          continue;
+        }
+        String variantKey = createVariantKey(folderName, variant, key);
+        variantKeys.add(variantKey);
+        uploadedKeys.add(variantKey);
+        uploads.add(
+            transferManager.upload(
+                bucketName,
+                variantKey,
+                new ByteArrayInputStream(resized),
+                getJpegMetaData(resized.length)));
+      }
+      for (Upload upload : uploads) {
+        upload.waitForCompletion();
+      }
+    } catch (IOException | AmazonClientException e) {
+      cancelUploads(uploads, uploadedKeys);
+      throw new CustomException(ErrorCode.S3_UPLOAD_FAILURE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancelUploads(uploads, uploadedKeys);
+      throw new CustomException(ErrorCode.S3_UPLOAD_FAILURE);
+    }
+
+    List<UploadedImage> images = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      String key = keys.get(i);
+      String variantKey = variantKeys.get(i);
+      images.add(
+          new UploadedImage(
+              amazonS3.getUrl(bucketName, key).toString(),
+              variantKey == null ? null : amazonS3.getUrl(bucketName, variantKey).toString(),
+              key,
+              variantKey));
+    }
+    return images;
+  }
+
+  // {폴더}/{축소본 종류}/{원본 파일명(확장자 제외)}.jpg
+  private String createVariantKey(String folderName, ImageVariant variant, String key) {
+    String fileName = key.substring(key.lastIndexOf('/') + 1);
+    int extensionIndex = fileName.lastIndexOf('.');
+    String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    return folderName + "/" + variant.getFolderName() + "/" + baseName + ".jpg";
+  }
+
+  private void cancelUploads(List<Upload> uploads, List<String> keys) {
+    for (Upload upload : uploads) {
+      try {
+        upload.abort();
+      } catch (RuntimeException e) {
+        log.warn("[S3] 업로드 중단 실패: {}", e.getMessage());
+      }
+    }
+    deleteKeysQuietly(keys);
+  }
+
+  // 목록 조회는 1,000개 단위로 이어서 가져옴
+  private void listObjects(String prefix, Consumer<S3ObjectSummary> consumer) {
+    ListObjectsV2Request request =
+        new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix);
+
+    ListObjectsV2Result result;
+    do {
+      result = amazonS3.listObjectsV2(request);
+      result.getObjectSummaries().forEach(consumer);
+      request.setContinuationToken(result.getNextContinuationToken());
+    } while (result.isTruncated());
+  }
+
+  // 한 번의 DeleteObjects 요청은 최대 1,000개 키까지 가능
+  private void deleteKeysQuietly(List<String> keys) {
+    for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+      List<String> batch = keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, keys.size()));
+      try {
+        amazonS3.deleteObjects(
+            new DeleteObjectsRequest(bucketName)
+                .withKeys(batch.stream().map(KeyVersion::new).toList())
+                .withQuiet(true));
+      } catch (RuntimeException e) {
+        log.warn("[S3] 미사용 파일 삭제 실패 keys={}: {}", batch, e.getMessage());
+      }
+    }
+  }
+
+  // DB에 저장된 URL에서 객체 키를 복원 (getUrl이 인코딩한 한글/공백 등은 디코딩)
   private String extractKeyFromUrl(String url) {
     try {
-      URL s3Url = new URL(url);
-      return s3Url.getPath().substring(1);
-    } catch (MalformedURLException e) {
+      String key = new URI(url).getPath().substring(1);
+      // path-style URL(MinIO 등)은 경로가 버킷 이름으로 시작함
+      return key.startsWith(bucketName + "/") ? key.substring(bucketName.length() + 1) : key;
+    } catch (URISyntaxException e) {
       throw new CustomException(ErrorCode.MALFORMED_URL_EXCEPTION);
     }
   }
 
+  private String sollectImagePrefix(Long sollectId) {
+    return sollectFolderName + "/" + sollectId + "/";
+  }
+
   private void validateImageExtension(MultipartFile file) {
-    String filename = file.getOriginalFilename();
+    validateImageExtension(file.getOriginalFilename());
+  }
+
+  private void validateImageExtension(String filename) {
     if (filename == null || !filename.matches("(?i)^.+\\.(jpg|jpeg|png)$")) {
       throw new CustomException(ErrorCode.UNSUPPORTED_IMAGE_FILE_EXTENSION);
     }
   }
 
   private String createFileName(String filename) {
-    return System.currentTimeMillis() + "_" + filename;
+    // 동시에 업로드되는 같은 이름의 파일끼리 키가 겹치지 않도록 UUID 일부를 덧붙임
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    return System.currentTimeMillis() + "_" + suffix + "_" + filename;
+  }
+
+  private ObjectMetadata getJpegMetaData(long contentLength) {
+    ObjectMetadata objectMetadata = new ObjectMetadata();
+    objectMetadata.setContentLength(contentLength);
+    objectMetadata.setContentType("image/jpeg");
+    return objectMetadata;
   }
 
   private ObjectMetadata getObjectMetaData(MultipartFile file) {
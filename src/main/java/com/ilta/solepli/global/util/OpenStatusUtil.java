@@ -1,27 +1,43 @@
 package com.ilta.solepli.global.util;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import com.ilta.solepli.domain.place.entity.Place;
 import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.solmap.dto.OpeningHour;
 import com.ilta.solepli.global.dto.OpenStatus;
 
 public class OpenStatusUtil {
 
-  // 현재 영업중 여부 및 마감 시간 반환
+  // 현재(Asia/Seoul) 영업중 여부 및 마감 시간 반환
   public static OpenStatus getOpenStatus(Place place) {
-    int todayNow = LocalDate.now().getDayOfWeek().getValue() % 7;
-    LocalTime now = LocalTime.now();
+    return toSchedule(
+            place.getPlaceHours(),
+            PlaceHour::getDayOfWeek,
+            PlaceHour::getStartTime,
+            PlaceHour::getEndTime)
+        .statusNow();
+  }
 
-    Optional<LocalTime> endTime =
-        place.getPlaceHours().stream()
-            .filter(ph -> ph.getDayOfWeek() == todayNow)
-            .filter(ph -> !now.isBefore(ph.getStartTime()) && !now.isAfter(ph.getEndTime()))
-            .map(PlaceHour::getEndTime)
-            .findFirst();
+  // 캐시된 영업 시간 정보로 현재(Asia/Seoul) 영업중 여부 및 마감 시간 반환
+  public static OpenStatus getOpenStatus(List<OpeningHour> openingHours) {
+    return toSchedule(
+            openingHours, OpeningHour::dayOfWeek, OpeningHour::startTime, OpeningHour::endTime)
+        .statusNow();
+  }
 
-    return OpenStatus.of(endTime.isPresent(), endTime.orElse(null));
+  public static <T> WeeklySchedule toSchedule(
+      List<T> hours,
+      ToIntFunction<T> dayOfWeek,
+      Function<T, LocalTime> startTime,
+      Function<T, LocalTime> endTime) {
+    WeeklySchedule.Builder builder = WeeklySchedule.builder();
+    for (T hour : hours) {
+      builder.add(dayOfWeek.applyAsInt(hour), startTime.apply(hour), endTime.apply(hour));
+    }
+    return builder.build();
   }
 }
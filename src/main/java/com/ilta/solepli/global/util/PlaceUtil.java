@@ -1,7 +1,11 @@
 package com.ilta.solepli.global.util;
 
+import java.util.Locale;
+
 public class PlaceUtil {
 
+  private static final double KM_PER_DEGREE_LAT = 111.0;
+
   /** 두 위경도 좌표 간의 거리를 계산하여 미터 단위(double)로 반환. */
   public static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
     final int EARTH_RADIUS = 6371000; // 지구 반지름 (미터 단위)
@@ -27,4 +31,20 @@ public class PlaceUtil {
     // 소수점 첫째 자리(0.1 단위)까지만 남기고 그 이하 버림
     return Math.floor(num * 10) / 10.0;
   }
+
+  /** 남서(sw), 북동(ne) 좌표로 이루어진 사각형을 경도-위도 순서의 WKT POLYGON 문자열로 반환. */
+  public static String toEnvelopeWkt(double swLat, double swLng, double neLat, double neLng) {
+    return String.format(
+        Locale.ROOT,
+        "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
+        swLng, swLat, neLng, swLat, neLng, neLat, swLng, neLat, swLng, swLat);
+  }
+
+  /** 중심 좌표에서 반경(km)을 감싸는 사각형을 경도-위도 순서의 WKT POLYGON 문자열로 반환. */
+  public static String toEnvelopeWkt(double lat, double lng, double radiusKm) {
+    double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+    double lngDelta = radiusKm / (KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
+
+    return toEnvelopeWkt(lat - latDelta, lng - lngDelta, lat + latDelta, lng + lngDelta);
+  }
 }
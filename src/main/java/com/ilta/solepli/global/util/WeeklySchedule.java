@@ -0,0 +1,161 @@
+package com.ilta.solepli.global.util;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.ilta.solepli.global.dto.OpenStatus;
+
+/**
+ * 장소 하나의 주간 영업 시간표.
+ *
+ * <p>일요일 00:00부터의 분(minute-of-week) 단위 [시작, 종료) 구간을 시작 시각 순으로 정렬된 int 배열에 보관한다. 겹치거나 맞닿은 구간은
+ * 병합되므로 자정을 넘기는 영업(예: 금 18:00~토 02:00)도 하나의 구간이 되고, 현재 영업 여부와 마감 시각은 이진 탐색으로 구한다. 시각은 항상
+ * Asia/Seoul 기준이다.
+ */
+public final class WeeklySchedule {
+
+  public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  public static final WeeklySchedule EMPTY = new WeeklySchedule(new int[0]);
+
+  private static final int MINUTES_PER_DAY = 24 * 60;
+  private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+  private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+  private final int[] bounds; // [시작0, 종료0, 시작1, 종료1, ...]
+
+  private WeeklySchedule(int[] bounds) {
+    this.bounds = bounds;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** 현재(Asia/Seoul) 시각의 주간 분 오프셋. 여러 장소를 같은 시각으로 판정할 때 한 번만 구해 재사용한다. */
+  public static int nowMinuteOfWeek() {
+    return minuteOfWeek(ZonedDateTime.now(ZONE));
+  }
+
+  public static int minuteOfWeek(ZonedDateTime time) {
+    int dayOfWeek = time.getDayOfWeek().getValue() % 7; // 0:일요일 ~ 6:토요일
+    return dayOfWeek * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+  }
+
+  public OpenStatus statusNow() {
+    return statusAt(nowMinuteOfWeek());
+  }
+
+  public OpenStatus statusAt(int minuteOfWeek) {
+    int index = lastStartAtOrBefore(minuteOfWeek);
+    if (index < 0 || minuteOfWeek >= end(index)) {
+      return OpenStatus.of(false, null);
+    }
+
+    int end = end(index);
+    if (end == MINUTES_PER_WEEK && start(0) == 0) {
+      // 24시간 연중무휴
+      if (index == 0) {
+        return OpenStatus.of(true, null);
+      }
+      // 토요일 밤에서 일요일 새벽으로 이어지는 영업은 주 경계에서 나뉘어 있으므로 이어 붙임
+      end = end(0);
+    }
+    return OpenStatus.of(true, toLocalTime(end));
+  }
+
+  public boolean isOpenAt(int minuteOfWeek) {
+    int index = lastStartAtOrBefore(minuteOfWeek);
+    return index >= 0 && minuteOfWeek < end(index);
+  }
+
+  // 시작 시각이 minuteOfWeek 이하인 마지막 구간의 인덱스 (없으면 -1)
+  private int lastStartAtOrBefore(int minuteOfWeek) {
+    int low = 0;
+    int high = bounds.length / 2 - 1;
+    int found = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (start(mid) <= minuteOfWeek) {
+        found = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return found;
+  }
+
+  private int start(int index) {
+    return bounds[index * 2];
+  }
+
+  private int end(int index) {
+    return bounds[index * 2 + 1];
+  }
+
+  // 자정 마감은 영업 시간 데이터의 표기와 같이 23:59로 반환 (00:00으로 내려주면 당일 0시 마감으로 읽힘)
+  private static LocalTime toLocalTime(int minuteOfWeek) {
+    int minuteOfDay = minuteOfWeek % MINUTES_PER_DAY;
+    if (minuteOfDay == 0) {
+      return END_OF_DAY;
+    }
+    return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+  }
+
+  public static final class Builder {
+
+    private final List<int[]> intervals = new ArrayList<>();
+
+    private Builder() {}
+
+    /**
+     * 요일(0:일요일 ~ 6:토요일)의 영업 구간을 추가한다. 종료가 시작보다 이르거나 같으면 다음 날까지 이어지는 영업으로 보고, 23:59 종료는
+     * 자정까지로 본다(마감 시각은 23:59로 반환).
+     */
+    public Builder add(int dayOfWeek, LocalTime startTime, LocalTime endTime) {
+      int dayOffset = dayOfWeek * MINUTES_PER_DAY;
+      int start = dayOffset + startTime.getHour() * 60 + startTime.getMinute();
+      int end = dayOffset + endTime.getHour() * 60 + endTime.getMinute();
+      if (endTime.equals(END_OF_DAY)) {
+        end++;
+      }
+      if (end <= start) {
+        end += MINUTES_PER_DAY;
+      }
+
+      // 토요일에서 일요일로 넘어가는 구간은 주 경계에서 둘로 나눔
+      if (end > MINUTES_PER_WEEK) {
+        intervals.add(new int[] {start, MINUTES_PER_WEEK});
+        intervals.add(new int[] {0, end - MINUTES_PER_WEEK});
+      } else {
+        intervals.add(new int[] {start, end});
+      }
+      return this;
+    }
+
+    public WeeklySchedule build() {
+      if (intervals.isEmpty()) {
+        return EMPTY;
+      }
+      intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+
+      // 겹치거나 맞닿은 구간 병합
+      int[] merged = new int[intervals.size() * 2];
+      int size = 0;
+      for (int[] interval : intervals) {
+        if (size > 0 && interval[0] <= merged[size - 1]) {
+          merged[size - 1] = Math.max(merged[size - 1], interval[1]);
+        } else {
+          merged[size++] = interval[0];
+          merged[size++] = interval[1];
+        }
+      }
+      return new WeeklySchedule(Arrays.copyOf(merged, size));
+    }
+  }
+}
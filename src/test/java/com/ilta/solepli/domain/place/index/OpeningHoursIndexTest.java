@@ -0,0 +1,66 @@
+package com.ilta.solepli.domain.place.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.place.dto.PlaceHourRow;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+
+class OpeningHoursIndexTest {
+
+  private static final int MON = 1;
+  private static final LocalTime OPEN = LocalTime.of(10, 0);
+  private static final LocalTime CLOSE = LocalTime.of(22, 0);
+
+  private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+  private final OpeningHoursIndex index = new OpeningHoursIndex(placeRepository);
+
+  @Test
+  void usesPlaceHoursBeforeLoad() {
+    Place open = place(1L, true);
+    Place closed = place(2L, false);
+
+    assertThat(index.isOpenAt(open, minute(MON, 12))).isTrue();
+    assertThat(index.isOpenAt(open, minute(MON, 23))).isFalse();
+    assertThat(index.isOpenAt(closed, minute(MON, 12))).isFalse();
+    assertThat(index.getOpenStatus(closed, minute(MON, 12)).isOpen()).isFalse();
+    assertThatThrownBy(() -> index.isOpenAt(1L, minute(MON, 12)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void usesSnapshotAfterLoad() {
+    when(placeRepository.findHourRows())
+        .thenReturn(List.of(new PlaceHourRow(1L, MON, OPEN, CLOSE)));
+    index.load();
+    // 적재 후에는 엔티티의 영업 시간을 읽지 않음
+    Place withoutHours = place(1L, false);
+
+    assertThat(index.isOpenAt(withoutHours, minute(MON, 12))).isTrue();
+    assertThat(index.isOpenAt(1L, minute(MON, 12))).isTrue();
+    assertThat(index.isOpenAt(2L, minute(MON, 12))).isFalse();
+  }
+
+  private static Place place(Long id, boolean open) {
+    Place place = Place.builder().id(id).name("장소" + id).build();
+    if (open) {
+      place
+          .getPlaceHours()
+          .add(PlaceHour.builder().dayOfWeek(MON).startTime(OPEN).endTime(CLOSE).build());
+    }
+    return place;
+  }
+
+  private static int minute(int dayOfWeek, int hour) {
+    return (dayOfWeek * 24 + hour) * 60;
+  }
+}
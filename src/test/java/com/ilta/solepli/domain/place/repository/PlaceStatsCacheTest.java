@@ -0,0 +1,96 @@
+package com.ilta.solepli.domain.place.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.tag.entity.TagType;
+import com.ilta.solepli.global.cache.EntityCacheRegions;
+import com.ilta.solepli.global.config.EntityCacheConfig;
+import com.ilta.solepli.global.config.QueryDslConfig;
+import com.ilta.solepli.support.MySqlContainerConfig;
+
+/**
+ * 리뷰 작성 시 실행되는 통계 증분 쿼리(네이티브 DML)가 장소 2차 캐시를 비우지 않는지 확인한다.
+ *
+ * <p>2차 캐시는 커밋된 데이터만 읽으므로 테스트 트랜잭션 없이 단계마다 트랜잭션을 나눠 실행한다.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MySqlContainerConfig.class, EntityCacheConfig.class, QueryDslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlaceStatsCacheTest {
+
+  @Autowired private PlaceRepository placeRepository;
+  @Autowired private PlaceStatsRepository placeStatsRepository;
+  @Autowired private PlaceTagStatsRepository placeTagStatsRepository;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private CacheRegionStatistics placeRegion;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    placeRegion =
+        entityManagerFactory
+            .unwrap(SessionFactory.class)
+            .getStatistics()
+            .getDomainDataRegionStatistics(EntityCacheRegions.PLACE);
+  }
+
+  @Test
+  void reviewStatsWriteKeepsPlaceRegion() {
+    Long placeId = transactionTemplate.execute(status -> placeRepository.save(place()).getId());
+    transactionTemplate.executeWithoutResult(status -> placeRepository.findById(placeId));
+    assertThat(entityManagerFactory.getCache().contains(Place.class, placeId)).isTrue();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          placeStatsRepository.increment(placeId, 1, 1, 5L);
+          placeTagStatsRepository.increment(placeId, TagType.MOOD.name(), "조용한", 1);
+        });
+
+    assertThat(entityManagerFactory.getCache().contains(Place.class, placeId)).isTrue();
+    long hits = placeRegion.getHitCount();
+    long misses = placeRegion.getMissCount();
+
+    transactionTemplate.executeWithoutResult(status -> placeRepository.findById(placeId));
+
+    assertThat(placeRegion.getHitCount()).isEqualTo(hits + 1);
+    assertThat(placeRegion.getMissCount()).isEqualTo(misses);
+    assertThat(placeStatsRepository.findAverageRatingByPlaceId(placeId)).isEqualTo(5.0);
+  }
+
+  private static Place place() {
+    return Place.builder()
+        .name("혼밥 식당")
+        .address("서울 마포구 양화로 1")
+        .district("마포구")
+        .neighborhood("서교동")
+        .latitude(37.5563)
+        .longitude(126.9236)
+        .googlePlaceId("test-place")
+        .types("restaurant")
+        .build();
+  }
+}
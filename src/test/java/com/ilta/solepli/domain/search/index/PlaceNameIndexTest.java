@@ -0,0 +1,96 @@
+package com.ilta.solepli.domain.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.place.dto.PlaceNameRow;
+import com.ilta.solepli.domain.place.repository.PlaceRepository;
+
+class PlaceNameIndexTest {
+
+  private final PlaceRepository placeRepository = mock(PlaceRepository.class);
+  private final List<PlaceNameRow> rows = new ArrayList<>();
+
+  @Test
+  void syllableBeingTypedMatchesCompletedWord() {
+    place(1L, "카페 솔플", 37.50, 127.00);
+    place(2L, "카레집", 37.50, 127.00);
+
+    assertThat(ids(load().search("캎", null, null, 10))).containsExactly(1L);
+  }
+
+  @Test
+  void matchesWordInTheMiddleOfName() {
+    place(1L, "솔플 북카페", 37.50, 127.00);
+    place(2L, "혼밥 식당", 37.50, 127.00);
+
+    assertThat(ids(load().search("카페", null, null, 10))).containsExactly(1L);
+    assertThat(ids(load().search("밥식", null, null, 10))).containsExactly(2L);
+  }
+
+  @Test
+  void ranksNamesStartingWithKeywordFirst() {
+    place(1L, "솔플 카페", 37.50, 127.00);
+    place(2L, "카페 솔플", 37.50, 127.00);
+
+    assertThat(ids(load().search("카페", null, null, 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void ranksNearerPlacesFirstAmongEqualNameMatches() {
+    place(1L, "카페 멀리", 37.60, 127.10);
+    place(2L, "카페 가까이", 37.50, 127.00);
+
+    assertThat(ids(load().search("카페", 37.50, 127.00, 10))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void returnsAtMostLimitOrderedByIdWhenScoresTie() {
+    for (long id = 1; id <= 5; id++) {
+      place(id, "카페 " + id, 37.50, 127.00);
+    }
+
+    assertThat(ids(load().search("카페", null, null, 2))).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void returnsEmptyForBlankKeywordOrNonPositiveLimit() {
+    place(1L, "카페 솔플", 37.50, 127.00);
+    PlaceNameIndex index = load();
+
+    assertThat(index.search(" ", null, null, 10)).isEmpty();
+    assertThat(index.search("카페", null, null, 0)).isEmpty();
+  }
+
+  @Test
+  void usesFirstCategoryAsRepresentative() {
+    rows.add(new PlaceNameRow(1L, "카페 솔플", "서울", 37.50, 127.00, 10L, "카페"));
+    rows.add(new PlaceNameRow(1L, "카페 솔플", "서울", 37.50, 127.00, 11L, "디저트"));
+
+    List<PlaceSuggestion> result = load().search("카페", null, null, 10);
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).category()).isEqualTo("카페");
+  }
+
+  private void place(long id, String name, double latitude, double longitude) {
+    rows.add(new PlaceNameRow(id, name, "서울", latitude, longitude, id, "카페"));
+  }
+
+  private PlaceNameIndex load() {
+    when(placeRepository.findNameRows(null, null)).thenReturn(rows);
+    PlaceNameIndex index = new PlaceNameIndex(placeRepository);
+    index.load();
+    return index;
+  }
+
+  private static List<Long> ids(List<PlaceSuggestion> suggestions) {
+    return suggestions.stream().map(PlaceSuggestion::id).toList();
+  }
+}
@@ -0,0 +1,47 @@
+package com.ilta.solepli.domain.search.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulJamoTest {
+
+  @Test
+  void decomposesSyllablesIntoJamo() {
+    assertThat(HangulJamo.decompose("카페")).isEqualTo("ㅋㅏㅍㅔ");
+    assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+    assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+  }
+
+  @Test
+  void syllableBeingTypedIsPrefixOfCompletedWord() {
+    // "카페"를 입력하는 도중 "캎"까지 친 상태
+    assertThat(HangulJamo.decompose("카페")).startsWith(HangulJamo.decompose("캎"));
+    assertThat(HangulJamo.decompose("카레")).doesNotStartWith(HangulJamo.decompose("캎"));
+  }
+
+  @Test
+  void compatibilityJamoMatchesSyllableJamo() {
+    assertThat(HangulJamo.decompose("ㅋ")).isEqualTo("ㅋ");
+    assertThat(HangulJamo.decompose("ㄲ")).isEqualTo(HangulJamo.decompose("까").substring(0, 2));
+    assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+  }
+
+  @Test
+  void removesWhitespaceAndLowercasesNonHangul() {
+    assertThat(HangulJamo.decompose("Cafe 솔")).isEqualTo("cafeㅅㅗㄹ");
+  }
+
+  @Test
+  void recordsOffsetOfEachCharacter() {
+    StringBuilder out = new StringBuilder();
+    int[] offsets = new int[4];
+
+    int count = HangulJamo.decompose("북 카페", out, offsets);
+
+    // 공백은 건너뛰고 "북"(3자모), "카"(2자모), "페"(2자모)의 시작 위치를 기록
+    assertThat(count).isEqualTo(3);
+    assertThat(out.toString()).isEqualTo("ㅂㅜㄱㅋㅏㅍㅔ");
+    assertThat(offsets).startsWith(0, 3, 5);
+  }
+}
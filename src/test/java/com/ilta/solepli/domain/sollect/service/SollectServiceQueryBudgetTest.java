@@ -0,0 +1,90 @@
+package com.ilta.solepli.domain.sollect.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.sollect.dto.response.SollectDetailResponse;
+import com.ilta.solepli.domain.sollect.entity.ContentType;
+import com.ilta.solepli.domain.sollect.entity.Sollect;
+import com.ilta.solepli.domain.sollect.entity.SollectContent;
+import com.ilta.solepli.domain.sollect.entity.mapping.SollectPlace;
+import com.ilta.solepli.domain.solmark.sollect.entity.SolmarkSollect;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.support.StatementCountTestSupport;
+
+class SollectServiceQueryBudgetTest extends StatementCountTestSupport {
+
+  private static final int PLACE_COUNT = 3;
+
+  @Autowired private SollectService sollectService;
+
+  @Test
+  void sollectDetail() {
+    User writer = saveUser();
+    User viewer = saveUser();
+    Category category = saveCategory();
+    List<Place> places = new ArrayList<>();
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      Place place = savePlace(category, 37.5563 + i * 0.001, 126.9236, true);
+      saveReviews(place, writer, 2);
+      places.add(place);
+    }
+    Sollect sollect = saveSollect(writer, places);
+    persist(
+        SolmarkSollect.builder().user(writer).sollect(sollect).build(),
+        SolmarkSollect.builder().user(viewer).sollect(sollect).build());
+    saveSolmarkCollection(viewer, places.subList(0, 2));
+
+    Counted<SollectDetailResponse> counted =
+        countStatements(() -> sollectService.getSollectDetail(sollect.getId(), viewer));
+
+    // 쏠렉트(작성자, 본문) 1 + 장소 1 + 저장 수/태그/추천 비율 3 + 쏠마크 장소 ID 1
+    assertThat(counted.statements()).isEqualTo(6);
+    SollectDetailResponse response = counted.result();
+    assertThat(response.contents()).hasSize(2);
+    assertThat(response.markedCount()).isEqualTo(2);
+    assertThat(response.placeSummaries()).hasSize(PLACE_COUNT);
+    assertThat(response.placeSummaries())
+        .extracting(SollectDetailResponse.PlaceSummary::isMarked)
+        .containsExactly(true, true, false);
+    assertThat(response.placeSummaries())
+        .allSatisfy(summary -> assertThat(summary.tags()).hasSize(2));
+  }
+
+  private Sollect saveSollect(User writer, List<Place> places) {
+    Sollect sollect = Sollect.builder().title("혼밥 코스").user(writer).build();
+    persist(
+        sollect,
+        SollectContent.builder()
+            .seq(0L)
+            .type(ContentType.IMAGE)
+            .imageUrl("https://img/sollect-0.jpg")
+            .isThumbnail(true)
+            .sollect(sollect)
+            .build(),
+        SollectContent.builder()
+            .seq(1L)
+            .type(ContentType.TEXT)
+            .text("첫 번째 장소")
+            .sollect(sollect)
+            .build(),
+        SollectContent.builder()
+            .seq(2L)
+            .type(ContentType.IMAGE)
+            .imageUrl("https://img/sollect-2.jpg")
+            .sollect(sollect)
+            .build());
+    for (int i = 0; i < places.size(); i++) {
+      persist(SollectPlace.builder().sollect(sollect).place(places.get(i)).seq(i).build());
+    }
+    return sollect;
+  }
+}
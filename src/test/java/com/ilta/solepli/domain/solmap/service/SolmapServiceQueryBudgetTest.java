@@ -0,0 +1,254 @@
+package com.ilta.solepli.domain.solmap.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ValueOperations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.index.OpeningHoursIndex;
+import com.ilta.solepli.domain.solmap.dto.MarkerResponse;
+import com.ilta.solepli.domain.solmap.dto.PlaceDetailSearchResponse;
+import com.ilta.solepli.domain.solmap.dto.PlacePreviewDetail;
+import com.ilta.solepli.domain.solmap.dto.PlaceSearchPreviewResponse;
+import com.ilta.solepli.domain.solmap.dto.ReviewPageResponse;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.domain.user.util.CustomUserDetails;
+import com.ilta.solepli.support.StatementCountTestSupport;
+
+class SolmapServiceQueryBudgetTest extends StatementCountTestSupport {
+
+  // 서교동 부근에 영업 중인 장소 PLACE_COUNT개
+  private static final double LAT = 37.5563;
+  private static final double LNG = 126.9236;
+  private static final int PLACE_COUNT = 6;
+  private static final int REVIEWS_PER_PLACE = 3;
+
+  // 영업 중 필터 최대 조회 횟수 확인용: 가까운 순으로 영업 종료 장소 CLOSED_COUNT개, 가장 먼 곳에 영업 중 장소 1개
+  private static final double CLOSED_AREA_LAT = 35.1587;
+  private static final double CLOSED_AREA_LNG = 129.1604;
+  private static final int CLOSED_COUNT = 30;
+
+  @Autowired private SolmapService solmapService;
+  @Autowired private PlaceDetailCacheService placeDetailCacheService;
+  @Autowired private OpeningHoursIndex openingHoursIndex;
+
+  private User user;
+  private Category category;
+  private List<Place> places;
+
+  @BeforeEach
+  void setUp() {
+    when(referenceDataCache.getCategoryNames()).thenReturn(List.of(CATEGORY));
+    when(referenceDataCache.getDistricts()).thenReturn(List.of(DISTRICT));
+    when(referenceDataCache.getNeighborhoods()).thenReturn(List.of(NEIGHBORHOOD));
+
+    user = saveUser();
+    category = saveCategory();
+    places = new ArrayList<>();
+    for (int i = 0; i < PLACE_COUNT; i++) {
+      Place place = savePlace(category, LAT + i * 0.0005, LNG, true);
+      saveReviews(place, user, REVIEWS_PER_PLACE);
+      places.add(place);
+    }
+    saveSolmarkCollection(user, places.subList(0, 2));
+    openingHoursIndex.load();
+  }
+
+  @Test
+  void markersByViewportBeforeSpatialIndexLoads() {
+    Counted<List<MarkerResponse>> counted =
+        countStatements(
+            () ->
+                solmapService.getMarkersByViewport(
+                    LAT - 0.01, LNG - 0.01, LAT + 0.01, LNG + 0.01, null, loggedIn()));
+
+    // 장소(카테고리 fetch join) 1 + 쏠마크 장소 ID 1
+    assertThat(counted.statements()).isEqualTo(2);
+    assertThat(counted.result()).hasSize(PLACE_COUNT);
+    assertThat(counted.result()).filteredOn(MarkerResponse::isMarked).hasSize(2);
+  }
+
+  @Test
+  void placesPreview() {
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(
+            () ->
+                solmapService.getPlacesPreview(
+                    LAT - 0.01,
+                    LNG - 0.01,
+                    LAT + 0.01,
+                    LNG + 0.01,
+                    LAT,
+                    LNG,
+                    CATEGORY,
+                    null,
+                    null,
+                    3,
+                    false));
+
+    // 장소 ID 1 + 장소 1 + 태그/썸네일/추천 비율 3
+    assertThat(counted.statements()).isEqualTo(5);
+    assertPreviewPage(counted.result(), 3);
+  }
+
+  @Test
+  void placesByRegionPreview() {
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(
+            () ->
+                solmapService.getPlacesByRegionPreview(
+                    NEIGHBORHOOD, LAT, LNG, null, null, null, 3, false));
+
+    assertThat(counted.statements()).isEqualTo(5);
+    assertPreviewPage(counted.result(), 3);
+  }
+
+  @Test
+  void placesPreviewNearby() {
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(() -> solmapService.getPlacesPreviewNearby(LAT, LNG, null, null, 3, false));
+
+    // 장소 1 + 태그/썸네일/추천 비율 3
+    assertThat(counted.statements()).isEqualTo(4);
+    assertPreviewPage(counted.result(), 3);
+  }
+
+  @Test
+  void openNowPreviewStopsAfterMaxRounds() {
+    Place open = saveMostlyClosedArea();
+
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(
+            () ->
+                solmapService.getPlacesPreview(
+                    CLOSED_AREA_LAT - 0.01,
+                    CLOSED_AREA_LNG - 0.01,
+                    CLOSED_AREA_LAT + 0.01,
+                    CLOSED_AREA_LNG + 0.01,
+                    CLOSED_AREA_LAT,
+                    CLOSED_AREA_LNG,
+                    null,
+                    null,
+                    null,
+                    1,
+                    true));
+
+    // 조회 3회(장소 ID + 장소) 6 + 태그/썸네일/추천 비율 3
+    assertThat(counted.statements()).isEqualTo(9);
+    assertThat(counted.result().places())
+        .extracting(PlacePreviewDetail::id)
+        .containsExactly(open.getId());
+  }
+
+  @Test
+  void openNowNearbyStopsAfterMaxRounds() {
+    Place open = saveMostlyClosedArea();
+
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(
+            () ->
+                solmapService.getPlacesPreviewNearby(
+                    CLOSED_AREA_LAT, CLOSED_AREA_LNG, null, null, 1, true));
+
+    // 조회 3회 + 태그/썸네일/추천 비율 3
+    assertThat(counted.statements()).isEqualTo(6);
+    assertThat(counted.result().places())
+        .extracting(PlacePreviewDetail::id)
+        .containsExactly(open.getId());
+  }
+
+  @Test
+  void placePreviewByRelatedSearch() {
+    List<Long> ids = places.stream().map(Place::getId).toList();
+
+    Counted<PlaceSearchPreviewResponse> counted =
+        countStatements(() -> solmapService.getPlacePreviewByRelatedSearch(ids, null, 3, false));
+
+    // 장소(카테고리 fetch join) 1 + 태그/썸네일/추천 비율 3
+    assertThat(counted.statements()).isEqualTo(4);
+    assertThat(counted.result().places()).hasSize(3);
+    assertThat(counted.result().nextCursor()).isEqualTo(ids.get(2));
+  }
+
+  @Test
+  void placeDetail() {
+    Long placeId = places.get(0).getId();
+
+    Counted<PlaceDetailSearchResponse> counted =
+        countStatements(() -> solmapService.getPlaceDetail(placeId));
+
+    // 장소 1 + 영업 시간 1 + 태그 2 + 추천 비율 1 + 썸네일 1 + 리뷰/이미지/태그 3
+    assertThat(counted.statements()).isEqualTo(9);
+    assertPlaceDetail(counted.result());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void cachedPlaceDetailOnMiss() {
+    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    Long placeId = places.get(0).getId();
+
+    Counted<PlaceDetailSearchResponse> counted =
+        countStatements(() -> placeDetailCacheService.getPlaceDetail(placeId));
+
+    assertThat(counted.statements()).isEqualTo(9);
+    assertPlaceDetail(counted.result());
+  }
+
+  @Test
+  void reviewDetails() {
+    Long placeId = places.get(0).getId();
+
+    Counted<ReviewPageResponse> counted =
+        countStatements(() -> solmapService.getReviewDetails(placeId, null, 2));
+
+    // 리뷰 1 + 이미지 1 + 태그 1
+    assertThat(counted.statements()).isEqualTo(3);
+    assertThat(counted.result().reviews()).hasSize(2);
+    assertThat(counted.result().reviews().get(0).photoUrls()).hasSize(2);
+    assertThat(counted.result().nextCursor()).isNotNull();
+  }
+
+  private CustomUserDetails loggedIn() {
+    return new CustomUserDetails(user);
+  }
+
+  private Place saveMostlyClosedArea() {
+    for (int i = 0; i < CLOSED_COUNT; i++) {
+      savePlace(category, CLOSED_AREA_LAT + i * 0.0001, CLOSED_AREA_LNG, false);
+    }
+    Place open = savePlace(category, CLOSED_AREA_LAT + 0.005, CLOSED_AREA_LNG, true);
+    openingHoursIndex.load();
+    return open;
+  }
+
+  private static void assertPreviewPage(PlaceSearchPreviewResponse response, int limit) {
+    assertThat(response.places()).hasSize(limit);
+    assertThat(response.places())
+        .allSatisfy(
+            place -> {
+              assertThat(place.tags()).containsExactlyInAnyOrder("조용한", "1인석");
+              assertThat(place.thumbnailUrls()).hasSize(3);
+              assertThat(place.isSoloRecommended()).isEqualTo(100);
+              assertThat(place.isOpen()).isTrue();
+            });
+    assertThat(response.nextCursor()).isNotNull();
+  }
+
+  private static void assertPlaceDetail(PlaceDetailSearchResponse response) {
+    assertThat(response.place().thumbnailUrl()).hasSize(REVIEWS_PER_PLACE);
+    assertThat(response.place().openingHours()).hasSize(7);
+    assertThat(response.reviews()).hasSize(REVIEWS_PER_PLACE);
+  }
+}
@@ -0,0 +1,77 @@
+package com.ilta.solepli.domain.solmark.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.solmark.place.dto.response.CollectionResponse;
+import com.ilta.solepli.domain.solmark.place.dto.response.SolmarkPlaceDto;
+import com.ilta.solepli.domain.solmark.place.dto.response.SolmarkPlacesResponse;
+import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlaceCollection;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.domain.user.util.CustomUserDetails;
+import com.ilta.solepli.support.StatementCountTestSupport;
+
+class SolmarkPlaceServiceQueryBudgetTest extends StatementCountTestSupport {
+
+  private static final int COLLECTION_COUNT = 3;
+  private static final int PLACES_PER_COLLECTION = 3;
+
+  @Autowired private SolmarkPlaceService solmarkPlaceService;
+
+  private CustomUserDetails userDetails;
+  private List<SolmarkPlaceCollection> collections;
+
+  @BeforeEach
+  void setUp() {
+    User user = saveUser();
+    Category category = saveCategory();
+    collections = new ArrayList<>();
+    for (int i = 0; i < COLLECTION_COUNT; i++) {
+      List<Place> places = new ArrayList<>();
+      for (int j = 0; j < PLACES_PER_COLLECTION; j++) {
+        Place place = savePlace(category, 37.5563 + i * 0.001, 126.9236 + j * 0.001, true);
+        saveReviews(place, user, 2);
+        places.add(place);
+      }
+      collections.add(saveSolmarkCollection(user, places));
+    }
+    userDetails = new CustomUserDetails(user);
+  }
+
+  @Test
+  void collections() {
+    Counted<List<CollectionResponse>> counted =
+        countStatements(() -> solmarkPlaceService.getCollections(userDetails));
+
+    // 저장 리스트(장소 fetch join) 1
+    assertThat(counted.statements()).isEqualTo(1);
+    assertThat(counted.result())
+        .hasSize(COLLECTION_COUNT)
+        .allSatisfy(
+            collection -> assertThat(collection.placeCount()).isEqualTo(PLACES_PER_COLLECTION));
+  }
+
+  @Test
+  void solmarkPlaces() {
+    Long collectionId = collections.get(0).getId();
+
+    Counted<SolmarkPlacesResponse> counted =
+        countStatements(() -> solmarkPlaceService.getSolmarkPlaces(userDetails, collectionId));
+
+    // 쏠마크 장소(장소 fetch join) 1 + 태그 1 + 추천 비율 1
+    assertThat(counted.statements()).isEqualTo(3);
+    assertThat(counted.result().placeCount()).isEqualTo(PLACES_PER_COLLECTION);
+    assertThat(counted.result().places())
+        .extracting(SolmarkPlaceDto::recommendationPercent)
+        .containsOnly(100);
+  }
+}
@@ -0,0 +1,51 @@
+package com.ilta.solepli.domain.solroute.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.solroute.dto.response.PlaceSummaryResponse;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.support.StatementCountTestSupport;
+
+class SolrouteServiceQueryBudgetTest extends StatementCountTestSupport {
+
+  private static final double LAT = 37.5563;
+  private static final double LNG = 126.9236;
+
+  @Autowired private SolrouteService solrouteService;
+
+  @Test
+  void nearbyPopularPlace() {
+    User user = saveUser();
+    Category category = saveCategory();
+    Place base = savePlace(category, LAT, LNG, true);
+    // 리뷰가 많은 순으로 상위 2곳만 요약됨
+    Place first = savePlace(category, LAT + 0.001, LNG, true);
+    Place second = savePlace(category, LAT + 0.002, LNG, true);
+    Place third = savePlace(category, LAT + 0.003, LNG, true);
+    saveReviews(base, user, 5);
+    saveReviews(first, user, 4);
+    saveReviews(second, user, 3);
+    saveReviews(third, user, 1);
+    saveSolmarkCollection(user, List.of(second));
+
+    Counted<List<PlaceSummaryResponse>> counted =
+        countStatements(() -> solrouteService.findNearbyPopularPlace(user, base.getId()));
+
+    // 기준 장소 1 + 주변 장소 1 + 쏠마크 장소 ID 1 + 요약 장소별 태그/추천 비율 2 x 2
+    assertThat(counted.statements()).isEqualTo(7);
+    assertThat(counted.result())
+        .extracting(PlaceSummaryResponse::name)
+        .containsExactly(first.getName(), second.getName());
+    assertThat(counted.result())
+        .extracting(PlaceSummaryResponse::isMarked)
+        .containsExactly(false, true);
+  }
+}
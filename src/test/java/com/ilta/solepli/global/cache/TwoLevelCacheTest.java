@@ -0,0 +1,68 @@
+package com.ilta.solepli.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TwoLevelCacheTest {
+
+  private final RedisConnectionFailureException redisDown =
+      new RedisConnectionFailureException("Redis 연결 실패");
+
+  private Cache remote;
+  private List<String> published;
+  private TwoLevelCache cache;
+
+  @BeforeEach
+  void setUp() {
+    remote = mock(Cache.class);
+    published = new ArrayList<>();
+    cache =
+        new TwoLevelCache(
+            "test",
+            Caffeine.newBuilder().build(),
+            remote,
+            published::add,
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  void loadsFromSourceWhenRemoteLookupFails() {
+    when(remote.get(any())).thenThrow(redisDown);
+    doThrow(redisDown).when(remote).put(any(), any());
+
+    assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+    // L1에는 채워졌으므로 다시 원본을 조회하지 않음
+    assertThat(cache.get("key", () -> "reloaded")).isEqualTo("loaded");
+  }
+
+  @Test
+  void updatesLocalAndPublishesWhenRemoteWriteFails() {
+    doThrow(redisDown).when(remote).put(any(), any());
+    doThrow(redisDown).when(remote).evict(any());
+    doThrow(redisDown).when(remote).clear();
+
+    cache.put("key", "value");
+    assertThat(cache.get("key", () -> "loaded")).isEqualTo("value");
+
+    cache.evict("key");
+    when(remote.get(any())).thenReturn(null);
+    assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+
+    cache.clear();
+    assertThat(published).containsExactly("key", "key", null);
+  }
+}
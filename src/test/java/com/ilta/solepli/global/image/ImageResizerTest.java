@@ -0,0 +1,136 @@
+package com.ilta.solepli.global.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ImageResizerTest {
+
+  private static final int WIDTH = 80;
+  private static final int HEIGHT = 40;
+
+  private final ImageResizer imageResizer = new ImageResizer();
+
+  @Test
+  void keepsSizeWithoutOrientation() throws IOException {
+    BufferedImage resized = resize(jpeg(), 200);
+
+    assertThat(resized.getWidth()).isEqualTo(WIDTH);
+    assertThat(resized.getHeight()).isEqualTo(HEIGHT);
+    assertThat(isRed(resized.getRGB(5, HEIGHT / 2))).isTrue();
+    assertThat(isBlue(resized.getRGB(WIDTH - 5, HEIGHT / 2))).isTrue();
+  }
+
+  @Test
+  void rotatesClockwiseForOrientation6() throws IOException {
+    BufferedImage resized = resize(withOrientation(jpeg(), 6), 200);
+
+    // 가로 80 x 세로 40 사진을 시계 방향으로 돌리면 왼쪽(빨강)이 위로 감
+    assertThat(resized.getWidth()).isEqualTo(HEIGHT);
+    assertThat(resized.getHeight()).isEqualTo(WIDTH);
+    assertThat(isRed(resized.getRGB(HEIGHT / 2, 5))).isTrue();
+    assertThat(isBlue(resized.getRGB(HEIGHT / 2, WIDTH - 5))).isTrue();
+  }
+
+  @Test
+  void rotatesCounterClockwiseForOrientation8() throws IOException {
+    BufferedImage resized = resize(withOrientation(jpeg(), 8), 200);
+
+    assertThat(resized.getWidth()).isEqualTo(HEIGHT);
+    assertThat(resized.getHeight()).isEqualTo(WIDTH);
+    assertThat(isBlue(resized.getRGB(HEIGHT / 2, 5))).isTrue();
+    assertThat(isRed(resized.getRGB(HEIGHT / 2, WIDTH - 5))).isTrue();
+  }
+
+  @Test
+  void scalesRotatedImageByDisplayedWidth() throws IOException {
+    BufferedImage resized = resize(withOrientation(jpeg(), 6), 20);
+
+    assertThat(resized.getWidth()).isEqualTo(20);
+    assertThat(resized.getHeight()).isEqualTo(40);
+    assertThat(isRed(resized.getRGB(10, 3))).isTrue();
+  }
+
+  @Test
+  void readsOrientationFromLittleEndianExif() throws IOException {
+    byte[] image = withOrientation(jpeg(), 3, true);
+
+    assertThat(ExifOrientation.read(new ByteArrayInputStream(image))).isEqualTo(3);
+  }
+
+  @Test
+  void treatsNonJpegAsNormal() throws IOException {
+    byte[] png = "\u0089PNG\r\n".getBytes();
+
+    assertThat(ExifOrientation.read(new ByteArrayInputStream(png)))
+        .isEqualTo(ExifOrientation.NORMAL);
+  }
+
+  private BufferedImage resize(byte[] image, int targetWidth) throws IOException {
+    MockMultipartFile file = new MockMultipartFile("file", "photo.jpg", "image/jpeg", image);
+    byte[] resized = imageResizer.resize(file, targetWidth).orElseThrow();
+    return ImageIO.read(new ByteArrayInputStream(resized));
+  }
+
+  // 왼쪽 절반은 빨강, 오른쪽 절반은 파랑인 가로 사진
+  private static byte[] jpeg() throws IOException {
+    BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, WIDTH / 2, HEIGHT);
+    g.setColor(Color.BLUE);
+    g.fillRect(WIDTH / 2, 0, WIDTH / 2, HEIGHT);
+    g.dispose();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpeg", out);
+    return out.toByteArray();
+  }
+
+  private static byte[] withOrientation(byte[] jpeg, int orientation) {
+    return withOrientation(jpeg, orientation, false);
+  }
+
+  // SOI 바로 뒤에 Orientation 태그 하나만 담은 EXIF(APP1) 세그먼트를 끼워 넣음
+  private static byte[] withOrientation(byte[] jpeg, int orientation, boolean littleEndian) {
+    ByteBuffer tiff = ByteBuffer.allocate(26);
+    tiff.order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    tiff.put(littleEndian ? (byte) 'I' : (byte) 'M').put(littleEndian ? (byte) 'I' : (byte) 'M');
+    tiff.putShort((short) 42).putInt(8);
+    tiff.putShort((short) 1);
+    tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1);
+    tiff.putShort((short) orientation).putShort((short) 0);
+    tiff.putInt(0);
+
+    byte[] exif = {'E', 'x', 'i', 'f', 0, 0};
+    int length = 2 + exif.length + tiff.capacity();
+    ByteBuffer out = ByteBuffer.allocate(jpeg.length + 2 + length);
+    out.put(jpeg, 0, 2);
+    out.put((byte) 0xFF).put((byte) 0xE1).putShort((short) length);
+    out.put(exif).put(tiff.array());
+    out.put(jpeg, 2, jpeg.length - 2);
+    return out.array();
+  }
+
+  private static boolean isRed(int rgb) {
+    Color color = new Color(rgb);
+    return color.getRed() > 200 && color.getBlue() < 80;
+  }
+
+  private static boolean isBlue(int rgb) {
+    Color color = new Color(rgb);
+    return color.getBlue() > 200 && color.getRed() < 80;
+  }
+}
@@ -0,0 +1,137 @@
+package com.ilta.solepli.global.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class LogRingBufferTest {
+
+  @Test
+  void pollReturnsNullWhenEmpty() {
+    LogRingBuffer<String> buffer = new LogRingBuffer<>(4);
+
+    assertThat(buffer.poll()).isNull();
+  }
+
+  @Test
+  void roundsCapacityUpToPowerOfTwo() {
+    LogRingBuffer<Integer> buffer = new LogRingBuffer<>(5);
+
+    for (int i = 0; i < 8; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+    }
+    assertThat(buffer.offer(8)).isFalse();
+  }
+
+  @Test
+  void keepsFifoOrderAcrossWrapAround() {
+    LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+    List<Integer> polled = new ArrayList<>();
+
+    // 용량(4)보다 많은 값을 3개씩 넣고 빼며 슬롯 인덱스가 여러 번 한 바퀴 돌게 함
+    int next = 0;
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 3; i++) {
+        assertThat(buffer.offer(next++)).isTrue();
+      }
+      for (int i = 0; i < 3; i++) {
+        polled.add(buffer.poll());
+      }
+    }
+
+    assertThat(polled).hasSize(15);
+    for (int i = 0; i < polled.size(); i++) {
+      assertThat(polled.get(i)).isEqualTo(i);
+    }
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void dropsAndCountsWhenFull() {
+    LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+    }
+    assertThat(buffer.offer(4)).isFalse();
+    assertThat(buffer.offer(5)).isFalse();
+    assertThat(buffer.getDroppedCount()).isEqualTo(2);
+
+    // 버려진 값은 남지 않고 먼저 들어간 값만 순서대로 꺼내짐
+    assertThat(buffer.poll()).isEqualTo(0);
+    assertThat(buffer.offer(6)).isTrue();
+    assertThat(buffer.poll()).isEqualTo(1);
+    assertThat(buffer.poll()).isEqualTo(2);
+    assertThat(buffer.poll()).isEqualTo(3);
+    assertThat(buffer.poll()).isEqualTo(6);
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.getDroppedCount()).isEqualTo(2);
+  }
+
+  @Test
+  void preservesPerProducerOrderWithMultipleProducers() throws InterruptedException {
+    int producerCount = 4;
+    int perProducer = 50_000;
+    LogRingBuffer<Entry> buffer = new LogRingBuffer<>(64);
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Thread> producers = new ArrayList<>();
+    for (int p = 0; p < producerCount; p++) {
+      int producer = p;
+      Thread thread =
+          new Thread(
+              () -> {
+                awaitQuietly(start);
+                for (int seq = 0; seq < perProducer; seq++) {
+                  buffer.offer(new Entry(producer, seq));
+                }
+              });
+      thread.start();
+      producers.add(thread);
+    }
+
+    // 현재 스레드가 유일한 소비자
+    int[] lastSeq = new int[producerCount];
+    Arrays.fill(lastSeq, -1);
+    long received = 0;
+    start.countDown();
+    while (producers.stream().anyMatch(Thread::isAlive)) {
+      received += drain(buffer, lastSeq);
+    }
+    for (Thread thread : producers) {
+      thread.join();
+    }
+    received += drain(buffer, lastSeq);
+
+    assertThat(received + buffer.getDroppedCount()).isEqualTo((long) producerCount * perProducer);
+    assertThat(buffer.poll()).isNull();
+  }
+
+  // 비어있을 때까지 꺼내며 생산자별 순번이 증가하는지 확인하고 꺼낸 개수를 반환
+  private static int drain(LogRingBuffer<Entry> buffer, int[] lastSeq) {
+    int count = 0;
+    Entry entry;
+    while ((entry = buffer.poll()) != null) {
+      assertThat(entry.seq()).isGreaterThan(lastSeq[entry.producer()]);
+      lastSeq[entry.producer()] = entry.seq();
+      count++;
+    }
+    return count;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Entry(int producer, int seq) {}
+}
@@ -0,0 +1,134 @@
+package com.ilta.solepli.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.global.metrics.QueryBudgetAspect.Mode;
+
+class QueryBudgetAspectTest {
+
+  private static final String EXCEEDED_COUNTER = "query.budget.exceeded";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @AfterEach
+  void tearDown() {
+    StatementCounter.end();
+  }
+
+  @Test
+  void passesWithinBudget() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.FAIL);
+
+    assertThat(fakeRepository.query(2)).isEqualTo(2);
+    assertThat(meterRegistry.find(EXCEEDED_COUNTER).counter()).isNull();
+  }
+
+  @Test
+  void failModeThrowsWhenBudgetExceeded() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.FAIL);
+
+    assertThatThrownBy(() -> fakeRepository.query(3))
+        .isInstanceOf(QueryBudgetExceededException.class)
+        .hasMessageContaining("FakeRepository.query")
+        .hasMessageContaining("3개")
+        .hasMessageContaining("허용 2개");
+    assertThat(meterRegistry.get(EXCEEDED_COUNTER).tag("method", "query").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void warnModeReturnsResultAndRecordsMetric() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.WARN);
+
+    assertThat(fakeRepository.query(5)).isEqualTo(5);
+    assertThat(meterRegistry.get(EXCEEDED_COUNTER).tag("class", "FakeRepository").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void offModeSkipsCheck() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.OFF);
+
+    assertThat(fakeRepository.query(10)).isEqualTo(10);
+    assertThat(meterRegistry.find(EXCEEDED_COUNTER).counter()).isNull();
+  }
+
+  @Test
+  void countsOnlyStatementsInsideMethod() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.FAIL);
+    StatementCounter.begin();
+    for (int i = 0; i < 5; i++) {
+      FakeRepository.INSPECTOR.inspect("select 1");
+    }
+
+    assertThat(fakeRepository.query(2)).isEqualTo(2);
+    // 요청 단위 카운터에는 계속 합산됨
+    assertThat(StatementCounter.current()).isEqualTo(7);
+  }
+
+  @Test
+  void closesCounterOpenedByAspect() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.FAIL);
+
+    fakeRepository.query(1);
+
+    assertThat(StatementCounter.isActive()).isFalse();
+  }
+
+  @Test
+  void nestedMethodsAreCheckedAgainstTheirOwnBudget() {
+    FakeRepository fakeRepository = proxy(new FakeRepository(), Mode.FAIL);
+    FakeService fakeService = proxy(new FakeService(fakeRepository), Mode.FAIL);
+
+    // 내부 호출(2개)은 자신의 상한(2) 이내, 외부 호출(2 + 2 = 4개)은 상한(3) 초과
+    assertThatThrownBy(() -> fakeService.load(2))
+        .isInstanceOf(QueryBudgetExceededException.class)
+        .hasMessageContaining("FakeService.load");
+    assertThat(meterRegistry.find(EXCEEDED_COUNTER).tag("method", "query").counter()).isNull();
+  }
+
+  private <T> T proxy(T target, Mode mode) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new QueryBudgetAspect(meterRegistry, mode));
+    return factory.getProxy();
+  }
+
+  static class FakeRepository {
+
+    static final CountingStatementInspector INSPECTOR = new CountingStatementInspector();
+
+    @QueryBudget(2)
+    public int query(int statements) {
+      for (int i = 0; i < statements; i++) {
+        INSPECTOR.inspect("select " + i);
+      }
+      return statements;
+    }
+  }
+
+  static class FakeService {
+
+    private final FakeRepository fakeRepository;
+
+    FakeService(FakeRepository fakeRepository) {
+      this.fakeRepository = fakeRepository;
+    }
+
+    @QueryBudget(3)
+    public int load(int ownStatements) {
+      int statements = fakeRepository.query(2);
+      for (int i = 0; i < ownStatements; i++) {
+        FakeRepository.INSPECTOR.inspect("select " + i);
+      }
+      return statements + ownStatements;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.ilta.solepli.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StatementCounterTest {
+
+  private final CountingStatementInspector inspector = new CountingStatementInspector();
+
+  @AfterEach
+  void tearDown() {
+    StatementCounter.end();
+  }
+
+  @Test
+  void ignoresStatementsWhenNotActive() {
+    inspector.inspect("select 1");
+
+    assertThat(StatementCounter.isActive()).isFalse();
+    assertThat(StatementCounter.current()).isZero();
+    assertThat(StatementCounter.end()).isZero();
+  }
+
+  @Test
+  void countsStatementsBetweenBeginAndEnd() {
+    StatementCounter.begin();
+    inspector.inspect("select 1");
+    inspector.inspect("select 2");
+
+    assertThat(StatementCounter.current()).isEqualTo(2);
+    assertThat(StatementCounter.end()).isEqualTo(2);
+    assertThat(StatementCounter.isActive()).isFalse();
+  }
+
+  @Test
+  void inspectorKeepsSqlUnchanged() {
+    assertThat(inspector.inspect("select * from places")).isEqualTo("select * from places");
+  }
+
+  @Test
+  void propagatedTaskAddsToCallerCounter() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      StatementCounter.begin();
+      inspector.inspect("select 1");
+
+      Supplier<Integer> task =
+          StatementCounter.propagate(
+              () -> {
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                return StatementCounter.current();
+              });
+
+      assertThat(CompletableFuture.supplyAsync(task, executor).get()).isEqualTo(3);
+      assertThat(StatementCounter.current()).isEqualTo(3);
+
+      // 작업이 끝나면 작업 스레드의 카운터는 정리됨
+      assertThat(CompletableFuture.supplyAsync(StatementCounter::isActive, executor).get())
+          .isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void propagateWithoutActiveCounterReturnsSameTask() {
+    Supplier<Integer> task = () -> 1;
+
+    assertThat(StatementCounter.propagate(task)).isSameAs(task);
+  }
+}
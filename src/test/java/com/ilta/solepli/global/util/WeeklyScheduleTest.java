@@ -0,0 +1,114 @@
+package com.ilta.solepli.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.ilta.solepli.global.dto.OpenStatus;
+
+class WeeklyScheduleTest {
+
+  private static final int SUN = 0;
+  private static final int MON = 1;
+  private static final int TUE = 2;
+  private static final int WED = 3;
+  private static final int FRI = 5;
+  private static final int SAT = 6;
+
+  @Test
+  void minuteOfWeekStartsOnSundayInSeoul() {
+    ZonedDateTime sunday = ZonedDateTime.of(2024, 1, 7, 0, 0, 0, 0, WeeklySchedule.ZONE);
+    ZonedDateTime saturday = ZonedDateTime.of(2024, 1, 13, 23, 59, 0, 0, WeeklySchedule.ZONE);
+
+    assertThat(WeeklySchedule.minuteOfWeek(sunday)).isZero();
+    assertThat(WeeklySchedule.minuteOfWeek(saturday)).isEqualTo(minute(SAT, 23, 59));
+  }
+
+  @Test
+  void sameDayHours() {
+    WeeklySchedule schedule = WeeklySchedule.builder().add(MON, time(10, 0), time(22, 0)).build();
+
+    assertThat(schedule.isOpenAt(minute(MON, 9, 59))).isFalse();
+    assertThat(schedule.statusAt(minute(MON, 10, 0))).isEqualTo(open(22, 0));
+    assertThat(schedule.isOpenAt(minute(MON, 22, 0))).isFalse();
+    assertThat(schedule.isOpenAt(minute(TUE, 12, 0))).isFalse();
+  }
+
+  @Test
+  void overnightHoursContinueIntoNextDay() {
+    WeeklySchedule schedule = WeeklySchedule.builder().add(FRI, time(18, 0), time(2, 0)).build();
+
+    assertThat(schedule.statusAt(minute(FRI, 23, 0))).isEqualTo(open(2, 0));
+    assertThat(schedule.statusAt(minute(SAT, 1, 59))).isEqualTo(open(2, 0));
+    assertThat(schedule.isOpenAt(minute(SAT, 2, 0))).isFalse();
+    assertThat(schedule.isOpenAt(minute(FRI, 1, 0))).isFalse();
+  }
+
+  @Test
+  void closingAt2359IsOpenUntilMidnightAndReportedAs2359() {
+    WeeklySchedule schedule = WeeklySchedule.builder().add(MON, time(10, 0), time(23, 59)).build();
+
+    assertThat(schedule.statusAt(minute(MON, 23, 58))).isEqualTo(open(23, 59));
+    assertThat(schedule.statusAt(minute(MON, 23, 59))).isEqualTo(open(23, 59));
+    assertThat(schedule.isOpenAt(minute(TUE, 0, 0))).isFalse();
+  }
+
+  @Test
+  void closingAt2359MergesWithNextDayEarlyHours() {
+    WeeklySchedule schedule =
+        WeeklySchedule.builder()
+            .add(MON, time(10, 0), time(23, 59))
+            .add(TUE, time(0, 0), time(2, 0))
+            .build();
+
+    assertThat(schedule.statusAt(minute(MON, 23, 59))).isEqualTo(open(2, 0));
+    assertThat(schedule.statusAt(minute(TUE, 1, 0))).isEqualTo(open(2, 0));
+  }
+
+  @Test
+  void saturdayNightWrapsToSundayMorning() {
+    WeeklySchedule schedule = WeeklySchedule.builder().add(SAT, time(20, 0), time(3, 0)).build();
+
+    assertThat(schedule.statusAt(minute(SAT, 23, 30))).isEqualTo(open(3, 0));
+    assertThat(schedule.statusAt(minute(SUN, 0, 0))).isEqualTo(open(3, 0));
+    assertThat(schedule.statusAt(minute(SUN, 2, 59))).isEqualTo(open(3, 0));
+    assertThat(schedule.isOpenAt(minute(SUN, 3, 0))).isFalse();
+    assertThat(schedule.isOpenAt(minute(SAT, 19, 59))).isFalse();
+  }
+
+  @Test
+  void openAllWeekHasNoClosingTime() {
+    WeeklySchedule.Builder builder = WeeklySchedule.builder();
+    for (int day = SUN; day <= SAT; day++) {
+      builder.add(day, time(0, 0), time(23, 59));
+    }
+    WeeklySchedule schedule = builder.build();
+
+    assertThat(schedule.statusAt(minute(SUN, 0, 0))).isEqualTo(OpenStatus.of(true, null));
+    assertThat(schedule.statusAt(minute(WED, 12, 0))).isEqualTo(OpenStatus.of(true, null));
+    assertThat(schedule.statusAt(minute(SAT, 23, 59))).isEqualTo(OpenStatus.of(true, null));
+  }
+
+  @Test
+  void emptyScheduleIsAlwaysClosed() {
+    WeeklySchedule schedule = WeeklySchedule.builder().build();
+
+    assertThat(schedule).isSameAs(WeeklySchedule.EMPTY);
+    assertThat(schedule.statusAt(minute(MON, 12, 0))).isEqualTo(OpenStatus.of(false, null));
+  }
+
+  private static int minute(int dayOfWeek, int hour, int minute) {
+    return dayOfWeek * 24 * 60 + hour * 60 + minute;
+  }
+
+  private static LocalTime time(int hour, int minute) {
+    return LocalTime.of(hour, minute);
+  }
+
+  private static OpenStatus open(int hour, int minute) {
+    return OpenStatus.of(true, time(hour, minute));
+  }
+}
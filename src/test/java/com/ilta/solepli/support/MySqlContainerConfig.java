@@ -0,0 +1,20 @@
+package com.ilta.solepli.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * JPA 슬라이스 테스트용 MySQL 컨테이너. 네이티브 쿼리(ON DUPLICATE KEY, 공간 함수 등)가 운영과 같은 DB에서 실행되도록 H2 대신 사용한다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlContainerConfig {
+
+  @Bean
+  @ServiceConnection
+  MySQLContainer<?> mySqlContainer() {
+    return new MySQLContainer<>("mysql:8.0");
+  }
+}
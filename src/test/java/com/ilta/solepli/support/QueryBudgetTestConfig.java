@@ -0,0 +1,66 @@
+package com.ilta.solepli.support;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.ilta.solepli.domain.place.index.OpeningHoursIndex;
+import com.ilta.solepli.domain.sollect.service.SollectService;
+import com.ilta.solepli.domain.solmap.service.PlaceDetailCacheService;
+import com.ilta.solepli.domain.solmap.service.SolmapService;
+import com.ilta.solepli.domain.solmark.place.service.SolmarkPlaceService;
+import com.ilta.solepli.domain.solmark.service.SolmarkMembershipService;
+import com.ilta.solepli.domain.solroute.service.SolrouteService;
+import com.ilta.solepli.global.async.QueryFanOutExecutor;
+import com.ilta.solepli.global.async.QueryFanOutProperties;
+import com.ilta.solepli.global.config.MetricsConfig;
+import com.ilta.solepli.global.config.QueryDslConfig;
+import com.ilta.solepli.global.metrics.QueryBudgetAspect;
+
+/**
+ * {@link StatementCountTestSupport}의 빈 구성. JPA 슬라이스에 {@code @QueryBudget}이 붙은 서비스와 문장 수
+ * 집계(StatementInspector), 상한 검사 Aspect, 병렬 조회 실행기를 더한다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+@EnableConfigurationProperties(QueryFanOutProperties.class)
+@Import({
+  MySqlContainerConfig.class,
+  QueryDslConfig.class,
+  MetricsConfig.class,
+  QueryBudgetAspect.class,
+  QueryFanOutExecutor.class,
+  OpeningHoursIndex.class,
+  SolmarkMembershipService.class,
+  SolmapService.class,
+  PlaceDetailCacheService.class,
+  SollectService.class,
+  SolrouteService.class,
+  SolmarkPlaceService.class
+})
+public class QueryBudgetTestConfig {
+
+  @Bean
+  MeterRegistry meterRegistry() {
+    return new SimpleMeterRegistry();
+  }
+
+  // 쏠마크 ID 캐시를 항상 비어있는 상태로 두어 적재 쿼리까지 셈
+  @Bean
+  CacheManager cacheManager() {
+    return new NoOpCacheManager();
+  }
+
+  @Bean
+  ObjectMapper objectMapper() {
+    return new ObjectMapper().findAndRegisterModules();
+  }
+}
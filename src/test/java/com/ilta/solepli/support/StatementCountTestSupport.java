@@ -0,0 +1,239 @@
+package com.ilta.solepli.support;
+
+import java.sql.Statement;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import com.ilta.solepli.domain.category.entity.Category;
+import com.ilta.solepli.domain.place.entity.Place;
+import com.ilta.solepli.domain.place.entity.PlaceHour;
+import com.ilta.solepli.domain.place.entity.PlaceStats;
+import com.ilta.solepli.domain.place.entity.PlaceTagStats;
+import com.ilta.solepli.domain.place.entity.mapping.PlaceCategory;
+import com.ilta.solepli.domain.place.index.PlaceSpatialIndex;
+import com.ilta.solepli.domain.review.entity.Review;
+import com.ilta.solepli.domain.review.entity.mapping.ReviewImage;
+import com.ilta.solepli.domain.review.entity.mapping.ReviewTag;
+import com.ilta.solepli.domain.search.index.PlaceNameIndex;
+import com.ilta.solepli.domain.sollect.service.SollectSearchIndexer;
+import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlace;
+import com.ilta.solepli.domain.solmark.place.entity.SolmarkPlaceCollection;
+import com.ilta.solepli.domain.solmark.sollect.service.PopularSollectService;
+import com.ilta.solepli.domain.solmark.sollect.service.SolmarkSollectService;
+import com.ilta.solepli.domain.tag.entity.TagType;
+import com.ilta.solepli.domain.user.entity.Role;
+import com.ilta.solepli.domain.user.entity.User;
+import com.ilta.solepli.global.cache.ReferenceDataCache;
+import com.ilta.solepli.global.metrics.StatementCounter;
+import com.ilta.solepli.global.service.S3Service;
+
+/**
+ * 서비스 메서드가 실행하는 JDBC 문장 수를 실제 MySQL에서 세는 슬라이스 테스트의 공통 설정.
+ *
+ * <p>{@code @QueryBudget} 검사를 FAIL 모드로 켜므로 상한을 넘으면 호출이 예외로 실패하고, 테스트는 정확한 문장 수를 따로 확인한다. 가장 많은
+ * 쿼리가 나가는 경우를 재도록 엔티티 2차 캐시와 쏠마크 ID 캐시는 끄고, Redis와 메모리 인덱스 등 DB 밖의 협력 객체는 목으로 대체한다. 병렬 조회는
+ * 별도 커넥션에서 실행되어 커밋된 데이터만 보이므로 테스트 트랜잭션 없이 단계마다 트랜잭션을 나눠 적재하고, 테스트가 끝나면 모든 테이블을 비운다.
+ */
+@DataJpaTest(
+    properties = {
+      "query-budget.mode=FAIL",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryBudgetTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class StatementCountTestSupport {
+
+  protected static final String CATEGORY = "식당";
+  protected static final String DISTRICT = "마포구";
+  protected static final String NEIGHBORHOOD = "서교동";
+
+  @MockBean protected ReferenceDataCache referenceDataCache;
+  @MockBean protected PlaceSpatialIndex placeSpatialIndex;
+  @MockBean protected PlaceNameIndex placeNameIndex;
+  @MockBean protected RedisTemplate<String, Object> redisTemplate;
+  @MockBean protected S3Service s3Service;
+  @MockBean protected SolmarkSollectService solmarkSollectService;
+  @MockBean protected PopularSollectService popularSollectService;
+  @MockBean protected SollectSearchIndexer sollectSearchIndexer;
+
+  @PersistenceContext private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate transactionTemplate;
+  private int sequence;
+
+  @BeforeEach
+  void setUpTransaction() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void truncateTables() {
+    List<String> tables =
+        jdbcTemplate.queryForList(
+            "SELECT table_name FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_type = 'BASE TABLE'",
+            String.class);
+
+    // 외래 키 검사는 세션 단위이므로 한 커넥션에서 끄고 비움
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                for (String table : tables) {
+                  statement.execute("TRUNCATE TABLE `" + table + "`");
+                }
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+              }
+              return null;
+            });
+  }
+
+  /** call의 결과와 실행한 JDBC 문장 수. 병렬 조회 작업이 실행한 문장도 포함된다. */
+  protected static <T> Counted<T> countStatements(Supplier<T> call) {
+    StatementCounter.begin();
+    try {
+      T result = call.get();
+      return new Counted<>(result, StatementCounter.current());
+    } finally {
+      StatementCounter.end();
+    }
+  }
+
+  protected record Counted<T>(T result, int statements) {}
+
+  protected void persist(Object... entities) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          for (Object entity : entities) {
+            entityManager.persist(entity);
+          }
+        });
+  }
+
+  protected User saveUser() {
+    User user =
+        User.builder()
+            .loginId("user" + (++sequence))
+            .role(Role.USER)
+            .nickname("혼밥러" + sequence)
+            .build();
+    persist(user);
+    return user;
+  }
+
+  protected Category saveCategory() {
+    Category category = Category.builder().name(CATEGORY).build();
+    persist(category);
+    return category;
+  }
+
+  /** 카테고리가 하나 있는 장소. open이면 매일 종일 영업, 아니면 영업 시간이 없어 항상 영업 종료로 판정된다. */
+  protected Place savePlace(Category category, double latitude, double longitude, boolean open) {
+    Place place =
+        Place.builder()
+            .name("장소" + (++sequence))
+            .address("서울 마포구 양화로 " + sequence)
+            .district(DISTRICT)
+            .neighborhood(NEIGHBORHOOD)
+            .latitude(latitude)
+            .longitude(longitude)
+            .googlePlaceId("place-" + sequence)
+            .types("restaurant")
+            .build();
+    persist(place, PlaceCategory.builder().place(place).category(category).build());
+
+    if (open) {
+      for (int day = 0; day < 7; day++) {
+        persist(
+            PlaceHour.builder()
+                .dayOfWeek(day)
+                .startTime(LocalTime.MIN)
+                .endTime(LocalTime.of(23, 59))
+                .place(place)
+                .build());
+      }
+    }
+    return place;
+  }
+
+  /** 이미지 2장, 태그 2개가 달린 리뷰를 count개 작성하고 리뷰 통계 테이블도 함께 채운다. */
+  protected void saveReviews(Place place, User user, int count) {
+    for (int i = 0; i < count; i++) {
+      Review review =
+          Review.builder()
+              .recommendation(true)
+              .rating(5)
+              .content("혼자 가기 좋아요")
+              .place(place)
+              .user(user)
+              .build();
+      persist(
+          review,
+          ReviewImage.builder()
+              .imageUrl("https://img/review-" + i + "-1.jpg")
+              .thumbnailUrl("https://img/review-" + i + "-1_thumb.jpg")
+              .review(review)
+              .build(),
+          ReviewImage.builder()
+              .imageUrl("https://img/review-" + i + "-2.jpg")
+              .review(review)
+              .build(),
+          ReviewTag.builder().name("조용한").tagType(TagType.MOOD).review(review).build(),
+          ReviewTag.builder().name("1인석").tagType(TagType.SOLO).review(review).build());
+    }
+
+    persist(
+        PlaceStats.builder()
+            .placeId(place.getId())
+            .reviewCount((long) count)
+            .recommendedCount((long) count)
+            .ratingSum(5L * count)
+            .build(),
+        PlaceTagStats.builder()
+            .placeId(place.getId())
+            .tagType(TagType.MOOD)
+            .name("조용한")
+            .tagCount((long) count)
+            .build(),
+        PlaceTagStats.builder()
+            .placeId(place.getId())
+            .tagType(TagType.SOLO)
+            .name("1인석")
+            .tagCount((long) count)
+            .build());
+  }
+
+  /** places를 담은 쏠마크 장소 저장 리스트. */
+  protected SolmarkPlaceCollection saveSolmarkCollection(User user, List<Place> places) {
+    SolmarkPlaceCollection collection =
+        SolmarkPlaceCollection.builder().user(user).name("저장" + (++sequence)).iconId(1).build();
+    persist(collection);
+    for (Place place : places) {
+      persist(SolmarkPlace.builder().solmarkPlaceCollection(collection).place(place).build());
+    }
+    return collection;
+  }
+}